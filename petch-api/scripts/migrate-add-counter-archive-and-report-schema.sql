@@ -0,0 +1,96 @@
+-- Migration: tables, columns and indexes added for holds, the vendor inbox, submission
+-- archiving, report aggregates and dashboard counters
+--
+-- Context:
+--   The prod profile runs with ddl-auto=none, so Hibernate never creates these. They match
+--   what ddl-auto=update creates from the entities in the default profile:
+--     pet_holds                           PetHold
+--     vendor_inbox_counters               VendorInboxCounter
+--     archived_adoption_form_submissions  ArchivedAdoptionFormSubmission
+--     pet_report_aggregates               PetReportAggregate
+--     pet_report_reason_counts            PetReportReasonCount
+--     stats_counters                      StatsCounter
+--   plus adoption_form_submissions.status and vendor_user_id with the inbox keyset indexes,
+--   and user_preferences.weight_vector.
+--
+-- When this is needed:
+--   Run this once against a prod database before deploying a build that uses these tables.
+--   Then run migrate-reports-unique-reporter-pet.sql for the unique report constraint (it has
+--   to remove duplicates first) and, if the old weight tables still exist,
+--   migrate-preference-weights-to-vector.sql. The counter, aggregate and vendor_user_id data
+--   is backfilled by the application at startup.
+--
+-- It is safe to run more than once: every statement skips objects that already exist.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS pet_holds (
+    pet_id bigint NOT NULL PRIMARY KEY,
+    appointment_id bigint NOT NULL,
+    holder_user_id bigint NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    expires_at timestamp(6),
+    CONSTRAINT uk_pet_holds_appointment UNIQUE (appointment_id)
+);
+CREATE INDEX IF NOT EXISTS idx_pet_holds_expires_at ON pet_holds (expires_at);
+
+CREATE TABLE IF NOT EXISTS vendor_inbox_counters (
+    vendor_user_id bigint NOT NULL PRIMARY KEY,
+    unread_count bigint NOT NULL,
+    updated_at timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS archived_adoption_form_submissions (
+    id bigint NOT NULL PRIMARY KEY,
+    pet_id bigint NOT NULL,
+    adopter_user_id bigint NOT NULL,
+    pdf_data oid,
+    file_name varchar(255) NOT NULL,
+    content_type varchar(255) NOT NULL,
+    created_at timestamp(6) NOT NULL,
+    archived_at timestamp(6) NOT NULL,
+    reason varchar(50) NOT NULL,
+    export_path varchar(255),
+    exported_at timestamp(6)
+);
+CREATE INDEX IF NOT EXISTS idx_archived_submission_exported_at
+    ON archived_adoption_form_submissions (exported_at);
+
+CREATE TABLE IF NOT EXISTS pet_report_aggregates (
+    pet_id bigint NOT NULL PRIMARY KEY,
+    report_count bigint NOT NULL,
+    pending_count bigint NOT NULL,
+    last_reported_at timestamp(6),
+    auto_held_at timestamp(6)
+);
+CREATE INDEX IF NOT EXISTS idx_report_aggregates_queue
+    ON pet_report_aggregates (pending_count DESC, report_count DESC, last_reported_at DESC);
+
+CREATE TABLE IF NOT EXISTS pet_report_reason_counts (
+    pet_id bigint NOT NULL,
+    reason varchar(50) NOT NULL CHECK (reason IN ('INAPPROPRIATE_CONTENT', 'MALICIOUS_LINK',
+            'FAKE_LISTING', 'SCAM_OR_FRAUD', 'ANIMAL_ABUSE', 'DUPLICATE_LISTING', 'OTHER')),
+    report_count bigint NOT NULL,
+    PRIMARY KEY (pet_id, reason)
+);
+
+CREATE TABLE IF NOT EXISTS stats_counters (
+    name varchar(50) NOT NULL PRIMARY KEY CHECK (name IN ('TOTAL_USERS', 'TOTAL_PETS',
+            'ADOPTED_PETS', 'ADOPTERS', 'VENDORS', 'PENDING_REPORTS')),
+    value bigint NOT NULL,
+    updated_at timestamp(6) NOT NULL
+);
+
+-- Existing submissions start as NEW; vendor_user_id is copied from the pet at startup
+ALTER TABLE adoption_form_submissions
+    ADD COLUMN IF NOT EXISTS status varchar(20) DEFAULT 'NEW'
+        CHECK (status IN ('NEW', 'READ', 'SHORTLISTED', 'ACCEPTED', 'REJECTED'));
+ALTER TABLE adoption_form_submissions ADD COLUMN IF NOT EXISTS vendor_user_id bigint;
+CREATE INDEX IF NOT EXISTS idx_submission_vendor_created
+    ON adoption_form_submissions (vendor_user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_submission_vendor_status
+    ON adoption_form_submissions (vendor_user_id, status);
+
+ALTER TABLE user_preferences ADD COLUMN IF NOT EXISTS weight_vector bytea;
+
+COMMIT;
@@ -0,0 +1,20 @@
+-- Migration: allow EXPIRED in adoption_appointments.status
+--
+-- Context:
+--   Pending appointments whose pet hold runs out are now kept and marked EXPIRED instead of
+--   being deleted. Hibernate created adoption_appointments_status_check with only PENDING and
+--   CONFIRMED, and ddl-auto=update never widens an existing check constraint, so expiring an
+--   appointment fails until the constraint is replaced.
+--
+-- When this is needed:
+--   Run this once against any database created before this change, before deploying it.
+--
+-- It is safe to run more than once: the constraint is dropped if present and recreated.
+
+BEGIN;
+
+ALTER TABLE adoption_appointments DROP CONSTRAINT IF EXISTS adoption_appointments_status_check;
+ALTER TABLE adoption_appointments ADD CONSTRAINT adoption_appointments_status_check
+    CHECK (status IN ('PENDING', 'CONFIRMED', 'EXPIRED'));
+
+COMMIT;
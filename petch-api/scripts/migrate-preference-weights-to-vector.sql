@@ -0,0 +1,54 @@
+-- Migration: user_species_weights / user_breed_weights -> user_preferences.weight_vector
+--
+-- Context:
+--   UserPreference.speciesWeights and breedWeights used to be @ElementCollection maps stored in
+--   the user_species_weights and user_breed_weights tables. They are now one bytea column,
+--   user_preferences.weight_vector, encoded by PreferenceVectorConverter (version 1):
+--     version byte 0x01
+--     species: int16 count, then per entry int16 UTF-8 key length, key bytes, float4 weight
+--     breeds:  same layout
+--   All numbers are big-endian, which is what int2send/float4send produce.
+--
+-- When this is needed:
+--   Run this once against any database that still has the two weight tables, before or right
+--   after deploying this change. Until then, the old weights are ignored. Bulk user deletion
+--   also fails while these tables still reference user_preferences.
+--
+-- It runs in a single transaction and drops the old tables at the end, so a second run fails
+-- without changing anything.
+
+BEGIN;
+
+ALTER TABLE user_preferences ADD COLUMN IF NOT EXISTS weight_vector bytea;
+
+UPDATE user_preferences p
+SET weight_vector = decode('01', 'hex')
+        || int2send(COALESCE(s.entry_count, 0)::int2) || COALESCE(s.entries, ''::bytea)
+        || int2send(COALESCE(b.entry_count, 0)::int2) || COALESCE(b.entries, ''::bytea)
+FROM user_preferences u
+LEFT JOIN (
+    SELECT preference_id,
+           count(*) AS entry_count,
+           string_agg(int2send(octet_length(convert_to(species, 'UTF8'))::int2)
+                   || convert_to(species, 'UTF8')
+                   || float4send(weight::float4), ''::bytea ORDER BY species) AS entries
+    FROM user_species_weights
+    WHERE species IS NOT NULL AND weight IS NOT NULL
+    GROUP BY preference_id
+) s ON s.preference_id = u.id
+LEFT JOIN (
+    SELECT preference_id,
+           count(*) AS entry_count,
+           string_agg(int2send(octet_length(convert_to(breed, 'UTF8'))::int2)
+                   || convert_to(breed, 'UTF8')
+                   || float4send(weight::float4), ''::bytea ORDER BY breed) AS entries
+    FROM user_breed_weights
+    WHERE breed IS NOT NULL AND weight IS NOT NULL
+    GROUP BY preference_id
+) b ON b.preference_id = u.id
+WHERE p.id = u.id;
+
+DROP TABLE user_species_weights;
+DROP TABLE user_breed_weights;
+
+COMMIT;
@@ -0,0 +1,45 @@
+-- Migration: remove duplicate reports and add uk_reports_reporter_pet
+--
+-- Context:
+--   ReportService.createReport no longer checks for an existing report before inserting.
+--   One report per reporter and pet is enforced by the unique constraint
+--   uk_reports_reporter_pet (reports.reporter_id, reports.pet_id) instead. Databases that
+--   already hold duplicate reports cannot get that constraint: ddl-auto=update only logs a
+--   warning and skips it, and the prod profile (ddl-auto=none) never creates it. Without
+--   the constraint, repeat reports are silently accepted.
+--
+-- When this is needed:
+--   Run this once against any database created before this change, before deploying it.
+--   For each reporter and pet it keeps one report: a PENDING one if there is one,
+--   otherwise the most recently resolved one. Lower ids win ties. The reasons of the
+--   removed reports are deleted with them. The per-pet report aggregates are rebuilt by
+--   the application at startup.
+--
+-- It is safe to run more than once: the delete finds nothing the second time and the
+-- constraint is only added when missing.
+
+BEGIN;
+
+CREATE TEMPORARY TABLE duplicate_reports ON COMMIT DROP AS
+SELECT id
+FROM (
+    SELECT id,
+           row_number() OVER (
+               PARTITION BY reporter_id, pet_id
+               ORDER BY (status = 'PENDING') DESC, resolved_at DESC NULLS LAST, id
+           ) AS rank
+    FROM reports
+) ranked
+WHERE rank > 1;
+
+DELETE FROM report_reasons WHERE report_id IN (SELECT id FROM duplicate_reports);
+DELETE FROM reports WHERE id IN (SELECT id FROM duplicate_reports);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_reports_reporter_pet') THEN
+        ALTER TABLE reports ADD CONSTRAINT uk_reports_reporter_pet UNIQUE (reporter_id, pet_id);
+    END IF;
+END $$;
+
+COMMIT;
@@ -0,0 +1,81 @@
+package project.petch.petch_api.benchmark;
+
+import project.petch.petch_api.config.DemoPetGenerator;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.models.UserPreference;
+import project.petch.petch_api.models.VendorProfile;
+import project.petch.petch_api.models.VerificationStatus;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Detached catalogs shaped like the demo seed data, for benchmarks that run without a database.
+ * Everything is generated from a fixed seed so runs are comparable between branches.
+ */
+public final class CatalogFixtures {
+
+    public static final long SEED = 42L;
+    private static final int PETS_PER_VENDOR = 25;
+
+    private CatalogFixtures() {
+    }
+
+    /**
+     * {@code size} pets with ids, images, adoption details and a vendor owner each
+     */
+    public static List<Pets> catalog(int size) {
+        Random random = new Random(SEED);
+        List<Pets> pets = DemoPetGenerator.generate(size, random);
+        User vendor = null;
+        for (int i = 0; i < pets.size(); i++) {
+            if (i % PETS_PER_VENDOR == 0) {
+                vendor = vendor(i / PETS_PER_VENDOR + 1L, random);
+            }
+            Pets pet = pets.get(i);
+            pet.setId(i + 1L);
+            pet.setUser(vendor);
+            pet.setViewCount((long) random.nextInt(1_000));
+        }
+        return pets;
+    }
+
+    /**
+     * A preference profile as built up by a few dozen likes and passes
+     */
+    public static UserPreference preferences(List<Pets> catalog) {
+        Random random = new Random(SEED + 1);
+        UserPreference prefs = UserPreference.builder()
+                .weightYoung(random.nextDouble())
+                .weightAdult(random.nextDouble())
+                .weightMature(random.nextDouble())
+                .weightSenior(random.nextDouble())
+                .fosterableWeight(random.nextDouble())
+                .atRiskWeight(random.nextDouble())
+                .build();
+        for (String species : DemoPetGenerator.SPECIES) {
+            prefs.getSpeciesWeights().put(species.toLowerCase(Locale.ROOT), random.nextDouble() * 4 - 2);
+        }
+        for (int i = 0; i < Math.min(40, catalog.size()); i++) {
+            Pets pet = catalog.get(random.nextInt(catalog.size()));
+            prefs.getBreedWeights().merge(pet.getBreed().toLowerCase(Locale.ROOT), random.nextDouble() - 0.3, Double::sum);
+        }
+        return prefs;
+    }
+
+    private static User vendor(long id, Random random) {
+        User vendor = new User();
+        vendor.setId(id);
+        vendor.setEmail("vendor" + id + "@bench.petch");
+        vendor.setFirstName("Bench");
+        vendor.setLastName("Vendor " + id);
+        vendor.setUserType(UserType.VENDOR);
+        vendor.setVendorProfile(VendorProfile.builder()
+                .verificationStatus(random.nextBoolean() ? VerificationStatus.VERIFIED : VerificationStatus.UNVERIFIED)
+                .build());
+        return vendor;
+    }
+}
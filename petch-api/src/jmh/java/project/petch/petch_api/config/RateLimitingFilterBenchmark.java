@@ -0,0 +1,52 @@
+package project.petch.petch_api.config;
+
+import io.github.bucket4j.Bucket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bucket lookup under concurrent requests from a pool of client IPs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimitingFilterBenchmark {
+
+    @Param({ "100", "10000" })
+    int distinctClients;
+
+    RateLimitingFilter filter;
+    String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        filter = new RateLimitingFilter();
+        clientIps = new String[distinctClients];
+        for (int i = 0; i < distinctClients; i++) {
+            clientIps[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+            filter.resolveBucket(clientIps[i], "auth", 20);
+        }
+    }
+
+    @Benchmark
+    public Bucket resolveBucket() {
+        return filter.resolveBucket(clientIps[ThreadLocalRandom.current().nextInt(distinctClients)], "auth", 20);
+    }
+}
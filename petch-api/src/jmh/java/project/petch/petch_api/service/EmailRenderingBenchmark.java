@@ -0,0 +1,59 @@
+package project.petch.petch_api.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import project.petch.petch_api.benchmark.CatalogFixtures;
+import project.petch.petch_api.models.Pets;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTML body rendering for the transactional emails, without the SMTP send.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailRenderingBenchmark {
+
+    @Param({ "3", "10" })
+    int matchCount;
+
+    EmailService emailService;
+    List<Pets> matches;
+
+    @Setup
+    public void setUp() {
+        emailService = new EmailService(null, null);
+        ReflectionTestUtils.setField(emailService, "frontendUrl", "https://petch.example");
+        matches = CatalogFixtures.catalog(matchCount);
+    }
+
+    @Benchmark
+    public String welcome() {
+        return emailService.buildWelcomeEmailHtml("Jordan");
+    }
+
+    @Benchmark
+    public String petMatch() {
+        return emailService.buildPetMatchEmailHtml("Jordan", matches);
+    }
+
+    @Benchmark
+    public String passwordReset() {
+        return emailService.buildResetEmailHtml("https://petch.example/reset-password?token=0123456789abcdef");
+    }
+}
@@ -0,0 +1,49 @@
+package project.petch.petch_api.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import project.petch.petch_api.benchmark.CatalogFixtures;
+import project.petch.petch_api.dto.pet.PetDTO;
+import project.petch.petch_api.models.Pets;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping for one response page, on already loaded pets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PetDtoMappingBenchmark {
+
+    @Param({ "20", "50", "500" })
+    int pageSize;
+
+    PetService petService;
+    List<Pets> page;
+
+    @Setup
+    public void setUp() {
+        // toDTO only touches the entity graph, none of the collaborators
+        petService = new PetService(null, null, null, null, null, null, null, null, null);
+        page = CatalogFixtures.catalog(pageSize);
+    }
+
+    @Benchmark
+    public List<PetDTO> mapPage() {
+        return page.stream().map(petService::toDTO).toList();
+    }
+}
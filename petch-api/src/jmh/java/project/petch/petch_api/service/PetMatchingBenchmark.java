@@ -0,0 +1,87 @@
+package project.petch.petch_api.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import project.petch.petch_api.benchmark.CatalogFixtures;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.UserPreference;
+import project.petch.petch_api.util.GeoGridIndex;
+import project.petch.petch_api.util.GeoPoint;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Discovery ranking over the candidate list PetService gets back from the database, and the
+ * near= variant that only scores the pets in the grid cells around the searcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PetMatchingBenchmark {
+
+    private static final GeoPoint RENO = new GeoPoint(39.53, -119.81);
+
+    @Param({ "500", "5000", "50000" })
+    int catalogSize;
+
+    List<Pets> catalog;
+    UserPreference prefs;
+    GeoGridIndex index;
+
+    @Setup
+    public void setUp() {
+        catalog = CatalogFixtures.catalog(catalogSize);
+        prefs = CatalogFixtures.preferences(catalog);
+        long[] ids = new long[catalogSize];
+        double[] latitudes = new double[catalogSize];
+        double[] longitudes = new double[catalogSize];
+        for (int i = 0; i < catalogSize; i++) {
+            Pets pet = catalog.get(i);
+            ids[i] = pet.getId();
+            latitudes[i] = pet.getLatitude();
+            longitudes[i] = pet.getLongitude();
+        }
+        index = GeoGridIndex.build(ids, latitudes, longitudes, 0.5);
+    }
+
+    @Benchmark
+    public double scoreCatalog() {
+        double total = 0;
+        for (Pets pet : catalog) {
+            total += PetService.calculateMatchScore(pet, prefs);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public List<Pets> rankTop50() {
+        return PetService.rankForDiscovery(catalog, prefs, 50);
+    }
+
+    @Benchmark
+    public List<Pets> rankNearbyTop50() {
+        Map<Long, Double> distances = new HashMap<>();
+        for (GeoGridIndex.Hit hit : index.within(RENO, 100, 2_000)) {
+            distances.put(hit.id(), hit.distanceKm());
+        }
+        // Catalog ids are list positions + 1; stands in for the findAvailableWithDetailsByIdIn load
+        List<Pets> candidates = distances.keySet().stream().map(id -> catalog.get((int) (id - 1))).toList();
+        return PetService.rankForDiscovery(candidates, prefs,
+                pet -> 3.0 * Math.exp(-distances.get(pet.getId()) / 25), 50);
+    }
+}
@@ -0,0 +1,83 @@
+package project.petch.petch_api.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import project.petch.petch_api.benchmark.CatalogFixtures;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * near= search over pet locations spread like the demo data (continental US): the grid index
+ * against the linear haversine scan it replaces, plus the cost of a rebuild.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoGridIndexBenchmark {
+
+    private static final GeoPoint RENO = new GeoPoint(39.53, -119.81);
+
+    @Param({ "10000", "100000" })
+    int catalogSize;
+
+    @Param({ "25", "100", "500" })
+    double radiusKm;
+
+    long[] ids;
+    double[] latitudes;
+    double[] longitudes;
+    GeoGridIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(CatalogFixtures.SEED);
+        ids = new long[catalogSize];
+        latitudes = new double[catalogSize];
+        longitudes = new double[catalogSize];
+        for (int i = 0; i < catalogSize; i++) {
+            ids[i] = i + 1L;
+            latitudes[i] = 25.0 + 24.0 * random.nextDouble();
+            longitudes[i] = -124.0 + 58.0 * random.nextDouble();
+        }
+        index = GeoGridIndex.build(ids, latitudes, longitudes, 0.5);
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> gridWithin() {
+        return index.within(RENO, radiusKm, 2_000);
+    }
+
+    @Benchmark
+    public List<GeoGridIndex.Hit> linearScan() {
+        List<GeoGridIndex.Hit> hits = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            double distance = RENO.distanceKm(latitudes[i], longitudes[i]);
+            if (distance <= radiusKm) {
+                hits.add(new GeoGridIndex.Hit(ids[i], distance));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(GeoGridIndex.Hit::distanceKm));
+        return hits.size() > 2_000 ? hits.subList(0, 2_000) : hits;
+    }
+
+    @Benchmark
+    public GeoGridIndex rebuild() {
+        return GeoGridIndex.build(ids, latitudes, longitudes, 0.5);
+    }
+}
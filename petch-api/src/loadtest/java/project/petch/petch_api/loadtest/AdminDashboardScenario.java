@@ -0,0 +1,28 @@
+package project.petch.petch_api.loadtest;
+
+import java.util.Random;
+
+/**
+ * Admin dashboard: headline stats, the report queues and a page of users.
+ */
+final class AdminDashboardScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "admin";
+    }
+
+    @Override
+    public Role role() {
+        return Role.ADMIN;
+    }
+
+    @Override
+    public void iterate(ApiClient client, SeededCatalog catalog, Random random) {
+        client.get("GET /api/admin/stats", "/api/admin/stats");
+        client.get("GET /api/admin/reports", "/api/admin/reports?status=PENDING&page=0&size=20");
+        client.get("GET /api/admin/reports/most-reported", "/api/admin/reports/most-reported?page=0&size=20");
+        int userPages = Math.max(1, (catalog.adopterEmails().size() + catalog.vendorEmails().size()) / 50);
+        client.get("GET /api/admin/users", "/api/admin/users?size=50&page=" + random.nextInt(userPages));
+    }
+}
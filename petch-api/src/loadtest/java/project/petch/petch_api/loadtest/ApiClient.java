@@ -0,0 +1,91 @@
+package project.petch.petch_api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+/**
+ * One virtual user's HTTP session. Requests are recorded under a templated endpoint name so
+ * {@code /api/pets/17} and {@code /api/pets/42} land in the same bucket.
+ *
+ * Each virtual user presents its own X-Forwarded-For address, so the per-IP rate limits treat
+ * them as separate clients as they would be in production.
+ */
+final class ApiClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final String clientIp;
+    private final LatencyRecorder recorder;
+    private String token;
+
+    ApiClient(HttpClient http, String baseUrl, String clientIp, LatencyRecorder recorder) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.clientIp = clientIp;
+        this.recorder = recorder;
+    }
+
+    void login(String email, String password) {
+        JsonNode response = post("POST /api/auth/login", "/api/auth/login", Map.of("email", email, "password", password));
+        if (response == null || !response.hasNonNull("token")) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        token = response.get("token").asText();
+    }
+
+    JsonNode get(String endpoint, String path) {
+        return send(endpoint, request(path).GET());
+    }
+
+    JsonNode post(String endpoint, String path, Object body) {
+        return send(endpoint, request(path).POST(json(body)));
+    }
+
+    JsonNode patch(String endpoint, String path, Object body) {
+        return send(endpoint, request(path).method("PATCH", json(body)));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", clientIp);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    // Returns the parsed body of a 2xx response, or null for errors and empty bodies
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = http.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            boolean ok = response.statusCode() / 100 == 2;
+            recorder.record(endpoint, System.nanoTime() - started, ok);
+            return ok && response.body().length > 0 ? MAPPER.readTree(response.body()) : null;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - started, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package project.petch.petch_api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Random;
+
+/**
+ * Adopter browsing listings: a filtered search page, a couple of detail views, the trending strip.
+ */
+final class BrowseFilterScenario implements Scenario {
+
+    private static final int PAGE_SIZE = 12;
+
+    @Override
+    public String name() {
+        return "browse";
+    }
+
+    @Override
+    public Role role() {
+        return Role.ADOPTER;
+    }
+
+    @Override
+    public void iterate(ApiClient client, SeededCatalog catalog, Random random) {
+        StringBuilder query = new StringBuilder("/api/pets?size=").append(PAGE_SIZE)
+                .append("&page=").append(random.nextInt(5));
+        if (random.nextBoolean()) {
+            query.append("&species=").append(catalog.species().get(random.nextInt(catalog.species().size())));
+        }
+        if (random.nextInt(3) == 0) {
+            int ageMin = 1 + random.nextInt(8);
+            query.append("&ageMin=").append(ageMin).append("&ageMax=").append(ageMin + 1 + random.nextInt(6));
+        }
+        if (random.nextInt(4) == 0) {
+            query.append(random.nextBoolean() ? "&fosterable=true" : "&atRisk=true");
+        }
+        JsonNode page = client.get("GET /api/pets?filters", query.toString());
+
+        JsonNode content = page == null ? null : page.get("content");
+        for (int i = 0; content != null && i < Math.min(2, content.size()); i++) {
+            long petId = content.get(random.nextInt(content.size())).get("id").asLong();
+            client.get("GET /api/pets/{id}", "/api/pets/" + petId);
+        }
+        client.get("GET /api/pets/trending", "/api/pets/trending?count=8");
+    }
+}
@@ -0,0 +1,63 @@
+package project.petch.petch_api.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import java.io.IOException;
+
+/**
+ * The database under test: a throwaway embedded PostgreSQL started from the zonky binaries, or an
+ * existing empty database when {@code jdbc-url} is given.
+ */
+final class EmbeddedDatabase implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres, String jdbcUrl, String username, String password) {
+        this.postgres = postgres;
+        this.jdbcUrl = jdbcUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    static EmbeddedDatabase start(LoadTestConfig config) throws IOException {
+        return start(config.jdbcUrl(), config.jdbcUser(), config.jdbcPassword());
+    }
+
+    static EmbeddedDatabase start(String jdbcUrl, String jdbcUser, String jdbcPassword) throws IOException {
+        if (jdbcUrl != null) {
+            return new EmbeddedDatabase(null, jdbcUrl, jdbcUser, jdbcPassword);
+        }
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", "200")
+                .setServerConfig("shared_buffers", "256MB")
+                // Durability does not matter for a throwaway database and fsync would dominate the data load
+                .setServerConfig("fsync", "off")
+                .setServerConfig("synchronous_commit", "off")
+                .start();
+        // Lets the driver turn the generator's batches into multi-row inserts
+        String url = postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true";
+        return new EmbeddedDatabase(postgres, url, "postgres", "");
+    }
+
+    String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    String username() {
+        return username;
+    }
+
+    String password() {
+        return password;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+}
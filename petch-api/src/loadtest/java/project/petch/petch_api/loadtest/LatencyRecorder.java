@@ -0,0 +1,127 @@
+package project.petch.petch_api.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-endpoint latency samples and error counts. Every sample is kept so the percentiles are exact;
+ * a run of a few minutes is a few million longs at most.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> byEndpoint = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void start() {
+        byEndpoint.clear();
+        recording = true;
+    }
+
+    void stop() {
+        recording = false;
+    }
+
+    void record(String endpoint, long nanos, boolean ok) {
+        if (recording) {
+            byEndpoint.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, ok);
+        }
+    }
+
+    List<EndpointStats> summarize(long windowNanos) {
+        List<EndpointStats> stats = new ArrayList<>();
+        byEndpoint.forEach((endpoint, samples) -> stats.add(samples.summarize(endpoint, windowNanos)));
+        stats.sort((a, b) -> Long.compare(b.count(), a.count()));
+        return stats;
+    }
+
+    static void print(List<EndpointStats> stats, PrintStream out) {
+        out.printf("%-52s %8s %7s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (EndpointStats s : stats) {
+            out.printf("%-52s %8d %7d %8.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.endpoint(), s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs());
+        }
+    }
+
+    static void writeCsv(List<EndpointStats> stats, Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("endpoint,count,errors,req_per_s,p50_ms,p95_ms,p99_ms,max_ms");
+        for (EndpointStats s : stats) {
+            lines.add(String.format("\"%s\",%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f",
+                    s.endpoint(), s.count(), s.errors(), s.throughput(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs()));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    record EndpointStats(String endpoint, long count, long errors, double throughput,
+            double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    // A ReentrantLock rather than synchronized: on JDK 21 a virtual thread blocked on a monitor
+    // pins its carrier, and every client thread records into the same few Samples
+    private static final class Samples {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long[] nanos = new long[1_024];
+        private int size;
+        private long errors;
+
+        void add(long value, boolean ok) {
+            lock.lock();
+            try {
+                if (size == nanos.length) {
+                    nanos = Arrays.copyOf(nanos, size * 2);
+                }
+                nanos[size++] = value;
+                if (!ok) {
+                    errors++;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        EndpointStats summarize(String endpoint, long windowNanos) {
+            long[] sorted;
+            long count;
+            long errorCount;
+            lock.lock();
+            try {
+                sorted = Arrays.copyOf(nanos, size);
+                count = size;
+                errorCount = errors;
+            } finally {
+                lock.unlock();
+            }
+            Arrays.sort(sorted);
+            double seconds = windowNanos / 1e9;
+            return new EndpointStats(endpoint, count, errorCount, count / seconds,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                    millis(percentile(sorted, 99)), millis(count == 0 ? 0 : sorted[sorted.length - 1]));
+        }
+
+        // Nearest-rank percentile
+        private static long percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
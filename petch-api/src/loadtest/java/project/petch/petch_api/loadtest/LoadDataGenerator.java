@@ -0,0 +1,249 @@
+package project.petch.petch_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import project.petch.petch_api.config.DemoPetGenerator;
+import project.petch.petch_api.models.AdoptionDetails;
+import project.petch.petch_api.models.Images;
+import project.petch.petch_api.models.Pets;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a catalog of any size straight into the schema Hibernate created, in JDBC batches.
+ *
+ * Ids are reserved from the identity sequences up front so child rows can reference their parents
+ * without reading anything back. Pet content comes from {@link DemoPetGenerator}, so listings look
+ * like the demo data; every generated user shares one password, hashed once.
+ */
+@Slf4j
+final class LoadDataGenerator {
+
+    static final String PASSWORD = "loadtest-pass";
+    static final String EMAIL_DOMAIN = "@loadtest.petch";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int HISTORY_DAYS = 90;
+    private static final int PET_CHUNK = 5_000;
+
+    private final JdbcTemplate jdbc;
+    private final LoadTestConfig config;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    LoadDataGenerator(JdbcTemplate jdbc, LoadTestConfig config) {
+        this.jdbc = jdbc;
+        this.config = config;
+        this.random = new Random(config.seed());
+    }
+
+    SeededCatalog generate() {
+        long started = System.nanoTime();
+        Integer existing = jdbc.queryForObject("SELECT count(*) FROM users WHERE email LIKE ?", Integer.class, "%" + EMAIL_DOMAIN);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Database already contains load test users; point jdbc-url at an empty database");
+        }
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        List<String> adopterEmails = emails("adopter", config.adopters());
+        List<String> vendorEmails = emails("vendor", config.vendors());
+        String adminEmail = "admin" + EMAIL_DOMAIN;
+        long[] adopterIds = insertUsers(adopterEmails, "ADOPTER", passwordHash);
+        long[] vendorIds = insertUsers(vendorEmails, "VENDOR", passwordHash);
+        insertUsers(List.of(adminEmail), "ADMIN", passwordHash);
+        insertVendorProfiles(vendorIds);
+
+        long[] petIds = new long[config.pets()];
+        long[] petOwners = new long[config.pets()];
+        insertPets(vendorIds, petIds, petOwners);
+        insertInteractions(adopterIds, petIds);
+        insertSubmissions(adopterIds, petIds, petOwners);
+        jdbc.execute("ANALYZE");
+
+        log.info("Generated {} adopters, {} vendors, {} pets, {} interactions and {} submissions in {} s",
+                adopterIds.length, vendorIds.length, petIds.length,
+                (long) adopterIds.length * Math.min(config.interactionsPerAdopter(), petIds.length),
+                config.submissions(), TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+        return new SeededCatalog(adopterEmails, vendorEmails, adminEmail, PASSWORD, petIds,
+                Arrays.asList(DemoPetGenerator.SPECIES));
+    }
+
+    private long[] insertUsers(List<String> emails, String userType, String passwordHash) {
+        long[] ids = allocateIds("users", emails.size());
+        try (BatchWriter users = new BatchWriter("INSERT INTO users (id, email, password_hash, first_name, last_name, "
+                + "user_type, phone_number, created_at, updated_at, email_notifications_enabled, deletion_requested, "
+                + "is_active, failed_login_attempts) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false, false, true, 0)")) {
+            for (int i = 0; i < emails.size(); i++) {
+                Timestamp createdAt = pastTimestamp();
+                users.add(ids[i], emails.get(i), passwordHash, "Load", userType.charAt(0) + userType.substring(1).toLowerCase() + " " + i,
+                        userType, phoneNumber(), createdAt, createdAt);
+            }
+        }
+        return ids;
+    }
+
+    private void insertVendorProfiles(long[] vendorIds) {
+        try (BatchWriter profiles = new BatchWriter("INSERT INTO vendor_profiles (user_id, organization_name, city, state, "
+                + "verification_status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < vendorIds.length; i++) {
+                Timestamp createdAt = pastTimestamp();
+                profiles.add(vendorIds[i], "Load Test Rescue " + i, "Reno", "NV",
+                        random.nextInt(4) == 0 ? "UNVERIFIED" : "VERIFIED", createdAt, createdAt);
+            }
+        }
+    }
+
+    private void insertPets(long[] vendorIds, long[] petIds, long[] petOwners) {
+        try (BatchWriter pets = new BatchWriter("INSERT INTO pets (id, name, species, breed, age, description, at_risk, "
+                + "fosterable, real, on_hold, is_adopted, user_id, created_at, updated_at, latitude, longitude, view_count) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, false, false, ?, ?, ?, ?, ?, ?)");
+                BatchWriter images = new BatchWriter("INSERT INTO images (pet_id, file_name, file_path, alt_text, file_size, "
+                        + "created_at) VALUES (?, ?, ?, ?, ?, ?)", pets);
+                BatchWriter details = new BatchWriter("INSERT INTO adoption_details (pet_id, is_direct, price_estimate, "
+                        + "steps_description, phone_number, email, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", pets)) {
+            for (int offset = 0; offset < petIds.length; offset += PET_CHUNK) {
+                int count = Math.min(PET_CHUNK, petIds.length - offset);
+                long[] ids = allocateIds("pets", count);
+                List<Pets> generated = DemoPetGenerator.generate(count, random);
+                for (int i = 0; i < count; i++) {
+                    Pets pet = generated.get(i);
+                    long petId = ids[i];
+                    long ownerId = vendorIds[random.nextInt(vendorIds.length)];
+                    petIds[offset + i] = petId;
+                    petOwners[offset + i] = ownerId;
+                    Timestamp createdAt = pastTimestamp();
+                    pets.add(petId, pet.getName(), pet.getSpecies(), pet.getBreed(), pet.getAge(), pet.getDescription(),
+                            pet.getAtRisk(), pet.getFosterable(), ownerId, createdAt, createdAt,
+                            pet.getLatitude(), pet.getLongitude(), (long) random.nextInt(2_000));
+
+                    Images image = pet.getImages().get(0);
+                    for (int n = 0; n < config.imagesPerPet(); n++) {
+                        images.add(petId, "pet_" + petId + "_" + n + ".jpg", image.getFilePath() + "&n=" + n,
+                                image.getAltText(), 150_000L + random.nextInt(350_000), createdAt);
+                    }
+                    AdoptionDetails adoption = pet.getAdoptionDetails();
+                    details.add(petId, adoption.getIsDirect(), adoption.getPriceEstimate(), adoption.getStepsDescription(),
+                            adoption.getPhoneNumber(), adoption.getEmail(), createdAt, createdAt);
+                }
+            }
+        }
+    }
+
+    private void insertInteractions(long[] adopterIds, long[] petIds) {
+        int perAdopter = Math.min(config.interactionsPerAdopter(), petIds.length);
+        try (BatchWriter interactions = new BatchWriter("INSERT INTO pet_interactions (user_id, pet_id, interaction_type, "
+                + "created_at) VALUES (?, ?, ?, ?)")) {
+            Set<Long> seen = new HashSet<>();
+            for (long adopterId : adopterIds) {
+                seen.clear();
+                while (seen.size() < perAdopter) {
+                    long petId = petIds[random.nextInt(petIds.length)];
+                    if (seen.add(petId)) {
+                        interactions.add(adopterId, petId, random.nextInt(5) == 0 ? "FAVORITE" : "PASS", pastTimestamp());
+                    }
+                }
+            }
+        }
+    }
+
+    private void insertSubmissions(long[] adopterIds, long[] petIds, long[] petOwners) {
+        if (config.submissions() == 0 || petIds.length == 0) {
+            return;
+        }
+        // Hibernate maps @Lob byte[] to a large object (oid) on PostgreSQL; older schemas may use bytea
+        String pdfType = jdbc.queryForObject("SELECT data_type FROM information_schema.columns "
+                + "WHERE table_name = 'adoption_form_submissions' AND column_name = 'pdf_data'", String.class);
+        String pdfValue = "oid".equals(pdfType) ? "lo_from_bytea(0, ?)" : "?";
+        byte[] pdf = samplePdf();
+        String[] statuses = { "NEW", "NEW", "NEW", "NEW", "READ", "READ", "SHORTLISTED", "REJECTED" };
+        try (BatchWriter submissions = new BatchWriter("INSERT INTO adoption_form_submissions (pet_id, adopter_user_id, "
+                + "vendor_user_id, status, pdf_data, file_name, content_type, created_at) VALUES (?, ?, ?, ?, " + pdfValue
+                + ", ?, 'application/pdf', ?)")) {
+            for (int i = 0; i < config.submissions(); i++) {
+                int pet = random.nextInt(petIds.length);
+                submissions.add(petIds[pet], adopterIds[random.nextInt(adopterIds.length)], petOwners[pet],
+                        statuses[random.nextInt(statuses.length)], pdf, "application-" + i + ".pdf", pastTimestamp());
+            }
+        }
+    }
+
+    private long[] allocateIds(String table, int count) {
+        return jdbc.queryForList("SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)",
+                Long.class, table, count).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private List<String> emails(String prefix, int count) {
+        List<String> emails = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            emails.add(prefix + i + EMAIL_DOMAIN);
+        }
+        return emails;
+    }
+
+    private Timestamp pastTimestamp() {
+        return Timestamp.valueOf(now.minusSeconds(random.nextLong(HISTORY_DAYS * 86_400L)));
+    }
+
+    private String phoneNumber() {
+        return "555-" + (100 + random.nextInt(900)) + "-" + (1000 + random.nextInt(9000));
+    }
+
+    private static byte[] samplePdf() {
+        StringBuilder body = new StringBuilder("%PDF-1.4\n% petch load test application form\n");
+        while (body.length() < 4_096) {
+            body.append("Applicant answers: home, yard, other pets, schedule, references.\n");
+        }
+        return body.append("%%EOF\n").toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Buffers rows for one statement and sends them {@link #BATCH_SIZE} at a time. A writer for child
+     * rows flushes its parent first, so foreign keys always point at rows that are already written.
+     */
+    private final class BatchWriter implements AutoCloseable {
+        private final String sql;
+        private final BatchWriter parent;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        private BatchWriter(String sql) {
+            this(sql, null);
+        }
+
+        private BatchWriter(String sql, BatchWriter parent) {
+            this.sql = sql;
+            this.parent = parent;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (!rows.isEmpty()) {
+                jdbc.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
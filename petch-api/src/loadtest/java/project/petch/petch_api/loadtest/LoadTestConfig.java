@@ -0,0 +1,87 @@
+package project.petch.petch_api.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test options, passed as {@code key=value} program arguments.
+ *
+ * <pre>
+ * adopters=1000 vendors=50 pets=10000 images-per-pet=3 interactions-per-adopter=40 submissions=5000
+ * duration=60 warmup=10 users=64 think-ms=50 mix=swipe:50,browse:30,inbox:15,admin:5 seed=42
+ * jdbc-url=jdbc:postgresql://... jdbc-user=... jdbc-password=... report=target/loadtest-report.csv
+ * </pre>
+ *
+ * Without {@code jdbc-url} an embedded PostgreSQL is started and thrown away at the end.
+ */
+record LoadTestConfig(
+        int adopters,
+        int vendors,
+        int pets,
+        int imagesPerPet,
+        int interactionsPerAdopter,
+        int submissions,
+        int durationSeconds,
+        int warmupSeconds,
+        int virtualUsers,
+        int thinkMs,
+        Map<String, Integer> mix,
+        long seed,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        Path report) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                intOption(options, "adopters", 1_000),
+                intOption(options, "vendors", 50),
+                intOption(options, "pets", 10_000),
+                intOption(options, "images-per-pet", 3),
+                intOption(options, "interactions-per-adopter", 40),
+                intOption(options, "submissions", 5_000),
+                intOption(options, "duration", 60),
+                intOption(options, "warmup", 10),
+                intOption(options, "users", 64),
+                intOption(options, "think-ms", 50),
+                parseMix(stringOption(options, "mix", "swipe:50,browse:30,inbox:15,admin:5")),
+                Long.parseLong(stringOption(options, "seed", "42")),
+                stringOption(options, "jdbc-url", null),
+                stringOption(options, "jdbc-user", "postgres"),
+                stringOption(options, "jdbc-password", ""),
+                Path.of(stringOption(options, "report", "target/loadtest-report.csv")));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options.keySet());
+        }
+        return config;
+    }
+
+    // Removes the option so anything left over is reported as unknown
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.remove(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String stringOption(Map<String, String> options, String key, String defaultValue) {
+        String value = options.remove(key);
+        return value == null ? defaultValue : value;
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.trim().split(":");
+            weights.put(nameAndWeight[0], nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1]) : 1);
+        }
+        return weights;
+    }
+}
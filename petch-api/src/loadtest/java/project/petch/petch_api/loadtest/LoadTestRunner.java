@@ -0,0 +1,78 @@
+package project.petch.petch_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.petch.petch_api.PetchApiApplication;
+import project.petch.petch_api.service.PetCacheInvalidator;
+import project.petch.petch_api.service.ReportAggregateService;
+import project.petch.petch_api.service.StatsCounterService;
+import project.petch.petch_api.service.VendorInboxCounterService;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: start a database, boot the API against it, generate a catalog, drive
+ * the scenario mix over HTTP and print p50/p95/p99 per endpoint.
+ *
+ * Run with {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="..."}; see
+ * {@link LoadTestConfig} for the options.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would restart main() in a new class loader, starting a second database
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        log.info("Load test configuration: {}", config);
+        try (EmbeddedDatabase database = EmbeddedDatabase.start(config);
+                ConfigurableApplicationContext app = startApi(database)) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+
+            SeededCatalog catalog = new LoadDataGenerator(app.getBean(JdbcTemplate.class), config).generate();
+            // The generator bypasses the services, so rebuild what they normally maintain incrementally
+            app.getBean(StatsCounterService.class).reconcile();
+            app.getBean(VendorInboxCounterService.class).reconcile();
+            app.getBean(ReportAggregateService.class).reconcile();
+            app.getBean(PetCacheInvalidator.class).allPetsChanged();
+
+            List<LatencyRecorder.EndpointStats> stats = new WorkloadDriver("http://127.0.0.1:" + port, catalog, config).run();
+            LatencyRecorder.print(stats, System.out);
+            LatencyRecorder.writeCsv(stats, config.report());
+            log.info("Report written to {}", config.report().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApi(EmbeddedDatabase database) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        // System properties, so they override application.yaml (builder properties are only defaults)
+        Map<String, String> properties = new HashMap<>();
+        properties.put("spring.datasource.url", database.jdbcUrl());
+        properties.put("spring.datasource.username", database.username());
+        properties.put("spring.datasource.password", database.password());
+        properties.put("server.address", "127.0.0.1");
+        properties.put("server.port", "0");
+        properties.put("management.server.port", "0");
+        properties.put("jwt.secret", Base64.getEncoder().encodeToString(secret));
+        properties.put("app.archive.dir", "target/loadtest-archive");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.project.petch.petch_api", "WARN");
+        properties.put("logging.level.project.petch.petch_api.loadtest", "INFO");
+        // The "loadtest" profile keeps DemoDataSeeder (dev, demo, default) from seeding its own catalog
+        properties.forEach(System::setProperty);
+        return new SpringApplicationBuilder(PetchApiApplication.class)
+                .profiles("loadtest")
+                .run();
+    }
+}
@@ -0,0 +1,20 @@
+package project.petch.petch_api.loadtest;
+
+import java.util.Random;
+
+/**
+ * A scripted user journey. Virtual users log in once as {@link #role()} and then repeat
+ * {@link #iterate} until the run ends.
+ */
+interface Scenario {
+
+    enum Role {
+        ADOPTER, VENDOR, ADMIN
+    }
+
+    String name();
+
+    Role role();
+
+    void iterate(ApiClient client, SeededCatalog catalog, Random random);
+}
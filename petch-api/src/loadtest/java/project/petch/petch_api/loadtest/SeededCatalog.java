@@ -0,0 +1,15 @@
+package project.petch.petch_api.loadtest;
+
+import java.util.List;
+
+/**
+ * What the generator wrote, for scenarios to log in with and pick ids from
+ */
+record SeededCatalog(
+        List<String> adopterEmails,
+        List<String> vendorEmails,
+        String adminEmail,
+        String password,
+        long[] petIds,
+        List<String> species) {
+}
@@ -0,0 +1,173 @@
+package project.petch.petch_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import project.petch.petch_api.PetchApiApplication;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark: boots the API in fresh JVMs against one database and reports the time from
+ * process start to the first successful response, so JVM startup, context refresh and the first
+ * request's lazy initialization are all included.
+ *
+ * <pre>
+ * runs=5 profiles=prod path=/api/pets/stats/count timeout=180 logs=target/startup-benchmark
+ * jar=target/app/petch-api-0.0.1-SNAPSHOT.jar jvm-args=-XX:SharedArchiveFile=target/app/application.jsa,-Dspring.aot.enabled=true
+ * jdbc-url=jdbc:postgresql://... jdbc-user=... jdbc-password=...
+ * </pre>
+ *
+ * Without {@code jar} the API runs from this JVM's classpath; {@code jvm-args} is comma-separated.
+ * The schema is created by an untimed first boot with {@code ddl-auto=update}, since the prod
+ * profile does not create it. Each run's output is kept under {@code logs}.
+ */
+@Slf4j
+public final class StartupBenchmark {
+
+    private StartupBenchmark() {
+    }
+
+    record Options(int runs, String profiles, String path, int timeoutSeconds, Path logs,
+            String jar, List<String> jvmArgs, String jdbcUrl, String jdbcUser, String jdbcPassword) {
+
+        static Options parse(String[] args) {
+            Map<String, String> options = new LinkedHashMap<>();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("Expected key=value, got: " + arg);
+                }
+                options.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+            String jvmArgs = options.remove("jvm-args");
+            Options parsed = new Options(
+                    Integer.parseInt(options.getOrDefault("runs", "5")),
+                    options.getOrDefault("profiles", "prod"),
+                    options.getOrDefault("path", "/api/pets/stats/count"),
+                    Integer.parseInt(options.getOrDefault("timeout", "180")),
+                    Path.of(options.getOrDefault("logs", "target/startup-benchmark")),
+                    options.get("jar"),
+                    jvmArgs == null || jvmArgs.isBlank() ? List.of() : Arrays.asList(jvmArgs.split(",")),
+                    options.get("jdbc-url"),
+                    options.getOrDefault("jdbc-user", "postgres"),
+                    options.getOrDefault("jdbc-password", ""));
+            options.keySet().removeAll(List.of("runs", "profiles", "path", "timeout", "logs", "jar",
+                    "jdbc-url", "jdbc-user", "jdbc-password"));
+            if (!options.isEmpty()) {
+                throw new IllegalArgumentException("Unknown options: " + options.keySet());
+            }
+            return parsed;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        log.info("Startup benchmark configuration: {}", options);
+        Files.createDirectories(options.logs());
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        try (EmbeddedDatabase database = EmbeddedDatabase.start(
+                options.jdbcUrl(), options.jdbcUser(), options.jdbcPassword())) {
+            // The "loadtest" profile keeps DemoDataSeeder from filling the database during the schema boot
+            long schemaMs = timeToFirstRequest(options, database, http, "loadtest",
+                    List.of("-Dspring.jpa.hibernate.ddl-auto=update"), options.logs().resolve("schema.log"));
+            log.info("Schema boot: {} ms", schemaMs);
+
+            long[] millis = new long[options.runs()];
+            for (int run = 0; run < options.runs(); run++) {
+                millis[run] = timeToFirstRequest(options, database, http, options.profiles(), List.of(),
+                        options.logs().resolve("run-" + (run + 1) + ".log"));
+                log.info("Run {}: {} ms", run + 1, millis[run]);
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-40s %6s %9s %9s %9s%n", "time to first request", "runs", "min ms", "median ms", "max ms");
+            System.out.printf("%-40s %6d %9d %9d %9d%n", "profiles=" + options.profiles(), millis.length,
+                    millis[0], millis[millis.length / 2], millis[millis.length - 1]);
+        }
+    }
+
+    private static long timeToFirstRequest(Options options, EmbeddedDatabase database, HttpClient http,
+            String profiles, List<String> extraJvmArgs, Path logFile) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options.jvmArgs());
+        command.addAll(extraJvmArgs);
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.profiles.active", profiles);
+        properties.put("spring.datasource.url", database.jdbcUrl());
+        properties.put("spring.datasource.username", database.username());
+        properties.put("spring.datasource.password", database.password());
+        properties.put("server.address", "127.0.0.1");
+        properties.put("server.port", String.valueOf(port));
+        properties.put("management.server.port", "0");
+        properties.put("jwt.secret", Base64.getEncoder().encodeToString(secret));
+        properties.put("app.archive.dir", "target/loadtest-archive");
+        // DevTools is on the classpath here but not in a packaged jar
+        properties.put("spring.devtools.restart.enabled", "false");
+        properties.forEach((key, value) -> command.add("-D" + key + "=" + value));
+        if (options.jar() != null) {
+            command.add("-jar");
+            command.add(options.jar());
+        } else {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(PetchApiApplication.class.getName());
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + options.path()))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            long deadline = started + TimeUnit.SECONDS.toNanos(options.timeoutSeconds());
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("API exited with " + process.exitValue() + ", see " + logFile);
+                }
+                try {
+                    if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+                    }
+                } catch (IOException notListeningYet) {
+                    // Connection refused until Tomcat is started
+                }
+                Thread.sleep(20);
+            }
+            throw new IllegalStateException("No response from " + options.path() + " within "
+                    + options.timeoutSeconds() + " s, see " + logFile);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
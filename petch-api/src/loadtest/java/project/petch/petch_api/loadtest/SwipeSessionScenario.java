@@ -0,0 +1,45 @@
+package project.petch.petch_api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Adopter on the discover screen: load the ranked deck, swipe through part of it, check favorites.
+ */
+final class SwipeSessionScenario implements Scenario {
+
+    private static final int SWIPES_PER_DECK = 10;
+    private static final int DECKS_BEFORE_RESET = 20;
+
+    private int decks;
+
+    @Override
+    public String name() {
+        return "swipe";
+    }
+
+    @Override
+    public Role role() {
+        return Role.ADOPTER;
+    }
+
+    @Override
+    public void iterate(ApiClient client, SeededCatalog catalog, Random random) {
+        // Long sessions would otherwise run out of unseen pets and measure an empty deck
+        if (++decks % DECKS_BEFORE_RESET == 0) {
+            client.post("POST /api/pets/discover/reset", "/api/pets/discover/reset", Map.of());
+        }
+        JsonNode deck = client.get("GET /api/pets/discover", "/api/pets/discover");
+        if (deck == null) {
+            return;
+        }
+        for (int i = 0; i < Math.min(SWIPES_PER_DECK, deck.size()); i++) {
+            long petId = deck.get(i).get("id").asLong();
+            String type = random.nextInt(4) == 0 ? "LIKE" : "PASS";
+            client.post("POST /api/pets/{id}/interact", "/api/pets/" + petId + "/interact", Map.of("type", type));
+        }
+        client.get("GET /api/pets/favorites/ids", "/api/pets/favorites/ids");
+    }
+}
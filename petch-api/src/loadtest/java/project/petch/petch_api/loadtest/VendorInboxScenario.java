@@ -0,0 +1,46 @@
+package project.petch.petch_api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Vendor working the submission inbox: unread badge, first two pages, mark one application read.
+ */
+final class VendorInboxScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "inbox";
+    }
+
+    @Override
+    public Role role() {
+        return Role.VENDOR;
+    }
+
+    @Override
+    public void iterate(ApiClient client, SeededCatalog catalog, Random random) {
+        client.get("GET /api/v1/vendor/submissions/inbox/unread-count", "/api/v1/vendor/submissions/inbox/unread-count");
+        String filter = random.nextBoolean() ? "&status=NEW" : "";
+        JsonNode page = client.get("GET /api/v1/vendor/submissions/inbox", "/api/v1/vendor/submissions/inbox?size=20" + filter);
+        if (page == null) {
+            return;
+        }
+        JsonNode cursor = page.get("nextCursor");
+        if (cursor != null && !cursor.isNull()) {
+            client.get("GET /api/v1/vendor/submissions/inbox?cursor", "/api/v1/vendor/submissions/inbox?size=20" + filter
+                    + "&cursor=" + URLEncoder.encode(cursor.asText(), StandardCharsets.UTF_8));
+        }
+        for (JsonNode item : page.path("items")) {
+            if ("NEW".equals(item.path("status").asText())) {
+                client.patch("PATCH /api/v1/vendor/submissions/{id}/status",
+                        "/api/v1/vendor/submissions/" + item.get("id").asLong() + "/status", Map.of("status", "READ"));
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package project.petch.petch_api.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Runs the configured scenario mix with one virtual thread per virtual user. Requests made during
+ * the warmup are not recorded, so JIT compilation and cold caches do not skew the percentiles.
+ */
+@Slf4j
+final class WorkloadDriver {
+
+    private static final Map<String, Supplier<Scenario>> SCENARIOS = Map.of(
+            "swipe", SwipeSessionScenario::new,
+            "browse", BrowseFilterScenario::new,
+            "inbox", VendorInboxScenario::new,
+            "admin", AdminDashboardScenario::new);
+
+    private final String baseUrl;
+    private final SeededCatalog catalog;
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private volatile boolean running;
+
+    WorkloadDriver(String baseUrl, SeededCatalog catalog, LoadTestConfig config) {
+        this.baseUrl = baseUrl;
+        this.catalog = catalog;
+        this.config = config;
+    }
+
+    List<LatencyRecorder.EndpointStats> run() throws InterruptedException {
+        List<Scenario> users = assignScenarios();
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        running = true;
+        long measuredNanos;
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users.size(); i++) {
+                int userIndex = i;
+                virtualUsers.submit(() -> runUser(userIndex, users.get(userIndex), http));
+            }
+            log.info("Started {} virtual users, warming up for {} s", users.size(), config.warmupSeconds());
+            TimeUnit.SECONDS.sleep(config.warmupSeconds());
+            recorder.start();
+            long measureStart = System.nanoTime();
+            log.info("Measuring for {} s", config.durationSeconds());
+            TimeUnit.SECONDS.sleep(config.durationSeconds());
+            recorder.stop();
+            measuredNanos = System.nanoTime() - measureStart;
+            running = false;
+        }
+        return recorder.summarize(measuredNanos);
+    }
+
+    private List<Scenario> assignScenarios() {
+        int totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+        List<Scenario> users = new ArrayList<>(config.virtualUsers());
+        config.mix().forEach((name, weight) -> {
+            Supplier<Scenario> factory = SCENARIOS.get(name);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + SCENARIOS.keySet());
+            }
+            int count = Math.max(1, Math.round((float) config.virtualUsers() * weight / totalWeight));
+            for (int i = 0; i < count; i++) {
+                users.add(factory.get());
+            }
+        });
+        return users;
+    }
+
+    private void runUser(int index, Scenario scenario, HttpClient http) {
+        // 10.x.y.z, unique per virtual user
+        String clientIp = "10." + (index >> 16 & 0xff) + "." + (index >> 8 & 0xff) + "." + (index & 0xff);
+        ApiClient client = new ApiClient(http, baseUrl, clientIp, recorder);
+        Random random = new Random(config.seed() + index);
+        try {
+            client.login(emailFor(scenario.role(), index), catalog.password());
+        } catch (RuntimeException e) {
+            log.warn("Virtual user {} ({}) could not log in: {}", index, scenario.name(), e.getMessage());
+            return;
+        }
+        while (running) {
+            try {
+                scenario.iterate(client, catalog, random);
+                if (config.thinkMs() > 0) {
+                    Thread.sleep(random.nextInt(config.thinkMs() * 2 + 1));
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Virtual user {} iteration failed: {}", index, e.getMessage());
+            }
+        }
+    }
+
+    private String emailFor(Scenario.Role role, int index) {
+        return switch (role) {
+            case ADOPTER -> catalog.adopterEmails().get(index % catalog.adopterEmails().size());
+            case VENDOR -> catalog.vendorEmails().get(index % catalog.vendorEmails().size());
+            case ADMIN -> catalog.adminEmail();
+        };
+    }
+}
@@ -1,28 +1,120 @@
 package project.petch.petch_api.config;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Configuration for async operations to avoid blocking request threads.
- * Used for non-critical operations like view count incrementing.
+ *
+ * Each workload class gets its own executor so a burst in one (e.g. SMTP fan-out)
+ * cannot starve or reject another (e.g. view counting):
+ * - countersExecutor: view-count increments, cheap and lossy
+ * - notificationsExecutor: pet-match and other outbound email
+ * - mediaExecutor: image and document processing
+ * - maintenanceExecutor: cleanup and reconciliation jobs, including hold expiry
+ * - moderationExecutor: bulk moderation deletes, which can run for minutes
+ * - exportsExecutor: streamed response bodies (catalog exports), see WebConfig
+ * Sizing and rejection policy come from {@code app.executors.pools}.
+ *
+ * With spring.threads.virtual.enabled=true (which also moves Tomcat onto virtual
+ * threads) each task runs on its own virtual thread instead of a pool, see
+ * {@link VirtualThreadTaskExecutor}; max-pool-size and queue-capacity still bound how many
+ * tasks run and wait.
  */
 @Configuration
 @EnableAsync
+@EnableConfigurationProperties(ExecutorProperties.class)
+@RequiredArgsConstructor
+@Slf4j
 public class AsyncConfig {
 
-    @Bean(name = "asyncExecutor")
-    public Executor asyncExecutor() {
+    public static final String COUNTERS_EXECUTOR = "countersExecutor";
+    public static final String NOTIFICATIONS_EXECUTOR = "notificationsExecutor";
+    public static final String MEDIA_EXECUTOR = "mediaExecutor";
+    public static final String MAINTENANCE_EXECUTOR = "maintenanceExecutor";
+    public static final String EXPORTS_EXECUTOR = "exportsExecutor";
+    public static final String MODERATION_EXECUTOR = "moderationExecutor";
+
+    private final ExecutorProperties properties;
+    private final ExecutorMetricsRegistry metricsRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean(name = COUNTERS_EXECUTOR)
+    public Executor countersExecutor() {
+        return build("counters");
+    }
+
+    @Bean(name = NOTIFICATIONS_EXECUTOR)
+    public Executor notificationsExecutor() {
+        return build("notifications");
+    }
+
+    @Bean(name = MEDIA_EXECUTOR)
+    public Executor mediaExecutor() {
+        return build("media");
+    }
+
+    @Bean(name = MAINTENANCE_EXECUTOR)
+    public Executor maintenanceExecutor() {
+        return build("maintenance");
+    }
+
+    @Bean(name = MODERATION_EXECUTOR)
+    public Executor moderationExecutor() {
+        return build("moderation");
+    }
+
+    @Bean(name = EXPORTS_EXECUTOR)
+    public AsyncTaskExecutor exportsExecutor() {
+        return build("exports");
+    }
+
+    private AsyncTaskExecutor build(String name) {
+        ExecutorProperties.Pool pool = properties.getPools().getOrDefault(name, new ExecutorProperties.Pool());
+        ExecutorMetrics metrics = metricsRegistry.register(name);
+
+        if (virtualThreadsEnabled) {
+            log.info("Executor '{}': virtual threads, running={}, waiting={}, rejection={}",
+                    name, pool.getMaxPoolSize(), pool.getQueueCapacity(), pool.getRejectionPolicy());
+            return new VirtualThreadTaskExecutor(name, pool, metrics);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Async-");
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(name + "-");
+        executor.setTaskDecorator(metrics);
+        executor.setRejectedExecutionHandler(metrics.counting(rejectionHandler(pool.getRejectionPolicy())));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(pool.getAwaitTerminationSeconds());
         executor.initialize();
+        metrics.setQueueSize(executor::getQueueSize);
+        log.info("Executor '{}': core={}, max={}, queue={}, rejection={}",
+                name, pool.getCorePoolSize(), pool.getMaxPoolSize(), pool.getQueueCapacity(),
+                pool.getRejectionPolicy());
         return executor;
     }
+
+    private static RejectedExecutionHandler rejectionHandler(ExecutorProperties.RejectionPolicy policy) {
+        return switch (policy) {
+            case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+            case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST -> new ThreadPoolExecutor.DiscardOldestPolicy();
+        };
+    }
 }
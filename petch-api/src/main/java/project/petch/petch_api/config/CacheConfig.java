@@ -1,28 +1,124 @@
 package project.petch.petch_api.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.service.PetCacheInvalidator;
+import project.petch.petch_api.service.PetService;
 
-import java.util.concurrent.TimeUnit;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Configuration for caching frequently accessed data.
  * Reduces database load for trending pets, counts, and stats.
+ *
+ * Each cache gets its own Caffeine policy from {@code app.cache.specs}. Caches with
+ * refreshAfterWrite are built as loading caches so hot keys are reloaded in the
+ * background instead of expiring into a synchronous stampede.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheSpecProperties.class)
+@Slf4j
 public class CacheConfig {
 
+    private static final Set<String> PET_DTO_CACHES = Set.of(PetCacheInvalidator.PET_DETAILS_CACHE,
+            PetCacheInvalidator.PET_LISTINGS_CACHE, PetCacheInvalidator.TRENDING_PETS_CACHE);
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .maximumSize(100));
+    public CacheManager cacheManager(CacheSpecProperties properties,
+            ObjectProvider<PetsRepository> petsRepository,
+            ObjectProvider<PetService> petService) {
+        Map<String, CacheLoader<Object, Object>> refreshLoaders = Map.of(
+                "petCounts", key -> petsRepository.getObject().count(),
+                "trendingPets", key -> petService.getObject().loadTrendingPetDTOs((Integer) key));
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                // Pet DTOs are mutable, so those caches keep and return copies
+                return PET_DTO_CACHES.contains(name)
+                        ? new PetDtoCopyingCache(name, cache, isAllowNullValues())
+                        : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        // Caches created on demand (no entry under app.cache.specs) use the defaults
+        cacheManager.setCaffeine(newBuilder(properties.getDefaults()));
+
+        properties.getSpecs().forEach((name, spec) -> {
+            Caffeine<Object, Object> builder = newBuilder(spec);
+            if (spec.getRefreshAfterWrite() != null) {
+                CacheLoader<Object, Object> loader = refreshLoaders.get(name);
+                if (loader == null) {
+                    throw new IllegalStateException("Cache '" + name + "' sets refresh-after-write but has no refresh loader");
+                }
+                cacheManager.registerCustomCache(name, builder.refreshAfterWrite(spec.getRefreshAfterWrite()).build(loader));
+            } else {
+                cacheManager.registerCustomCache(name, builder.build());
+            }
+            log.info("Registered cache '{}': expireAfterWrite={}, refreshAfterWrite={}, maximumSize={}, maximumWeight={}",
+                    name, spec.getExpireAfterWrite(), spec.getRefreshAfterWrite(), spec.getMaximumSize(), spec.getMaximumWeight());
+        });
         return cacheManager;
     }
+
+    /**
+     * Normalized key for GET /api/pets listing pages so equivalent filters share an entry.
+     * Matching in the listing query is case-insensitive, and a blank search matches everything.
+     */
+    @Bean
+    public KeyGenerator petListingKeyGenerator() {
+        return (target, method, params) -> {
+            String search = (String) params[0];
+            String species = (String) params[1];
+            Pageable pageable = (Pageable) params[7];
+            return new SimpleKey(
+                    search == null || search.isBlank() ? null : search.toLowerCase(),
+                    species == null ? null : species.toLowerCase(),
+                    params[2], params[3], params[4], params[5], params[6],
+                    pageable.getPageNumber(), pageable.getPageSize());
+        };
+    }
+
+    private Caffeine<Object, Object> newBuilder(CacheSpecProperties.Spec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder();
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getMaximumWeight() != null) {
+            builder.maximumWeight(spec.getMaximumWeight())
+                    .weigher((Object key, Object value) -> weigh(value));
+        } else if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
+        return builder;
+    }
+
+    private static int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Slice<?> slice) {
+            return Math.max(1, slice.getNumberOfElements());
+        }
+        return 1;
+    }
 }
@@ -0,0 +1,38 @@
+package project.petch.petch_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-cache Caffeine settings bound from {@code app.cache.*} in application.yaml.
+ * Caches without an entry under {@code specs} fall back to {@code defaults}.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSpecProperties {
+
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+        // Hard TTL; entries older than this are never served
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+
+        // Async refresh-ahead; must be shorter than expireAfterWrite and needs a refresh loader
+        private Duration refreshAfterWrite;
+
+        // Entry-count bound, ignored when maximumWeight is set
+        private Long maximumSize = 100L;
+
+        // Weight bound; collections and pages weigh their element count, everything else weighs 1
+        private Long maximumWeight;
+
+        private boolean recordStats = true;
+    }
+}
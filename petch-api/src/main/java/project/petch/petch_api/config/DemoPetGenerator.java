@@ -0,0 +1,141 @@
+package project.petch.petch_api.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import project.petch.petch_api.models.AdoptionDetails;
+import project.petch.petch_api.models.Images;
+import project.petch.petch_api.models.Pets;
+
+/**
+ * Builds the demo catalog used by {@link DemoDataSeeder}. Kept separate so benchmarks and load
+ * tests can generate the same shape of data with a seeded {@link Random}.
+ */
+public final class DemoPetGenerator {
+
+        private static final String[] NAMES = {
+                        "Max", "Luna", "Buddy", "Bella", "Charlie", "Molly", "Rocky", "Lucy", "Cooper", "Daisy",
+                        "Duke", "Lola", "Bear", "Sadie", "Tucker", "Maggie", "Jack", "Sophie", "Bailey", "Chloe",
+                        "Zeus", "Lily", "Riley", "Ruby", "Buster", "Rosie", "Jake", "Zoey", "Harley", "Penny",
+                        "Toby", "Ginger", "Murphy", "Nala", "Leo", "Gracie", "Oscar", "Mia", "Winston", "Sasha",
+                        "Sam", "Abby", "Louie", "Roxie", "Koda", "Misty", "Gus", "Stella", "Jax", "Emma"
+        };
+
+        private static final String[] DOG_BREEDS = {
+                        "Golden Retriever", "Labrador", "French Bulldog", "German Shepherd", "Beagle",
+                        "Poodle", "Rottweiler", "Yorkshire Terrier", "Dachshund", "Boxer", "Husky"
+        };
+
+        private static final String[] CAT_BREEDS = {
+                        "Siamese", "Persian", "Maine Coon", "Bengal", "Sphynx", "Ragdoll",
+                        "British Shorthair", "Abyssinian"
+        };
+
+        private static final String[] BIRD_BREEDS = {
+                        "Parrot", "Cockatiel", "Canary", "Lovebird", "Finch", "Budgie"
+        };
+
+        private static final String[] RABBIT_BREEDS = {
+                        "Holland Lop", "Netherland Dwarf", "Mini Rex", "Lionhead", "Flemish Giant"
+        };
+
+        public static final String[] SPECIES = { "Dog", "Cat", "Bird", "Rabbit", "Other" };
+
+        private DemoPetGenerator() {
+        }
+
+        /**
+         * Generate {@code count} unsaved pets with images and adoption details
+         */
+        public static List<Pets> generate(int count, Random random) {
+                List<Pets> pets = new ArrayList<>(count);
+
+                for (int i = 0; i < count; i++) {
+                        String name = NAMES[random.nextInt(NAMES.length)];
+                        String species = SPECIES[random.nextInt(SPECIES.length)];
+                        String breed;
+                        String imageUrl;
+
+                        switch (species) {
+                                case "Dog":
+                                        breed = DOG_BREEDS[random.nextInt(DOG_BREEDS.length)];
+                                        imageUrl = "https://images.unsplash.com/photo-1543466835-00a7907e9de1?w=800&sig=" + i;
+                                        break;
+                                case "Cat":
+                                        breed = CAT_BREEDS[random.nextInt(CAT_BREEDS.length)];
+                                        imageUrl = "https://images.unsplash.com/photo-1514888286974-6c03e2ca1dba?w=800&sig=" + i;
+                                        break;
+                                case "Bird":
+                                        breed = BIRD_BREEDS[random.nextInt(BIRD_BREEDS.length)];
+                                        imageUrl = "https://images.unsplash.com/photo-1552728089-57bdde30beb3?w=800&sig=" + i;
+                                        break;
+                                case "Rabbit":
+                                        breed = RABBIT_BREEDS[random.nextInt(RABBIT_BREEDS.length)];
+                                        imageUrl = "https://images.unsplash.com/photo-1585110396000-c9ffd4e4b308?w=800&sig=" + i;
+                                        break;
+                                default:
+                                        breed = "Mixed";
+                                        imageUrl = "https://images.unsplash.com/photo-1583337130417-3346a1be7dee?w=800&sig=" + i;
+                                        break;
+                        }
+
+                        boolean atRisk = random.nextDouble() < 0.2; // 20% at risk
+                        boolean fosterable = random.nextDouble() < 0.4; // 40% fosterable
+                        int age = random.nextInt(15) + 1;
+                        int price = (random.nextInt(45) + 5) * 10; // $50 to $500
+
+                        // Random coordinates within USA approximate range
+                        double lat = 25.0 + (49.0 - 25.0) * random.nextDouble();
+                        double lng = -124.0 + (124.0 - 66.0) * random.nextDouble();
+
+                        pets.add(createPet(name, species, breed, age,
+                                        "This lovely " + breed + " named " + name + " is looking for a new family. "
+                                                        + "Very friendly and healthy.",
+                                        atRisk, fosterable, lat, lng, imageUrl, price, random));
+                }
+                return pets;
+        }
+
+        private static Pets createPet(String name, String species, String breed, int age, String description,
+                        boolean atRisk, boolean fosterable, double lat, double lng,
+                        String imageUrl, int price, Random random) {
+                Pets pet = Pets.builder()
+                                .name(name)
+                                .species(species)
+                                .breed(breed)
+                                .age(age)
+                                .description(description)
+                                .atRisk(atRisk)
+                                .fosterable(fosterable)
+                                .latitude(lat)
+                                .longitude(lng)
+                                .build();
+
+                // Create image with external URL
+                Images image = Images.builder()
+                                .fileName("pet_" + System.nanoTime() + ".jpg")
+                                .filePath(imageUrl)
+                                .altText(name + " - " + breed)
+                                .fileSize(0L)
+                                .pet(pet)
+                                .build();
+
+                pet.getImages().add(image);
+
+                // Create adoption details
+                AdoptionDetails adoptionDetails = AdoptionDetails.builder()
+                                .priceEstimate((double) price)
+                                .stepsDescription(
+                                                "1. Initial application\n2. Home visit\n3. Meet and greet\n4. Adoption contract")
+                                .email("adopt@petch.com")
+                                .phoneNumber("555-" + (100 + random.nextInt(900)) + "-" + (1000 + random.nextInt(9000)))
+                                .isDirect(true)
+                                .pet(pet)
+                                .build();
+
+                pet.setAdoptionDetails(adoptionDetails);
+
+                return pet;
+        }
+}
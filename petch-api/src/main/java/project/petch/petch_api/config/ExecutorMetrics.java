@@ -0,0 +1,118 @@
+package project.petch.petch_api.config;
+
+import org.springframework.core.task.TaskDecorator;
+import project.petch.petch_api.dto.admin.ExecutorStatsDto;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * Counters for one named executor. Installed as its TaskDecorator so every task is
+ * timed from submission (queue wait) through completion (run time).
+ */
+public class ExecutorMetrics implements TaskDecorator {
+
+    private final String name;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalRunNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private volatile IntSupplier queueSize = () -> 0;
+
+    public ExecutorMetrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    void setQueueSize(IntSupplier queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+        long submittedAt = System.nanoTime();
+        submitted.increment();
+        return () -> {
+            long startedAt = System.nanoTime();
+            totalQueueWaitNanos.add(startedAt - submittedAt);
+            active.incrementAndGet();
+            try {
+                task.run();
+                completed.increment();
+            } catch (RuntimeException | Error e) {
+                failed.increment();
+                throw e;
+            } finally {
+                active.decrementAndGet();
+                long finishedAt = System.nanoTime();
+                totalRunNanos.add(finishedAt - startedAt);
+                maxLatencyNanos.accumulateAndGet(finishedAt - submittedAt, Math::max);
+            }
+        };
+    }
+
+    /**
+     * Counts rejections before handing the task to the configured policy.
+     */
+    RejectedExecutionHandler counting(RejectedExecutionHandler delegate) {
+        return (task, executor) -> {
+            recordRejected();
+            delegate.rejectedExecution(task, executor);
+        };
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public int getQueueSize() {
+        return queueSize.getAsInt();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public ExecutorStatsDto snapshot() {
+        long finished = completed.sum() + failed.sum();
+        long started = finished + active.get();
+        return ExecutorStatsDto.builder()
+                .name(name)
+                .activeCount(active.get())
+                .queueSize(getQueueSize())
+                .submittedCount(submitted.sum())
+                .completedCount(completed.sum())
+                .failedCount(failed.sum())
+                .rejectedCount(rejected.sum())
+                .averageQueueWaitMs(started == 0 ? 0 : totalQueueWaitNanos.sum() / 1_000_000.0 / started)
+                .averageRunMs(finished == 0 ? 0 : totalRunNanos.sum() / 1_000_000.0 / finished)
+                .maxLatencyMs(maxLatencyNanos.get() / 1_000_000.0)
+                .build();
+    }
+}
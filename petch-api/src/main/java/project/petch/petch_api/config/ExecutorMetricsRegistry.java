@@ -0,0 +1,25 @@
+package project.petch.petch_api.config;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Metrics for every named executor built by AsyncConfig, keyed by pool name.
+ */
+@Component
+public class ExecutorMetricsRegistry {
+
+    private final Map<String, ExecutorMetrics> metrics = new ConcurrentSkipListMap<>();
+
+    ExecutorMetrics register(String name) {
+        return metrics.computeIfAbsent(name, ExecutorMetrics::new);
+    }
+
+    public Collection<ExecutorMetrics> getAll() {
+        return Collections.unmodifiableCollection(metrics.values());
+    }
+}
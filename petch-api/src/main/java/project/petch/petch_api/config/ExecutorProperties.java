@@ -0,0 +1,48 @@
+package project.petch.petch_api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-workload executor settings bound from {@code app.executors.*} in application.yaml.
+ * Pools are looked up by the names AsyncConfig declares its executor beans with (counters,
+ * notifications, ...); a missing entry falls back to the defaults below, and entries with any
+ * other name are ignored.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.executors")
+public class ExecutorProperties {
+
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    @Data
+    public static class Pool {
+        // Ignored in virtual-thread mode, where threads are never kept around
+        private int corePoolSize = 1;
+
+        // Also the number of tasks running at once in virtual-thread mode
+        private int maxPoolSize = 2;
+
+        // Also the number of tasks that may wait for a slot in virtual-thread mode
+        private int queueCapacity = 100;
+
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+        // How long shutdown waits for queued and running tasks to drain
+        private int awaitTerminationSeconds = 10;
+    }
+
+    public enum RejectionPolicy {
+        // Throw TaskRejectedException to the submitter
+        ABORT,
+        // Run on the submitting thread, slowing the producer down
+        CALLER_RUNS,
+        // Drop the new task
+        DISCARD,
+        // Drop the oldest queued task and retry the new one
+        DISCARD_OLDEST
+    }
+}
@@ -1,5 +1,7 @@
 package project.petch.petch_api.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +34,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -52,6 +55,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Extract the token (remove "Bearer " prefix)
         jwt = authHeader.substring(7);
 
+        // Outcome stays "skipped" when the request is already authenticated
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "skipped";
         try {
             // Extract username (email) from JWT token
             userEmail = jwtService.extractUsername(jwt);
@@ -78,7 +84,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // Update security context with authenticated user
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                     log.debug("User authenticated successfully: {}", LoggingUtils.maskEmail(userEmail));
+                    outcome = "valid";
                 } else {
+                    outcome = "invalid";
                     log.warn("Invalid JWT token for user: {}", LoggingUtils.maskEmail(userEmail));
                 }
             }
@@ -87,6 +95,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // This allows the request to proceed but as unauthenticated
             // Spring Security will handle blocking access to protected endpoints
             log.warn("JWT validation error: {}", e.getMessage());
+            outcome = "error";
+        } finally {
+            sample.stop(meterRegistry.timer("petch.jwt.validation", "outcome", outcome));
         }
 
         // Continue with the filter chain
@@ -0,0 +1,86 @@
+package project.petch.petch_api.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import project.petch.petch_api.dto.admin.SecurityEventType;
+import project.petch.petch_api.service.PetGeoService;
+import project.petch.petch_api.service.PetHoldService;
+import project.petch.petch_api.service.SecurityEventLogger;
+
+/**
+ * Exposes the app's own in-memory counters to Micrometer. Hikari, Caffeine (with
+ * recordStats) and JVM metrics are bound by Spring Boot; timers on service methods use @Timed.
+ *
+ * Tags are limited to fixed sets (pool name, endpoint type) so series counts stay bounded.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder executorMeters(ExecutorMetricsRegistry executorMetricsRegistry) {
+        return registry -> executorMetricsRegistry.getAll().forEach(metrics -> {
+            String pool = metrics.getName();
+            Gauge.builder("petch.executor.active", metrics, ExecutorMetrics::getActiveCount)
+                    .tag("pool", pool).description("Tasks currently running").register(registry);
+            Gauge.builder("petch.executor.queued", metrics, ExecutorMetrics::getQueueSize)
+                    .tag("pool", pool).description("Tasks waiting in the queue").register(registry);
+            FunctionCounter.builder("petch.executor.submitted", metrics, ExecutorMetrics::getSubmittedCount)
+                    .tag("pool", pool).register(registry);
+            FunctionCounter.builder("petch.executor.completed", metrics, ExecutorMetrics::getCompletedCount)
+                    .tag("pool", pool).register(registry);
+            FunctionCounter.builder("petch.executor.failed", metrics, ExecutorMetrics::getFailedCount)
+                    .tag("pool", pool).register(registry);
+            FunctionCounter.builder("petch.executor.rejected", metrics, ExecutorMetrics::getRejectedCount)
+                    .tag("pool", pool).register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder rateLimiterMeters(RateLimitingFilter rateLimitingFilter) {
+        return registry -> {
+            Gauge.builder("petch.ratelimit.buckets", rateLimitingFilter, RateLimitingFilter::getBucketCount)
+                    .description("Live per-client rate limit buckets").register(registry);
+            for (String endpoint : new String[] { RateLimitingFilter.AUTH_ENDPOINT, RateLimitingFilter.UPLOAD_ENDPOINT,
+                    RateLimitingFilter.EXPORT_ENDPOINT }) {
+                FunctionCounter.builder("petch.ratelimit.rejected", rateLimitingFilter,
+                                filter -> filter.getRejectedCount(endpoint))
+                        .tag("endpoint", endpoint).description("Requests rejected with 429").register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder petHoldMeters(PetHoldService petHoldService) {
+        return registry -> Gauge.builder("petch.holds.pending", petHoldService, PetHoldService::pendingExpirations)
+                .description("Pending holds waiting to expire on this node").register(registry);
+    }
+
+    @Bean
+    public MeterBinder petGeoMeters(PetGeoService petGeoService) {
+        return registry -> Gauge.builder("petch.geo.indexed_pets", petGeoService, PetGeoService::getIndexedCount)
+                .description("Available pets with a location in the geo index").register(registry);
+    }
+
+    @Bean
+    public MeterBinder securityEventMeters(SecurityEventLogger securityEventLogger) {
+        return registry -> {
+            for (SecurityEventType type : SecurityEventType.values()) {
+                FunctionCounter.builder("petch.security.events", securityEventLogger,
+                                logger -> logger.getRecordedCount(type))
+                        .tag("type", type.name()).description("Security events, including aggregated repeats")
+                        .register(registry);
+            }
+            FunctionCounter.builder("petch.security.events.suppressed", securityEventLogger,
+                            SecurityEventLogger::getSuppressedCount)
+                    .description("Repeats folded into per-IP summaries").register(registry);
+            FunctionCounter.builder("petch.security.events.dropped", securityEventLogger,
+                            SecurityEventLogger::getDroppedCount)
+                    .description("Events lost because the log queue was full").register(registry);
+            Gauge.builder("petch.security.events.queued", securityEventLogger, SecurityEventLogger::getQueueSize)
+                    .register(registry);
+        };
+    }
+}
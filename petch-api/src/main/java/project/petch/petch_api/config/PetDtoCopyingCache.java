@@ -0,0 +1,66 @@
+package project.petch.petch_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import project.petch.petch_api.dto.pet.PetDTO;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Caffeine cache for pet DTOs that stores and hands out deep copies, so callers never share a
+ * mutable {@link PetDTO} with the cache or with each other. Handles the shapes PetService caches:
+ * a DTO, an Optional, a List, a Page or a Slice of DTOs.
+ */
+class PetDtoCopyingCache extends CaffeineCache {
+
+    PetDtoCopyingCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return copy(super.lookup(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) copy(super.get(key, valueLoader));
+    }
+
+    // On a miss @Cacheable puts the method's result and also returns it, so store a separate copy
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, copy(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, copy(value));
+        return existing == null ? null : new SimpleValueWrapper(copy(existing.get()));
+    }
+
+    static Object copy(Object value) {
+        if (value instanceof PetDTO dto) {
+            return dto.copy();
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.map(PetDtoCopyingCache::copy);
+        }
+        if (value instanceof Page<?> page) {
+            return page.map(PetDtoCopyingCache::copy);
+        }
+        if (value instanceof Slice<?> slice) {
+            return slice.map(PetDtoCopyingCache::copy);
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(PetDtoCopyingCache::copy).toList();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,67 @@
+package project.petch.petch_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the JDBC statements each request runs (see {@link QueryTrackingConfig}) and records them
+ * in petch.http.jdbc.statements, tagged by method and route pattern. Requests over
+ * {@code app.jdbc.request-statement-warn} statements are logged, which is usually an N+1.
+ *
+ * Runs ahead of Spring Security so user lookups during authentication are included. Counts are
+ * cleared when a request starts rather than when it ends, so MockMvc tests can read them after
+ * {@code perform()}.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.jdbc.query-tracking.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+            @Value("${app.jdbc.request-statement-warn:30}") long warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        QueryCountHolder.clear();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCount count = QueryCountHolder.getGrandTotal();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : "UNKNOWN";
+            meterRegistry.summary("petch.http.jdbc.statements", "method", request.getMethod(), "uri", route)
+                    .record(count.getTotal());
+            if (count.getTotal() > warnThreshold) {
+                log.warn("{} {} ran {} JDBC statements ({} select, {} insert, {} update, {} delete) taking {} ms",
+                        request.getMethod(), route, count.getTotal(), count.getSelect(), count.getInsert(),
+                        count.getUpdate(), count.getDelete(), count.getTime());
+            }
+        }
+    }
+}
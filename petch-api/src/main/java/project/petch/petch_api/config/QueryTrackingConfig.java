@@ -0,0 +1,113 @@
+package project.petch.petch_api.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Wraps the DataSource in a datasource-proxy that counts JDBC statements per thread and reports
+ * slow ones. Covers JPA and JdbcTemplate alike, since both go through the same pool.
+ *
+ * Per-thread counts ({@code QueryCountHolder}) are read per HTTP request by {@link QueryCountFilter}
+ * and by tests to pin statement budgets. Statements slower than {@code app.jdbc.slow-query-ms} are
+ * logged with their SQL and the types of their bound parameters, never the values, and counted
+ * in petch.jdbc.slow_statements.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jdbc.query-tracking.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class QueryTrackingConfig {
+
+    @Bean
+    public static BeanPostProcessor queryTrackingDataSourceProxy(Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    long slowQueryMs = environment.getProperty("app.jdbc.slow-query-ms", Long.class, 200L);
+                    log.info("Tracking JDBC statements on '{}' (slow threshold {} ms)", beanName, slowQueryMs);
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .countQuery()
+                            .listener(new SlowStatementListener(slowQueryMs, meterRegistry))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class SlowStatementListener implements QueryExecutionListener {
+
+        private final long thresholdMs;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        SlowStatementListener(long thresholdMs, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.thresholdMs = thresholdMs;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (execInfo.getElapsedTime() < thresholdMs || queryInfoList.isEmpty()) {
+                return;
+            }
+            QueryInfo first = queryInfoList.get(0);
+            String type = QueryUtils.getQueryType(first.getQuery()).name().toLowerCase(Locale.ROOT);
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                registry.counter("petch.jdbc.slow_statements", "type", type).increment();
+            }
+            log.warn("Slow SQL ({} ms{}{}): {} params={}",
+                    execInfo.getElapsedTime(),
+                    execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+                    execInfo.isSuccess() ? "" : ", failed",
+                    first.getQuery(),
+                    parameterShape(first));
+        }
+
+        /**
+         * Types of the first parameter set in bind order, e.g. [Long, String, null].
+         */
+        static String parameterShape(QueryInfo query) {
+            if (query.getParametersList().isEmpty()) {
+                return "[]";
+            }
+            return query.getParametersList().get(0).stream()
+                    .sorted(Comparator.comparingInt(operation ->
+                            operation.getArgs()[0] instanceof Integer index ? index : 0))
+                    .map(SlowStatementListener::typeOf)
+                    .collect(Collectors.joining(", ", "[", "]"));
+        }
+
+        private static String typeOf(ParameterSetOperation operation) {
+            if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+                return "null";
+            }
+            Object[] args = operation.getArgs();
+            return args.length < 2 || args[1] == null ? "null" : args[1].getClass().getSimpleName();
+        }
+    }
+}
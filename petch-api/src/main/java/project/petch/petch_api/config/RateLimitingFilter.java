@@ -19,6 +19,7 @@ import java.time.Duration;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Rate limiting filter for sensitive endpoints.
@@ -27,6 +28,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * Rate limits:
  * - Authentication endpoints (/api/auth/*): 10 requests/minute
  * - Image upload endpoints: 5 requests/minute
+ * - Catalog export (/api/pets/export): 5 requests/minute
  * 
  * Includes automatic cleanup of stale buckets every 5 minutes.
  */
@@ -34,12 +36,21 @@ import java.util.concurrent.ConcurrentHashMap;
 @Order(1)
 public class RateLimitingFilter extends OncePerRequestFilter {
 
+    public static final String AUTH_ENDPOINT = "auth";
+    public static final String UPLOAD_ENDPOINT = "upload";
+    public static final String EXPORT_ENDPOINT = "export";
+
     // Store rate limit buckets per IP address with timestamps
     private final Map<String, BucketEntry> buckets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> rejections = Map.of(
+            AUTH_ENDPOINT, new LongAdder(),
+            UPLOAD_ENDPOINT, new LongAdder(),
+            EXPORT_ENDPOINT, new LongAdder());
 
     // Configuration constants
     private static final int AUTH_REQUESTS_PER_MINUTE = 20;
     private static final int UPLOAD_REQUESTS_PER_MINUTE = 10;
+    private static final int EXPORT_REQUESTS_PER_MINUTE = 5;
     private static final long BUCKET_EXPIRY_MS = 10 * 60 * 1000; // 10 minutes
 
     private SecurityEventLogger securityEventLogger;
@@ -67,11 +78,15 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 
         // Apply rate limiting based on endpoint type
         if (path.startsWith("/api/auth/")) {
-            if (!checkRateLimit(clientIp, "auth", AUTH_REQUESTS_PER_MINUTE, path, response)) {
+            if (!checkRateLimit(clientIp, AUTH_ENDPOINT, AUTH_REQUESTS_PER_MINUTE, path, response)) {
                 return;
             }
         } else if (path.contains("/upload-image")) {
-            if (!checkRateLimit(clientIp, "upload", UPLOAD_REQUESTS_PER_MINUTE, path, response)) {
+            if (!checkRateLimit(clientIp, UPLOAD_ENDPOINT, UPLOAD_REQUESTS_PER_MINUTE, path, response)) {
+                return;
+            }
+        } else if (path.equals("/api/pets/export")) {
+            if (!checkRateLimit(clientIp, EXPORT_ENDPOINT, EXPORT_REQUESTS_PER_MINUTE, path, response)) {
                 return;
             }
         }
@@ -88,19 +103,11 @@ public class RateLimitingFilter extends OncePerRequestFilter {
     private boolean checkRateLimit(String clientIp, String endpointType, int limit, String path,
             HttpServletResponse response)
             throws IOException {
-        String bucketKey = clientIp + ":" + endpointType;
-
-        BucketEntry entry = buckets.compute(bucketKey, (key, existing) -> {
-            if (existing == null) {
-                return new BucketEntry(createNewBucket(limit), System.currentTimeMillis());
-            }
-            return existing.withUpdatedTime();
-        });
-
-        if (entry.bucket().tryConsume(1)) {
+        if (resolveBucket(clientIp, endpointType, limit).tryConsume(1)) {
             return true;
         } else {
-            // Rate limit exceeded - log and return 429
+            // Rate limit exceeded - count, log and return 429
+            rejections.get(endpointType).increment();
             if (securityEventLogger != null) {
                 securityEventLogger.logRateLimitExceeded(clientIp, path);
             }
@@ -112,6 +119,35 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         }
     }
 
+    /**
+     * Find or create the bucket for a client and endpoint type, refreshing its last access time.
+     */
+    Bucket resolveBucket(String clientIp, String endpointType, int limit) {
+        String bucketKey = clientIp + ":" + endpointType;
+
+        BucketEntry entry = buckets.compute(bucketKey, (key, existing) -> {
+            if (existing == null) {
+                return new BucketEntry(createNewBucket(limit), System.currentTimeMillis());
+            }
+            return existing.withUpdatedTime();
+        });
+        return entry.bucket();
+    }
+
+    /**
+     * Number of live buckets (one per client IP and endpoint type).
+     */
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    /**
+     * Requests rejected with 429 since startup for an endpoint type.
+     */
+    public long getRejectedCount(String endpointType) {
+        return rejections.get(endpointType).sum();
+    }
+
     /**
      * Create a new rate limit bucket.
      * 
@@ -81,14 +81,22 @@ public class SecurityConfig {
                                                                 "/api/auth/**", // All authentication endpoints
                                                                 "/api/public/**", // Any public endpoints
                                                                 "/error", // Error endpoint
-                                                                "/actuator/health", // Health check endpoint (if using
-                                                                                    // actuator)
+                                                                "/actuator/health", // Health check endpoint
                                                                 "/uploads/**" // Allow access to uploaded images
                                                 ).permitAll()
 
+                                                // SECURITY: Prometheus scrapes without a token; actuator is served
+                                                // on the management port, which must stay off the public network
+                                                .requestMatchers("/actuator/prometheus").permitAll()
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                                                 // Admin endpoints
                                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                                                // SECURITY: The catalog export is a long-running stream for partner
+                                                // feeds; keep it off the public GET rule below
+                                                .requestMatchers(HttpMethod.GET, "/api/pets/export").hasRole("ADMIN")
+
                                                 // Allow GET requests to pet endpoints (viewing only)
                                                 .requestMatchers(HttpMethod.GET, "/api/pets/**").permitAll()
 
@@ -0,0 +1,73 @@
+package project.petch.petch_api.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executor for virtual-thread mode: every task gets a new virtual thread, nothing is pooled.
+ *
+ * The pool settings still bound the work. At most {@code max-pool-size} tasks run at once; up to
+ * {@code queue-capacity} more wait, parked on their own virtual thread, and count as queued.
+ * Beyond that the rejection policy applies: CALLER_RUNS blocks the submitter until a slot frees,
+ * ABORT throws {@link TaskRejectedException}, and the DISCARD policies drop the new task.
+ * {@code core-pool-size} has no meaning here.
+ */
+class VirtualThreadTaskExecutor implements AsyncTaskExecutor, AutoCloseable {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore running;
+    private final ExecutorProperties.RejectionPolicy rejectionPolicy;
+    private final ExecutorMetrics metrics;
+
+    VirtualThreadTaskExecutor(String name, ExecutorProperties.Pool pool, ExecutorMetrics metrics) {
+        this.running = new Semaphore(pool.getMaxPoolSize(), true);
+        this.rejectionPolicy = pool.getRejectionPolicy();
+        this.metrics = metrics;
+        this.delegate = new SimpleAsyncTaskExecutor(name + "-vt-");
+        delegate.setVirtualThreads(true);
+        delegate.setConcurrencyLimit(pool.getMaxPoolSize() + pool.getQueueCapacity());
+        delegate.setRejectTasksWhenLimitReached(rejectionPolicy != ExecutorProperties.RejectionPolicy.CALLER_RUNS);
+        // The metrics wrapper sits inside the gate, so time spent waiting for a slot is queue wait
+        delegate.setTaskDecorator(task -> gated(metrics.decorate(task)));
+        delegate.setTaskTerminationTimeout(pool.getAwaitTerminationSeconds() * 1000L);
+        metrics.setQueueSize(running::getQueueLength);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        try {
+            delegate.execute(task);
+        } catch (TaskRejectedException e) {
+            metrics.recordRejected();
+            if (rejectionPolicy == ExecutorProperties.RejectionPolicy.DISCARD
+                    || rejectionPolicy == ExecutorProperties.RejectionPolicy.DISCARD_OLDEST) {
+                return;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private Runnable gated(Runnable task) {
+        return () -> {
+            try {
+                running.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                running.release();
+            }
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package project.petch.petch_api.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -14,10 +17,27 @@ public class WebConfig implements WebMvcConfigurer {
     @Value("${app.upload.dir:uploads/images}")
     private String uploadDir;
 
+    // Streamed exports can take minutes on a large catalog; SSE emitters set their own timeout
+    @Value("${app.export.timeout-ms:600000}")
+    private long exportTimeoutMs;
+
+    private final AsyncTaskExecutor exportsExecutor;
+
+    public WebConfig(@Qualifier(AsyncConfig.EXPORTS_EXECUTOR) AsyncTaskExecutor exportsExecutor) {
+        this.exportsExecutor = exportsExecutor;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry){
         Path uploadPath = Paths.get(uploadDir).toAbsolutePath();
         String uploadPathString = uploadPath.toUri().toString();
         registry.addResourceHandler("/uploads/images/**").addResourceLocations(uploadPathString);
     }
+
+    // StreamingResponseBody and Callable handlers run on the bounded exports pool, not an unbounded default
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(exportsExecutor);
+        configurer.setDefaultTimeout(exportTimeoutMs);
+    }
 }
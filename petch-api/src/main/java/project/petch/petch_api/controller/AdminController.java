@@ -3,17 +3,26 @@ package project.petch.petch_api.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import project.petch.petch_api.dto.admin.AdminStatsDto;
+import project.petch.petch_api.dto.admin.BulkDeleteRequest;
+import project.petch.petch_api.dto.admin.BulkResolveReportsRequest;
 import project.petch.petch_api.dto.admin.ReviewVendorVerificationRequest;
+import project.petch.petch_api.dto.admin.SecurityEventType;
 import project.petch.petch_api.dto.report.ResolveReportRequest;
 import project.petch.petch_api.models.VerificationRequestStatus;
+import project.petch.petch_api.service.AdminEventStreamService;
 import project.petch.petch_api.service.AdminService;
+import project.petch.petch_api.service.BulkModerationService;
 import project.petch.petch_api.service.ReportService;
 
+// PERFORMANCE: Created on the first admin request, with AdminService and BulkModerationService
+@Lazy
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
@@ -22,6 +31,8 @@ public class AdminController {
 
     private final AdminService adminService;
     private final ReportService reportService;
+    private final AdminEventStreamService adminEventStreamService;
+    private final BulkModerationService bulkModerationService;
 
     @GetMapping("/stats")
     public ResponseEntity<AdminStatsDto> getStats() {
@@ -31,6 +42,22 @@ public class AdminController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Live dashboard updates: an initial "stats" event, then one event per committed
+     * report, verification, adoption or registration change.
+     * PERFORMANCE: Replaces polling /stats, /reports and /verification-requests.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> stream() {
+        log.debug("Admin opening event stream");
+        try {
+            return ResponseEntity.ok(adminEventStreamService.subscribe(adminService.getStats()));
+        } catch (IllegalStateException e) {
+            log.warn("Admin event stream rejected: {}", e.getMessage());
+            return ResponseEntity.status(503).body(e.getMessage());
+        }
+    }
+
     // PERFORMANCE: Added pagination to avoid loading all users at once
     @GetMapping("/users")
     public ResponseEntity<?> getAllUsers(
@@ -80,12 +107,79 @@ public class AdminController {
         }
     }
 
+    /**
+     * Bulk pet deletion by ID set or vendorId. Returns 202 with a job to poll at /jobs/{id}.
+     */
+    @PostMapping("/bulk/pets/delete")
+    public ResponseEntity<?> bulkDeletePets(@Valid @RequestBody BulkDeleteRequest request) {
+        log.warn("Admin bulk deleting pets: count={}, vendorId={}",
+                request.ids() == null ? 0 : request.ids().size(), request.vendorId());
+        try {
+            return ResponseEntity.accepted().body(bulkModerationService.deletePets(request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(503).body(java.util.Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/bulk/users/delete")
+    public ResponseEntity<?> bulkDeleteUsers(@Valid @RequestBody BulkDeleteRequest request) {
+        log.warn("Admin bulk deleting users: count={}", request.ids() == null ? 0 : request.ids().size());
+        try {
+            return ResponseEntity.accepted().body(bulkModerationService.deleteUsers(request));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PostMapping("/bulk/reports/resolve")
+    public ResponseEntity<?> bulkResolveReports(@Valid @RequestBody BulkResolveReportsRequest request) {
+        log.info("Admin bulk resolving reports: count={}, status={}", request.ids().size(), request.status());
+        try {
+            return ResponseEntity.ok(java.util.Map.of("updated", bulkModerationService.resolveReports(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable String jobId) {
+        log.debug("Admin fetching moderation job: id={}", jobId);
+        try {
+            return ResponseEntity.ok(bulkModerationService.getJob(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> getCacheStats() {
+        log.debug("Fetching cache statistics");
+        return ResponseEntity.ok(adminService.getCacheStats());
+    }
+
+    @GetMapping("/executors")
+    public ResponseEntity<?> getExecutorStats() {
+        log.debug("Fetching executor statistics");
+        return ResponseEntity.ok(adminService.getExecutorStats());
+    }
+
     @GetMapping("/audit-logs")
     public ResponseEntity<?> getAuditLogs() {
         log.debug("Fetching admin audit logs");
         return ResponseEntity.ok(adminService.getRecentAuditLogs());
     }
 
+    @GetMapping("/security-events")
+    public ResponseEntity<?> getSecurityEvents(
+            @RequestParam(required = false) SecurityEventType type,
+            @RequestParam(required = false) String ip,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.debug("Fetching security events");
+        return ResponseEntity.ok(adminService.getRecentSecurityEvents(type, ip, limit));
+    }
+
     @GetMapping("/verification-requests")
     public ResponseEntity<?> getVerificationRequests(
             @RequestParam(required = false) VerificationRequestStatus status) {
@@ -115,6 +209,17 @@ public class AdminController {
         return ResponseEntity.ok(reportService.getReports(status, pageable));
     }
 
+    // PERFORMANCE: Moderation queue served from pet_report_aggregates, not by grouping raw reports
+    @GetMapping("/reports/most-reported")
+    public ResponseEntity<?> getMostReportedPets(
+            @RequestParam(defaultValue = "true") boolean pendingOnly,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Admin fetching most reported pets: pendingOnly={}, page={}, size={}", pendingOnly, page, size);
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(reportService.getMostReportedPets(pendingOnly, pageable));
+    }
+
     @GetMapping("/reports/{id}")
     public ResponseEntity<?> getReport(@PathVariable Long id) {
         log.debug("Admin fetching report: id={}", id);
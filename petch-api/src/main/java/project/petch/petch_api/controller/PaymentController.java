@@ -5,6 +5,7 @@ import com.stripe.model.checkout.Session;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -19,6 +20,8 @@ import java.util.Map;
  * Controller for handling payment-related endpoints.
  * Uses Stripe Checkout for secure payment processing.
  */
+// PERFORMANCE: Created on the first payment request, with StripeService
+@Lazy
 @RestController
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
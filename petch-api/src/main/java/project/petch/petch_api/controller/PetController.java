@@ -6,11 +6,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import project.petch.petch_api.dto.pet.ImageDTO;
 import project.petch.petch_api.dto.pet.PetDocumentFileDTO;
@@ -22,8 +24,10 @@ import project.petch.petch_api.models.Pets;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.service.ImageService;
 import project.petch.petch_api.service.PetDocumentsService;
+import project.petch.petch_api.service.PetExportService;
 import project.petch.petch_api.service.PetService;
 import project.petch.petch_api.service.SecurityEventLogger;
+import project.petch.petch_api.util.GeoPoint;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
@@ -37,19 +41,37 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Slf4j
 public class PetController {
+    // Response cap for the filter, search and favorites listings
+    private static final int MAX_LISTING_PAGE_SIZE = 100;
+    // Bounds for near= searches
+    private static final double DEFAULT_RADIUS_KM = 50;
+    private static final double MAX_RADIUS_KM = 500;
+
     private final PetService petService;
     private final ImageService imageService;
     private final PetDocumentsService petDocumentsService;
+    private final PetExportService petExportService;
     private final SecurityEventLogger securityEventLogger;
     private final HttpServletRequest httpServletRequest;
 
-    // GET /api/pets/discover
+    // GET /api/pets/discover?near=39.53,-119.81&radiusKm=50
     @GetMapping("/discover")
-    public ResponseEntity<List<PetDTO>> discoverPets(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<PetDTO>> discoverPets(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String near,
+            @RequestParam(required = false) Double radiusKm) {
         if (user == null) {
             return ResponseEntity.status(401).build();
         }
-        return ResponseEntity.ok(petService.discoverPetDTOs(user));
+        if (near == null) {
+            return ResponseEntity.ok(petService.discoverPetDTOs(user));
+        }
+        GeoPoint center = parseNear(near);
+        if (center == null || !validRadius(radiusKm)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(petService.discoverNearbyPetDTOs(user, center,
+                radiusKm != null ? radiusKm : DEFAULT_RADIUS_KM));
     }
 
     // GET /api/pets/liked - Get user's liked pets
@@ -61,13 +83,16 @@ public class PetController {
         return ResponseEntity.ok(petService.getLikedPetDTOs(user));
     }
 
-    // GET /api/pets/favorites - Get user's favorited pets
+    // GET /api/pets/favorites?page=0&size=100 - Get user's favorited pets
     @GetMapping("/favorites")
-    public ResponseEntity<List<Pets>> getFavoritePets(@AuthenticationPrincipal User user) {
+    public ResponseEntity<Slice<PetDTO>> getFavoritePets(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "" + MAX_LISTING_PAGE_SIZE) int size) {
         if (user == null) {
             return ResponseEntity.status(401).build();
         }
-        return ResponseEntity.ok(petService.getFavoritePets(user));
+        return ResponseEntity.ok(petService.getFavoritePetDTOs(user, listingPage(page, size)));
     }
 
     // GET /api/pets/favorites/ids - Get IDs of favorited pets (for UI state)
@@ -144,6 +169,7 @@ public class PetController {
 
     // get all pets with optional filtering and search
     // GET /api/pets?search=Max&species=Dog&ageMin=1&ageMax=5&fosterable=true&atRisk=true&real=true&page=0&size=12
+    // With near=lat,lng (and optional radiusKm) results are limited to that radius and sorted by distance
     @GetMapping
     public ResponseEntity<Page<PetDTO>> getFilteredPets(
             @RequestParam(required = false) String search,
@@ -153,14 +179,35 @@ public class PetController {
             @RequestParam(required = false) Boolean fosterable,
             @RequestParam(required = false) Boolean atRisk,
             @RequestParam(required = false) Boolean real,
+            @RequestParam(required = false) String near,
+            @RequestParam(required = false) Double radiusKm,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size) {
 
         Pageable pageable = PageRequest.of(page, size);
+        if (near != null) {
+            GeoPoint center = parseNear(near);
+            if (center == null || !validRadius(radiusKm)) {
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(petService.getNearbyPetDTOs(center,
+                    radiusKm != null ? radiusKm : DEFAULT_RADIUS_KM,
+                    search, species, ageMin, ageMax, fosterable, atRisk, real, listingPage(page, size)));
+        }
         Page<PetDTO> pets = petService.getFilteredPetDTOs(search, species, ageMin, ageMax, fosterable, atRisk, real, pageable);
         return ResponseEntity.ok(pets);
     }
 
+    // Stream every available pet as NDJSON (one pet per line) for partner feeds; admin only, see SecurityConfig
+    // GET /api/pets/export
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportPets() {
+        StreamingResponseBody body = petExportService::exportAvailablePets;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     // get user's pets (for vendors)
     // GET /api/pets/user/{userId}
     @GetMapping("/user/{userId}")
@@ -317,51 +364,62 @@ public class PetController {
     }
 
     // get all pets by species
-    // GET /api/pets/filter/species?species=Dog
+    // GET /api/pets/filter/species?species=Dog&page=0&size=20
     @GetMapping("/filter/species")
-    public ResponseEntity<List<Pets>> getPetsBySpecies(@RequestParam String species) {
-        List<Pets> pets = petService.findPetsBySpecies(species);
-        return ResponseEntity.ok(pets);
+    public ResponseEntity<Slice<PetDTO>> getPetsBySpecies(
+            @RequestParam String species,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(petService.findPetsBySpecies(species, listingPage(page, size)));
     }
 
     // get all pets by breed
-    // GET /api/pets/filter/breed?breed=Labrador
+    // GET /api/pets/filter/breed?breed=Labrador&page=0&size=20
     @GetMapping("/filter/breed")
-    public ResponseEntity<List<Pets>> getPetsByBreed(@RequestParam String breed) {
-        List<Pets> pets = petService.findPetsByBreed(breed);
-        return ResponseEntity.ok(pets);
+    public ResponseEntity<Slice<PetDTO>> getPetsByBreed(
+            @RequestParam String breed,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(petService.findPetsByBreed(breed, listingPage(page, size)));
     }
 
     // search pets by name
-    // GET /api/pets/search?name=Max
+    // GET /api/pets/search?name=Max&page=0&size=20
     @GetMapping("/search")
-    public ResponseEntity<List<Pets>> searchPetsByName(@RequestParam String name) {
-        List<Pets> pets = petService.searchPetsByName(name);
-        return ResponseEntity.ok(pets);
+    public ResponseEntity<Slice<PetDTO>> searchPetsByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(petService.searchPetsByName(name, listingPage(page, size)));
     }
 
     // filter pets by age range
-    // GET /api/pets/filter/age?minAge=1&maxAge=5
+    // GET /api/pets/filter/age?minAge=1&maxAge=5&page=0&size=20
     @GetMapping("/filter/age")
-    public ResponseEntity<List<Pets>> filterPetsByAgeRange(@RequestParam int minAge, @RequestParam int maxAge) {
-        List<Pets> pets = petService.findPetsByAgeRange(minAge, maxAge);
-        return ResponseEntity.ok(pets);
+    public ResponseEntity<Slice<PetDTO>> filterPetsByAgeRange(
+            @RequestParam int minAge,
+            @RequestParam int maxAge,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(petService.findPetsByAgeRange(minAge, maxAge, listingPage(page, size)));
     }
 
     // get all at risk pets
-    // GET /api/pets/filter/at-risk
+    // GET /api/pets/filter/at-risk?page=0&size=20
     @GetMapping("/filter/at-risk")
-    public ResponseEntity<List<Pets>> getAtRiskPets() {
-        List<Pets> pets = petService.findAtRiskPets();
-        return ResponseEntity.ok(pets);
+    public ResponseEntity<Slice<PetDTO>> getAtRiskPets(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(petService.findAtRiskPets(listingPage(page, size)));
     }
 
     // get all fosterable pets
-    // GET /api/pets/filter/fosterable
+    // GET /api/pets/filter/fosterable?page=0&size=20
     @GetMapping("/filter/fosterable")
-    public ResponseEntity<List<Pets>> getFosterablePets() {
-        List<Pets> pets = petService.findFosterablePets();
-        return ResponseEntity.ok(pets);
+    public ResponseEntity<Slice<PetDTO>> getFosterablePets(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(petService.findFosterablePets(listingPage(page, size)));
     }
 
     // Get all images for a pet
@@ -528,6 +586,22 @@ public class PetController {
         return ResponseEntity.ok(count);
     }
 
+    private static GeoPoint parseNear(String near) {
+        try {
+            return GeoPoint.parse(near);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean validRadius(Double radiusKm) {
+        return radiusKm == null || (radiusKm > 0 && radiusKm <= MAX_RADIUS_KM);
+    }
+
+    private static Pageable listingPage(int page, int size) {
+        return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_LISTING_PAGE_SIZE));
+    }
+
     /**
      * Extract client IP address, handling proxies.
      */
@@ -3,6 +3,8 @@ package project.petch.petch_api.controller;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +28,8 @@ import project.petch.petch_api.service.AdoptionAppointmentService;
 @PreAuthorize("hasRole('VENDOR')")
 public class VendorAppointmentController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final AdoptionAppointmentService appointmentService;
 
     @GetMapping("/me")
@@ -32,6 +37,16 @@ public class VendorAppointmentController {
         return ResponseEntity.ok(appointmentService.getAppointmentsForVendor(user));
     }
 
+    // PERFORMANCE: Paginated variant for accounts with many appointments; /me keeps returning a plain list
+    @GetMapping("/me/page")
+    public ResponseEntity<Page<AdoptionAppointmentDTO>> getMyAppointmentsPage(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return ResponseEntity.ok(appointmentService.getAppointmentsForVendor(user, pageable));
+    }
+
     @PostMapping("/{appointmentId}/select-time")
     public ResponseEntity<AdoptionAppointmentDTO> selectTime(
             @PathVariable Long appointmentId,
@@ -1,22 +1,28 @@
 package project.petch.petch_api.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import lombok.RequiredArgsConstructor;
 import project.petch.petch_api.dto.pet.AdoptionAppointmentDTO;
 import project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO;
+import project.petch.petch_api.dto.pet.SubmissionInboxPageDTO;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.service.AdoptionAppointmentService;
 import project.petch.petch_api.service.AdoptionFormSubmissionService;
@@ -34,6 +40,37 @@ public class VendorSubmissionController {
         return ResponseEntity.ok(submissionService.getSubmissionsForVendor(user));
     }
 
+    // PERFORMANCE: Keyset-paginated inbox for vendors with many submissions; /me keeps returning a plain list
+    // GET /api/v1/vendor/submissions/inbox?petId=1&status=NEW&from=2025-01-01&to=2025-01-31&cursor=...&size=20
+    @GetMapping("/inbox")
+    public ResponseEntity<SubmissionInboxPageDTO> getInbox(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Long petId,
+            @RequestParam(required = false) SubmissionStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(submissionService.getInbox(user, petId, status, from, to, cursor, size));
+    }
+
+    @GetMapping("/inbox/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@AuthenticationPrincipal User user){
+        return ResponseEntity.ok(Map.of("unreadCount", submissionService.getUnreadCount(user)));
+    }
+
+    @PatchMapping("/{submissionId}/status")
+    public ResponseEntity<AdoptionFormSubmissionDTO> updateSubmissionStatus(
+            @PathVariable Long submissionId,
+            @RequestBody Map<String, String> body,
+            @AuthenticationPrincipal User user){
+        String status = body.get("status");
+        if(status == null || status.isBlank()){
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(submissionService.updateStatusForVendor(submissionId, SubmissionStatus.valueOf(status.toUpperCase()), user));
+    }
+
     @DeleteMapping("/me/{submissionId}")
     public ResponseEntity<Void> deleteVendorSubmission(@PathVariable Long submissionId,@AuthenticationPrincipal User user){
         submissionService.deleteSubmissionForVendor(submissionId, user);
@@ -0,0 +1,23 @@
+package project.petch.petch_api.dto.admin;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Domain event published with ApplicationEventPublisher and, once the publishing
+ * transaction commits, streamed to admin dashboards as an incremental update.
+ *
+ * @param targetId id of the report, verification request, pet or user that changed
+ * @param details  small type-specific fields, e.g. the previous report status
+ */
+public record AdminEvent(
+        AdminEventType type,
+        Long targetId,
+        Map<String, Object> details,
+        LocalDateTime occurredAt
+) {
+
+    public static AdminEvent of(AdminEventType type, Long targetId, Map<String, Object> details) {
+        return new AdminEvent(type, targetId, details, LocalDateTime.now());
+    }
+}
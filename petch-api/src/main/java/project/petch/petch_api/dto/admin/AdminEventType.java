@@ -0,0 +1,14 @@
+package project.petch.petch_api.dto.admin;
+
+/**
+ * Changes pushed to connected admin dashboards over /api/admin/stream.
+ */
+public enum AdminEventType {
+    REPORT_CREATED,
+    REPORT_RESOLVED,
+    VERIFICATION_REQUESTED,
+    VERIFICATION_REVIEWED,
+    PET_ADOPTED,
+    PET_AUTO_HELD,
+    USER_REGISTERED
+}
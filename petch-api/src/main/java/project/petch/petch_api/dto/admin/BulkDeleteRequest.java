@@ -0,0 +1,14 @@
+package project.petch.petch_api.dto.admin;
+
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+/**
+ * Targets for a bulk delete: explicit IDs, or every pet owned by {@code vendorId} (pets only).
+ */
+public record BulkDeleteRequest(
+        @Size(max = 10000, message = "At most 10000 IDs per request") Set<Long> ids,
+        Long vendorId
+) {
+}
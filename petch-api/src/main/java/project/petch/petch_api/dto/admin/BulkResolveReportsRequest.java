@@ -0,0 +1,17 @@
+package project.petch.petch_api.dto.admin;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+public record BulkResolveReportsRequest(
+        @NotEmpty(message = "ids are required")
+        @Size(max = 10000, message = "At most 10000 IDs per request") Set<Long> ids,
+
+        @NotNull(message = "Status is required") String status,
+
+        @Size(max = 500, message = "Admin notes must not exceed 500 characters") String adminNotes
+) {
+}
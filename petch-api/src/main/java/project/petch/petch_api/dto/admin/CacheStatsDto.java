@@ -0,0 +1,18 @@
+package project.petch.petch_api.dto.admin;
+
+import lombok.Builder;
+
+@Builder
+public record CacheStatsDto(
+        String name,
+        long estimatedSize,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long loadSuccessCount,
+        long loadFailureCount,
+        double averageLoadPenaltyMs,
+        long evictionCount,
+        long evictionWeight
+) {
+}
@@ -0,0 +1,18 @@
+package project.petch.petch_api.dto.admin;
+
+import lombok.Builder;
+
+@Builder
+public record ExecutorStatsDto(
+        String name,
+        int activeCount,
+        int queueSize,
+        long submittedCount,
+        long completedCount,
+        long failedCount,
+        long rejectedCount,
+        double averageQueueWaitMs,
+        double averageRunMs,
+        double maxLatencyMs
+) {
+}
@@ -0,0 +1,19 @@
+package project.petch.petch_api.dto.admin;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder
+public record ModerationJobDto(
+        String id,
+        String type,
+        String state,
+        int total,
+        int processed,
+        int deleted,
+        String error,
+        LocalDateTime submittedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,20 @@
+package project.petch.petch_api.dto.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * One logged security event, or a summary of repeated ones from the same IP.
+ *
+ * @param count   number of occurrences this entry stands for
+ * @param summary true for the end-of-window summary of repeats that were not logged one by one
+ */
+public record SecurityEvent(
+        SecurityEventType type,
+        String ipAddress,
+        String user,
+        String details,
+        long count,
+        boolean summary,
+        LocalDateTime occurredAt
+) {
+}
@@ -0,0 +1,12 @@
+package project.petch.petch_api.dto.admin;
+
+/**
+ * Kinds of events recorded by SecurityEventLogger.
+ */
+public enum SecurityEventType {
+    FAILED_LOGIN,
+    RATE_LIMIT_EXCEEDED,
+    IDOR_ATTEMPT,
+    UNAUTHORIZED_ACCESS,
+    BUCKET_CLEANUP
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
 
 @Data
 @NoArgsConstructor
@@ -21,5 +22,6 @@ public class AdoptionFormSubmissionDTO{
     private String fileName;
     private String contentType;
     private Double priceEstimate;
+    private SubmissionStatus status;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -14,7 +14,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PetDTO{
     private Long id;
 
@@ -65,7 +65,22 @@ public class PetDTO{
 
     private Double longitude;
 
+    // Only set on results of a near= search
+    private Double distanceKm;
+
     private AdoptionDetailsDTO adoptionDetails;
 
     private PetOwnerDTO user;
-}
\ No newline at end of file
+
+    /**
+     * Deep copy, so a DTO served from a shared cache entry can be changed by one caller
+     * without affecting the others.
+     */
+    public PetDTO copy() {
+        return toBuilder()
+                .images(images == null ? null : images.stream().map(image -> image.toBuilder().build()).toList())
+                .adoptionDetails(adoptionDetails == null ? null : adoptionDetails.toBuilder().build())
+                .user(user == null ? null : user.toBuilder().build())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package project.petch.petch_api.dto.pet;
+
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.VerificationStatus;
+
+/**
+ * Flat row behind the legacy filter and favorites listings: one pet with its owner, the owner's
+ * verification status and adoption details, selected in one statement. Images are loaded for the
+ * whole page separately and the row is turned into a {@link PetDTO} by PetService.
+ */
+public record PetListingRow(
+        Long id,
+        String name,
+        String species,
+        String breed,
+        Integer age,
+        String description,
+        Boolean atRisk,
+        Boolean fosterable,
+        Boolean real,
+        Boolean onHold,
+        Boolean isAdopted,
+        Long viewCount,
+        Double latitude,
+        Double longitude,
+        Long ownerId,
+        String ownerEmail,
+        String ownerFirstName,
+        String ownerLastName,
+        UserType ownerType,
+        VerificationStatus ownerVerificationStatus,
+        Long adoptionDetailsId,
+        Boolean isDirect,
+        Double priceEstimate,
+        String stepsDescription,
+        String redirectLink,
+        String phoneNumber,
+        String email,
+        Boolean hasOnlineFormPdf,
+        String onlineFormFileName,
+        String onlineFormContentType) {
+}
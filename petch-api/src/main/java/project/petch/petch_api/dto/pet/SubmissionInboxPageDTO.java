@@ -0,0 +1,19 @@
+package project.petch.petch_api.dto.pet;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubmissionInboxPageDTO {
+    private List<AdoptionFormSubmissionDTO> items;
+    // Opaque keyset cursor for the next page; null on the last page
+    private String nextCursor;
+    private long unreadCount;
+}
@@ -0,0 +1,28 @@
+package project.petch.petch_api.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MostReportedPetDTO {
+    private Long petId;
+    private String petName;
+    private String petSpecies;
+    private String petBreed;
+    private Long ownerId;
+    private String ownerEmail;
+    private long reportCount;
+    private long pendingCount;
+    private Map<String, Long> reasonCounts;
+    private LocalDateTime lastReportedAt;
+    private boolean autoHeld;
+    private LocalDateTime autoHeldAt;
+}
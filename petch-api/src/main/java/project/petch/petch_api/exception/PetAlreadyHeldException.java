@@ -0,0 +1,13 @@
+package project.petch.petch_api.exception;
+
+/**
+ * Exception thrown when booking an appointment for a pet that is already on hold or adopted
+ */
+public class PetAlreadyHeldException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PetAlreadyHeldException(String message) {
+        super(message);
+    }
+}
@@ -31,7 +31,8 @@ public class AdoptionAppointment {
 
     public enum AppointmentType { PICKUP, MEETUP }
     public enum PaymentOption { IN_PERSON, ONLINE, BOTH }
-    public enum AppointmentStatus { PENDING, CONFIRMED }
+    // EXPIRED: the pending hold ran out before a time was chosen; kept for both parties' history
+    public enum AppointmentStatus { PENDING, CONFIRMED, EXPIRED }
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
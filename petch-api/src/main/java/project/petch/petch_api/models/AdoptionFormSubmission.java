@@ -8,10 +8,13 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -22,7 +25,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "adoption_form_submissions")
+@Table(name = "adoption_form_submissions", indexes = {
+        // PERFORMANCE: Vendor inbox keyset scan (WHERE vendor_user_id = ? ORDER BY created_at DESC, id DESC)
+        @Index(name = "idx_submission_vendor_created", columnList = "vendor_user_id, created_at DESC, id DESC"),
+        // PERFORMANCE: Unread counter reconciliation counts NEW rows per vendor from the index alone
+        @Index(name = "idx_submission_vendor_status", columnList = "vendor_user_id, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,6 +49,15 @@ public class AdoptionFormSubmission{
     @JoinColumn(name = "adopter_user_id", nullable = false)
     private User adopterUser;
 
+    // Owner of the pet at submission time, denormalized so the vendor inbox never joins pets to filter
+    @Column(name = "vendor_user_id")
+    private Long vendorUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, columnDefinition = "varchar(20) default 'NEW'")
+    @Builder.Default
+    private SubmissionStatus status = SubmissionStatus.NEW;
+
     @Lob
     @Column(name = "pdf_data", nullable = false)
     private byte[] pdfData;
@@ -54,4 +71,8 @@ public class AdoptionFormSubmission{
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+
+    public enum SubmissionStatus {
+        NEW, READ, SHORTLISTED, ACCEPTED, REJECTED
+    }
+}
@@ -0,0 +1,61 @@
+package project.petch.petch_api.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adoption form submission removed when a pet's appointment went ahead.
+ * Rows are copied here with INSERT ... SELECT by SubmissionArchiveService, so the PDF never
+ * passes through the JVM on the request path. The PDF is later exported to
+ * {@code app.archive.dir} and cleared from the row. No foreign keys, so the archive
+ * outlives the pet and users it refers to.
+ */
+@Entity
+@Table(name = "archived_adoption_form_submissions", indexes = {
+        @Index(name = "idx_archived_submission_exported_at", columnList = "exported_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedAdoptionFormSubmission {
+
+    // Same id as the original submission
+    @Id
+    private Long id;
+
+    @Column(name = "pet_id", nullable = false)
+    private Long petId;
+
+    @Column(name = "adopter_user_id", nullable = false)
+    private Long adopterUserId;
+
+    // Null once exported to cold storage
+    @Lob
+    @Column(name = "pdf_data")
+    private byte[] pdfData;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(name = "reason", nullable = false, length = 50)
+    private String reason;
+
+    @Column(name = "export_path")
+    private String exportPath;
+
+    @Column(name = "exported_at")
+    private LocalDateTime exportedAt;
+}
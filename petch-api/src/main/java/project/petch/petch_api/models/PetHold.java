@@ -0,0 +1,42 @@
+package project.petch.petch_api.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reservation of a pet by one appointment. The pet id is the primary key, so the database
+ * guarantees at most one hold per pet. Written only through PetHoldRepository's conditional
+ * statements (see PetHoldService), never through entity saves.
+ */
+@Entity
+@Table(name = "pet_holds", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_pet_holds_appointment", columnNames = "appointment_id")
+}, indexes = {
+        @Index(name = "idx_pet_holds_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PetHold {
+
+    @Id
+    @Column(name = "pet_id")
+    private Long petId;
+
+    @Column(name = "appointment_id", nullable = false)
+    private Long appointmentId;
+
+    @Column(name = "holder_user_id", nullable = false)
+    private Long holderUserId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Null once the appointment has a confirmed time; the hold then lasts until it is released
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
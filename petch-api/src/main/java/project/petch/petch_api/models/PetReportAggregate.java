@@ -0,0 +1,41 @@
+package project.petch.petch_api.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-pet report totals behind the "most reported" moderation queue.
+ * Maintained with atomic upserts by ReportAggregateService, never through entity updates.
+ */
+@Entity
+@Table(name = "pet_report_aggregates", indexes = {
+        // PERFORMANCE: The moderation queue is read in this order
+        @Index(name = "idx_report_aggregates_queue", columnList = "pending_count DESC, report_count DESC, last_reported_at DESC")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PetReportAggregate {
+
+    @Id
+    @Column(name = "pet_id")
+    private Long petId;
+
+    // Distinct reporters: a user can report a pet once
+    @Column(name = "report_count", nullable = false)
+    private Long reportCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private Long pendingCount;
+
+    @Column(name = "last_reported_at")
+    private LocalDateTime lastReportedAt;
+
+    // Set while the listing is hidden because pending reports reached app.reports.auto-hold-threshold
+    @Column(name = "auto_held_at")
+    private LocalDateTime autoHeldAt;
+}
@@ -0,0 +1,43 @@
+package project.petch.petch_api.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Reason histogram row for one pet: how many reports cited {@code reason}.
+ * Maintained alongside PetReportAggregate.
+ */
+@Entity
+@Table(name = "pet_report_reason_counts")
+@IdClass(PetReportReasonCount.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PetReportReasonCount {
+
+    @Id
+    @Column(name = "pet_id")
+    private Long petId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", length = 50)
+    private ReportReason reason;
+
+    @Column(name = "report_count", nullable = false)
+    private Long reportCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long petId;
+        private ReportReason reason;
+    }
+}
@@ -0,0 +1,22 @@
+package project.petch.petch_api.models;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Learned species and breed weights of a {@link UserPreference}, keyed by lower-cased name.
+ * Stored in a single user_preferences column through {@link PreferenceVectorConverter}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PreferenceVector {
+
+    private Map<String, Double> species = new HashMap<>();
+
+    private Map<String, Double> breeds = new HashMap<>();
+}
@@ -0,0 +1,92 @@
+package project.petch.petch_api.models;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Versioned binary codec for {@link PreferenceVector} (user_preferences.weight_vector, bytea).
+ *
+ * Version 1, big-endian as written by {@link DataOutputStream}: a version byte, then the species
+ * and the breed entries, each as an unsigned short count followed per entry by the key (an unsigned
+ * short byte length and the standard UTF-8 bytes) and its weight as a float32. Weights are rounded
+ * to float precision on write. Keys are not written with writeUTF: its modified UTF-8 encodes
+ * supplementary characters and NUL differently from what PostgreSQL produces.
+ * scripts/migrate-preference-weights-to-vector.sql builds the same layout from the former
+ * user_species_weights and user_breed_weights tables.
+ */
+@Converter
+public class PreferenceVectorConverter implements AttributeConverter<PreferenceVector, byte[]> {
+
+    static final byte VERSION = 1;
+
+    @Override
+    public byte[] convertToDatabaseColumn(PreferenceVector vector) {
+        if (vector == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeWeights(out, vector.getSpecies());
+            writeWeights(out, vector.getBreeds());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public PreferenceVector convertToEntityAttribute(byte[] column) {
+        if (column == null || column.length == 0) {
+            return new PreferenceVector();
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(column))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported preference vector version " + version);
+            }
+            return new PreferenceVector(readWeights(in), readWeights(in));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed preference vector", e);
+        }
+    }
+
+    private static void writeWeights(DataOutputStream out, Map<String, Double> weights) throws IOException {
+        if (weights.size() > 0xFFFF) {
+            throw new IllegalArgumentException("Too many preference weights: " + weights.size());
+        }
+        out.writeShort(weights.size());
+        // Sorted so equal vectors always encode to equal bytes
+        for (Map.Entry<String, Double> entry : new TreeMap<>(weights).entrySet()) {
+            byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            if (key.length > 0xFFFF) {
+                throw new IllegalArgumentException("Preference key too long: " + key.length + " bytes");
+            }
+            out.writeShort(key.length);
+            out.write(key);
+            out.writeFloat(entry.getValue().floatValue());
+        }
+    }
+
+    private static Map<String, Double> readWeights(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        Map<String, Double> weights = new HashMap<>(Math.max(16, count * 2));
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[in.readUnsignedShort()];
+            in.readFully(key);
+            weights.put(new String(key, StandardCharsets.UTF_8), (double) in.readFloat());
+        }
+        return weights;
+    }
+}
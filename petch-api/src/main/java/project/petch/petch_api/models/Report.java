@@ -28,6 +28,9 @@ import lombok.NoArgsConstructor;
 @Table(name = "reports", indexes = {
         @jakarta.persistence.Index(name = "idx_reports_status", columnList = "status"),
         @jakarta.persistence.Index(name = "idx_reports_pet_id", columnList = "pet_id")
+}, uniqueConstraints = {
+        // One report per reporter and pet, enforced by the database instead of a check-then-insert
+        @jakarta.persistence.UniqueConstraint(name = Report.UNIQUE_REPORTER_PET, columnNames = { "reporter_id", "pet_id" })
 })
 @Data
 @NoArgsConstructor
@@ -35,6 +38,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Report {
 
+    public static final String UNIQUE_REPORTER_PET = "uk_reports_reporter_pet";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,31 @@
+package project.petch.petch_api.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized value of one admin dashboard counter.
+ * Written with atomic upserts by StatsCounterService, never through entity updates.
+ */
+@Entity
+@Table(name = "stats_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsCounter {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "name", length = 50)
+    private StatsCounterName name;
+
+    @Column(name = "value", nullable = false)
+    private Long value;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,13 @@
+package project.petch.petch_api.models;
+
+/**
+ * Aggregates shown on the admin dashboard, maintained incrementally in stats_counters.
+ */
+public enum StatsCounterName {
+    TOTAL_USERS,
+    TOTAL_PETS,
+    ADOPTED_PETS,
+    ADOPTERS,
+    VENDORS,
+    PENDING_REPORTS
+}
@@ -1,20 +1,17 @@
 package project.petch.petch_api.models;
 
-import java.util.HashMap;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.MapKeyColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -39,19 +36,12 @@ public class UserPreference {
     @JsonBackReference
     private User user;
 
+    // PERFORMANCE: Species and breed weights are one encoded column of this row instead of two
+    // element-collection tables, so loading preferences is a single-row fetch and a swipe a single-row update
     @Builder.Default
-    @ElementCollection
-    @CollectionTable(name = "user_species_weights", joinColumns = @JoinColumn(name = "preference_id"))
-    @MapKeyColumn(name = "species")
-    @Column(name = "weight")
-    private Map<String, Double> speciesWeights = new HashMap<>();
-
-    @Builder.Default
-    @ElementCollection
-    @CollectionTable(name = "user_breed_weights", joinColumns = @JoinColumn(name = "preference_id"))
-    @MapKeyColumn(name = "breed")
-    @Column(name = "weight")
-    private Map<String, Double> breedWeights = new HashMap<>();
+    @Convert(converter = PreferenceVectorConverter.class)
+    @Column(name = "weight_vector")
+    private PreferenceVector weights = new PreferenceVector();
 
     @Builder.Default
     @Column(name = "weight_young")
@@ -80,4 +70,19 @@ public class UserPreference {
     @Builder.Default
     @Column(name = "total_swipes")
     private Integer totalSwipes = 0;
+
+    public Map<String, Double> getSpeciesWeights() {
+        return weights().getSpecies();
+    }
+
+    public Map<String, Double> getBreedWeights() {
+        return weights().getBreeds();
+    }
+
+    private PreferenceVector weights() {
+        if (weights == null) {
+            weights = new PreferenceVector();
+        }
+        return weights;
+    }
 }
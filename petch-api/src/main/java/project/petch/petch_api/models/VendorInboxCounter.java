@@ -0,0 +1,30 @@
+package project.petch.petch_api.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Number of NEW adoption form submissions in a vendor's inbox.
+ * Maintained with atomic deltas by VendorInboxCounterService, never through entity updates.
+ */
+@Entity
+@Table(name = "vendor_inbox_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VendorInboxCounter {
+
+    @Id
+    @Column(name = "vendor_user_id")
+    private Long vendorUserId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,15 +1,53 @@
 package project.petch.petch_api.repositories;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import project.petch.petch_api.dto.pet.AdoptionAppointmentDTO;
 import project.petch.petch_api.models.AdoptionAppointment;
 
 @Repository
 public interface AdoptionAppointmentRepository extends JpaRepository<AdoptionAppointment, Long> {
-    List<AdoptionAppointment> findByAdopterUserIdOrderByCreatedAtDesc(Long adopterUserId);
-    List<AdoptionAppointment> findByVendorUserIdOrderByCreatedAtDesc(Long vendorUserId);
+
+    // PERFORMANCE: Flat listing rows in one statement: pet name, adopter email and price estimate
+    // are joined instead of lazily loaded per row, and the adoption details LOB columns are never read.
+    // The submission id comes straight from the FK column, so no join is needed for it.
+    String SUMMARY_SELECT = "SELECT new project.petch.petch_api.dto.pet.AdoptionAppointmentDTO("
+            + "ap.id, ap.submission.id, p.id, p.name, a.id, a.email, ap.vendorUser.id, "
+            + "ap.appointmentType, ap.location, ap.appointmentDate, ap.availableTimes, ap.paymentOption, "
+            + "ap.additionalInfo, ap.selectedTime, ap.status, ap.vendorConfirmed, d.priceEstimate, ap.createdAt) "
+            + "FROM AdoptionAppointment ap JOIN ap.pet p JOIN ap.adopterUser a LEFT JOIN p.adoptionDetails d ";
+
+    // Expired appointments are kept as a record but are no longer listed
+    String NOT_EXPIRED = "AND ap.status <> project.petch.petch_api.models.AdoptionAppointment.AppointmentStatus.EXPIRED ";
+
     boolean existsBySubmissionId(Long submissionId);
+
+    // Serializes confirmations with hold expiry, which locks the same row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ap FROM AdoptionAppointment ap WHERE ap.id = :id")
+    Optional<AdoptionAppointment> findByIdForUpdate(@Param("id") Long id);
+
+    @Query(SUMMARY_SELECT + "WHERE a.id = :adopterUserId " + NOT_EXPIRED + "ORDER BY ap.createdAt DESC")
+    List<AdoptionAppointmentDTO> findSummariesByAdopterUserId(@Param("adopterUserId") Long adopterUserId);
+
+    @Query(SUMMARY_SELECT + "WHERE ap.vendorUser.id = :vendorUserId " + NOT_EXPIRED + "ORDER BY ap.createdAt DESC")
+    List<AdoptionAppointmentDTO> findSummariesByVendorUserId(@Param("vendorUserId") Long vendorUserId);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.id = :adopterUserId " + NOT_EXPIRED + "ORDER BY ap.createdAt DESC, ap.id DESC",
+            countQuery = "SELECT COUNT(ap) FROM AdoptionAppointment ap WHERE ap.adopterUser.id = :adopterUserId " + NOT_EXPIRED)
+    Page<AdoptionAppointmentDTO> findSummariesByAdopterUserId(@Param("adopterUserId") Long adopterUserId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE ap.vendorUser.id = :vendorUserId " + NOT_EXPIRED + "ORDER BY ap.createdAt DESC, ap.id DESC",
+            countQuery = "SELECT COUNT(ap) FROM AdoptionAppointment ap WHERE ap.vendorUser.id = :vendorUserId " + NOT_EXPIRED)
+    Page<AdoptionAppointmentDTO> findSummariesByVendorUserId(@Param("vendorUserId") Long vendorUserId, Pageable pageable);
 }
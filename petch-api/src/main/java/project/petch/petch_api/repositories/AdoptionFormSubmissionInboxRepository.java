@@ -0,0 +1,23 @@
+package project.petch.petch_api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+import project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
+
+/**
+ * Vendor inbox listing, built per request so each query carries only the filters in use.
+ */
+public interface AdoptionFormSubmissionInboxRepository {
+
+    /**
+     * One inbox page, newest first. Every filter is optional; pass {@code afterCreatedAt} and
+     * {@code afterId} from the previous page's last row to continue after it.
+     */
+    List<AdoptionFormSubmissionDTO> findInboxPage(Long vendorUserId, Long petId, SubmissionStatus status,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime afterCreatedAt, Long afterId,
+            Limit limit);
+}
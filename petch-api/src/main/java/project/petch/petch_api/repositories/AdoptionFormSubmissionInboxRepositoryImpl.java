@@ -0,0 +1,66 @@
+package project.petch.petch_api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Limit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
+
+/**
+ * PERFORMANCE: Keyset pagination on (createdAt, id) walks idx_submission_vendor_created, so page N
+ * costs the same as page 1. Unused filters are left out of the statement rather than written as
+ * "? IS NULL OR ...", and later pages continue with a row-value comparison, so the vendor and
+ * cursor bounds become an index range seek in every plan, including generic ones.
+ */
+@RequiredArgsConstructor
+class AdoptionFormSubmissionInboxRepositoryImpl implements AdoptionFormSubmissionInboxRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<AdoptionFormSubmissionDTO> findInboxPage(Long vendorUserId, Long petId, SubmissionStatus status,
+            LocalDateTime createdFrom, LocalDateTime createdTo, LocalDateTime afterCreatedAt, Long afterId,
+            Limit limit) {
+        StringBuilder jpql = new StringBuilder(AdoptionFormSubmissionRepository.SUMMARY_SELECT)
+                .append("WHERE s.vendorUserId = :vendorUserId ");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("vendorUserId", vendorUserId);
+        if (petId != null) {
+            jpql.append("AND s.pet.id = :petId ");
+            parameters.put("petId", petId);
+        }
+        if (status != null) {
+            jpql.append("AND s.status = :status ");
+            parameters.put("status", status);
+        }
+        if (createdFrom != null) {
+            jpql.append("AND s.createdAt >= :createdFrom ");
+            parameters.put("createdFrom", createdFrom);
+        }
+        if (createdTo != null) {
+            jpql.append("AND s.createdAt < :createdTo ");
+            parameters.put("createdTo", createdTo);
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            jpql.append("AND (s.createdAt, s.id) < (:afterCreatedAt, :afterId) ");
+            parameters.put("afterCreatedAt", afterCreatedAt);
+            parameters.put("afterId", afterId);
+        }
+        jpql.append("ORDER BY s.createdAt DESC, s.id DESC");
+
+        TypedQuery<AdoptionFormSubmissionDTO> query = entityManager.createQuery(jpql.toString(),
+                AdoptionFormSubmissionDTO.class);
+        parameters.forEach(query::setParameter);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+}
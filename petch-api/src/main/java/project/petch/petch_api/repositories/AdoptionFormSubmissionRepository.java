@@ -2,16 +2,60 @@ package project.petch.petch_api.repositories;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO;
 import project.petch.petch_api.models.AdoptionFormSubmission;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
 
 @Repository
-public interface AdoptionFormSubmissionRepository extends JpaRepository<AdoptionFormSubmission, Long>{
-    List<AdoptionFormSubmission> findByPetIdOrderByCreatedAtDesc(Long petId);
-    List<AdoptionFormSubmission> findByPetUserIdOrderByCreatedAtDesc(Long vendorUserId);
-    List<AdoptionFormSubmission> findByPetIdAndAdopterUserIdOrderByCreatedAtDesc(Long petId, Long adopterUserId);
-    List<AdoptionFormSubmission> findByAdopterUserIdOrderByCreatedAtDesc(Long adopterUserId);
+public interface AdoptionFormSubmissionRepository extends JpaRepository<AdoptionFormSubmission, Long>,
+        AdoptionFormSubmissionInboxRepository {
+
+    // PERFORMANCE: Flat listing rows in one statement: pet, adopter and price estimate are joined
+    // instead of lazily loaded per row, and pdf_data is never selected
+    String SUMMARY_SELECT = "SELECT new project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO("
+            + "s.id, p.id, p.name, a.id, "
+            + "TRIM(CONCAT(COALESCE(a.firstName, ''), ' ', COALESCE(a.lastName, ''))), a.email, "
+            + "s.fileName, s.contentType, d.priceEstimate, s.status, s.createdAt) "
+            + "FROM AdoptionFormSubmission s JOIN s.pet p JOIN s.adopterUser a LEFT JOIN p.adoptionDetails d ";
+
     Optional<AdoptionFormSubmission> findByIdAndPetId(Long id, Long petId);
     Optional<AdoptionFormSubmission> findByIdAndPetIdAndAdopterUserId(Long id, Long petId, Long adopterUserId);
     Optional<AdoptionFormSubmission> findByIdAndAdopterUserId(Long id, Long adopterUserId);
-}
\ No newline at end of file
+
+    @Query(SUMMARY_SELECT + "WHERE p.id = :petId ORDER BY s.createdAt DESC")
+    List<AdoptionFormSubmissionDTO> findSummariesByPetId(@Param("petId") Long petId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.user.id = :vendorUserId ORDER BY s.createdAt DESC")
+    List<AdoptionFormSubmissionDTO> findSummariesByVendorUserId(@Param("vendorUserId") Long vendorUserId);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id = :petId AND a.id = :adopterUserId ORDER BY s.createdAt DESC")
+    List<AdoptionFormSubmissionDTO> findSummariesByPetIdAndAdopterUserId(@Param("petId") Long petId, @Param("adopterUserId") Long adopterUserId);
+
+    @Query(SUMMARY_SELECT + "WHERE a.id = :adopterUserId ORDER BY s.createdAt DESC")
+    List<AdoptionFormSubmissionDTO> findSummariesByAdopterUserId(@Param("adopterUserId") Long adopterUserId);
+
+    // Compare-and-set so concurrent status changes adjust the unread counter exactly once
+    @Modifying
+    @Query("UPDATE AdoptionFormSubmission s SET s.status = :status WHERE s.id = :id AND s.status = :expected")
+    int updateStatus(@Param("id") Long id, @Param("expected") SubmissionStatus expected, @Param("status") SubmissionStatus status);
+
+    // PERFORMANCE: Set-based cleanup once a pet's appointment goes ahead. Rows are copied into
+    // the archive and deleted server-side, so no submission entity or PDF is ever loaded.
+    // excludedId keeps one submission (the accepted one); pass null to remove all of them.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO archived_adoption_form_submissions "
+            + "(id, pet_id, adopter_user_id, pdf_data, file_name, content_type, created_at, archived_at, reason) "
+            + "SELECT s.id, s.pet_id, s.adopter_user_id, s.pdf_data, s.file_name, s.content_type, s.created_at, now(), :reason "
+            + "FROM adoption_form_submissions s "
+            + "WHERE s.pet_id = :petId AND s.id <> COALESCE(CAST(:excludedId AS bigint), -1) "
+            + "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int archiveByPetId(@Param("petId") Long petId, @Param("excludedId") Long excludedId, @Param("reason") String reason);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM AdoptionFormSubmission s WHERE s.pet.id = :petId AND (:excludedId IS NULL OR s.id <> :excludedId)")
+    int deleteByPetId(@Param("petId") Long petId, @Param("excludedId") Long excludedId);
+}
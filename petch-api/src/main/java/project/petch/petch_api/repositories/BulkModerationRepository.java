@@ -0,0 +1,138 @@
+package project.petch.petch_api.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based deletes for bulk moderation. Each statement takes the whole ID chunk as one
+ * bigint[] parameter ({@code = ANY(?)}), so a chunk costs a fixed number of round trips
+ * instead of a load-then-delete loop per row.
+ *
+ * These bypass JPA: callers must run them inside a transaction and afterwards evict caches
+ * and reconcile the stats counters themselves.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkModerationRepository {
+
+    // Children before parents; every statement binds the same pet ID array to each ?
+    private static final List<String> DELETE_PETS = List.of(
+            "DELETE FROM pet_holds WHERE pet_id = ANY(?)",
+            "DELETE FROM adoption_appointments WHERE pet_id = ANY(?) "
+                    + "OR submission_id IN (SELECT id FROM adoption_form_submissions WHERE pet_id = ANY(?))",
+            "DELETE FROM adoption_form_submissions WHERE pet_id = ANY(?)",
+            "DELETE FROM report_reasons WHERE report_id IN (SELECT id FROM reports WHERE pet_id = ANY(?))",
+            "DELETE FROM reports WHERE pet_id = ANY(?)",
+            "DELETE FROM pet_report_reason_counts WHERE pet_id = ANY(?)",
+            "DELETE FROM pet_report_aggregates WHERE pet_id = ANY(?)",
+            "DELETE FROM pet_interactions WHERE pet_id = ANY(?)",
+            "DELETE FROM pet_document_files WHERE pet_documents_id IN (SELECT id FROM pet_documents WHERE pet_id = ANY(?))",
+            "DELETE FROM pet_documents WHERE pet_id = ANY(?)",
+            "DELETE FROM adoption_details WHERE pet_id = ANY(?)",
+            "DELETE FROM images WHERE pet_id = ANY(?)",
+            "DELETE FROM pets WHERE id = ANY(?)");
+
+    // Rows owned by the users themselves; their pets must already be gone
+    private static final List<String> DELETE_USERS = List.of(
+            // Pets of other vendors held by the deleted adopters' appointments go back on the listings
+            "UPDATE pets SET on_hold = false WHERE id IN (SELECT h.pet_id FROM pet_holds h "
+                    + "JOIN adoption_appointments ap ON ap.id = h.appointment_id WHERE ap.adopter_user_id = ANY(?))",
+            "DELETE FROM pet_holds WHERE holder_user_id = ANY(?) OR appointment_id IN "
+                    + "(SELECT id FROM adoption_appointments WHERE adopter_user_id = ANY(?) OR vendor_user_id = ANY(?))",
+            "DELETE FROM adoption_appointments WHERE adopter_user_id = ANY(?) OR vendor_user_id = ANY(?) "
+                    + "OR submission_id IN (SELECT id FROM adoption_form_submissions WHERE adopter_user_id = ANY(?))",
+            "DELETE FROM adoption_form_submissions WHERE adopter_user_id = ANY(?)",
+            "DELETE FROM report_reasons WHERE report_id IN (SELECT id FROM reports WHERE reporter_id = ANY(?))",
+            "DELETE FROM reports WHERE reporter_id = ANY(?)",
+            "DELETE FROM pet_interactions WHERE user_id = ANY(?)",
+            "DELETE FROM user_preferences WHERE user_id = ANY(?)",
+            "DELETE FROM password_reset_tokens WHERE user_id = ANY(?)",
+            "DELETE FROM vendor_inbox_counters WHERE vendor_user_id = ANY(?)",
+            "UPDATE vendor_verification_requests SET reviewed_by = NULL WHERE reviewed_by = ANY(?)",
+            "DELETE FROM vendor_verification_requests WHERE vendor_profile_id IN (SELECT id FROM vendor_profiles WHERE user_id = ANY(?))",
+            "DELETE FROM vendor_adoption_preferences WHERE vendor_profile_id IN (SELECT id FROM vendor_profiles WHERE user_id = ANY(?))",
+            "DELETE FROM vendor_profiles WHERE user_id = ANY(?)",
+            "DELETE FROM adopter_profiles WHERE user_id = ANY(?)",
+            "DELETE FROM users WHERE id = ANY(?)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findPetIdsByOwner(Long userId) {
+        return jdbcTemplate.queryForList("SELECT id FROM pets WHERE user_id = ? ORDER BY id", Long.class, userId);
+    }
+
+    public List<Long> findPetIdsByOwners(Collection<Long> userIds) {
+        return jdbcTemplate.query("SELECT id FROM pets WHERE user_id = ANY(?) ORDER BY id",
+                ps -> bindArray(ps, 1, userIds), (rs, rowNum) -> rs.getLong(1));
+    }
+
+    /**
+     * Stored image file names, read before the rows are deleted so the files can be removed after commit
+     */
+    public List<String> findImageFileNames(Collection<Long> petIds) {
+        return jdbcTemplate.query("SELECT file_name FROM images WHERE pet_id = ANY(?)",
+                ps -> bindArray(ps, 1, petIds), (rs, rowNum) -> rs.getString(1));
+    }
+
+    /**
+     * @return number of pets deleted
+     */
+    public int deletePets(Collection<Long> petIds) {
+        return executeAll(DELETE_PETS, petIds);
+    }
+
+    /**
+     * @return number of users deleted
+     */
+    public int deleteUsers(Collection<Long> userIds) {
+        return executeAll(DELETE_USERS, userIds);
+    }
+
+    /**
+     * Sets the status of the given reports and returns each updated report with its previous status
+     */
+    public List<ResolvedReport> resolveReports(Collection<Long> reportIds, String status, String adminNotes) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "UPDATE reports r SET status = ?, admin_notes = ?, resolved_at = now() "
+                            + "FROM (SELECT id, status FROM reports WHERE id = ANY(?) ORDER BY id FOR UPDATE) previous "
+                            + "WHERE r.id = previous.id RETURNING r.id, previous.status");
+            ps.setString(1, status);
+            ps.setString(2, adminNotes);
+            ps.setArray(3, connection.createArrayOf("bigint", reportIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new ResolvedReport(rs.getLong(1), rs.getString(2)));
+    }
+
+    public record ResolvedReport(Long id, String previousStatus) {
+    }
+
+    /**
+     * Runs each statement in order and returns the row count of the last one (the parent table)
+     */
+    private int executeAll(List<String> statements, Collection<Long> ids) {
+        int affected = 0;
+        for (String sql : statements) {
+            affected = jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                bindArray(ps, (int) sql.chars().filter(c -> c == '?').count(), ids);
+                return ps;
+            });
+        }
+        return affected;
+    }
+
+    private static void bindArray(PreparedStatement ps, int parameters, Collection<Long> ids) throws SQLException {
+        Array array = ps.getConnection().createArrayOf("bigint", ids.toArray());
+        for (int i = 1; i <= parameters; i++) {
+            ps.setArray(i, array);
+        }
+    }
+}
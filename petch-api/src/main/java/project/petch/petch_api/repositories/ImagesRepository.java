@@ -2,13 +2,20 @@ package project.petch.petch_api.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 import project.petch.petch_api.models.Images;
+import java.util.Collection;
 import java.util.List;
 
 public interface ImagesRepository extends JpaRepository<Images, Long> {
     List<Images> findByPetId(Long petId);
 
+    // PERFORMANCE: Images for a whole page of pets in one statement
+    @Query("SELECT i FROM Images i WHERE i.pet.id IN :petIds ORDER BY i.id")
+    List<Images> findByPetIdIn(@Param("petIds") Collection<Long> petIds);
+
     // PERFORMANCE: Efficient count query instead of loading all records
     long countByPetId(Long petId);
 
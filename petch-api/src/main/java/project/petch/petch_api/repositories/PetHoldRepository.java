@@ -0,0 +1,57 @@
+package project.petch.petch_api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import project.petch.petch_api.models.PetHold;
+
+@Repository
+public interface PetHoldRepository extends JpaRepository<PetHold, Long> {
+
+    // Compare-and-set on pets.on_hold. Concurrent bookings serialize on the row lock and
+    // PostgreSQL re-checks the WHERE clause after the winner commits, so exactly one caller gets 1.
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE pets SET on_hold = true "
+            + "WHERE id = :petId AND (on_hold IS NULL OR on_hold = false) AND is_adopted = false", nativeQuery = true)
+    int markOnHold(@Param("petId") Long petId);
+
+    @Modifying
+    @Query(value = "INSERT INTO pet_holds (pet_id, appointment_id, holder_user_id, created_at, expires_at) "
+            + "VALUES (:petId, :appointmentId, :holderUserId, now(), :expiresAt) "
+            + "ON CONFLICT (pet_id) DO NOTHING", nativeQuery = true)
+    int insertHold(@Param("petId") Long petId, @Param("appointmentId") Long appointmentId,
+            @Param("holderUserId") Long holderUserId, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM pet_holds WHERE pet_id = :petId AND appointment_id = :appointmentId", nativeQuery = true)
+    int deleteHold(@Param("petId") Long petId, @Param("appointmentId") Long appointmentId);
+
+    // Only deletes a hold that is still due: one made permanent or extended meanwhile is left alone
+    @Modifying
+    @Query(value = "DELETE FROM pet_holds WHERE pet_id = :petId AND appointment_id = :appointmentId "
+            + "AND expires_at <= :now", nativeQuery = true)
+    int deleteExpiredHold(@Param("petId") Long petId, @Param("appointmentId") Long appointmentId,
+            @Param("now") LocalDateTime now);
+
+    // Only clears the flag when no other appointment holds the pet and moderation has not auto-held it
+    @Modifying
+    @Query(value = "UPDATE pets SET on_hold = false WHERE id = :petId AND on_hold = true "
+            + "AND NOT EXISTS (SELECT 1 FROM pet_holds h WHERE h.pet_id = :petId) "
+            + "AND NOT EXISTS (SELECT 1 FROM pet_report_aggregates a WHERE a.pet_id = :petId AND a.auto_held_at IS NOT NULL)",
+            nativeQuery = true)
+    int clearOnHold(@Param("petId") Long petId);
+
+    @Modifying
+    @Query(value = "UPDATE pet_holds SET expires_at = NULL WHERE pet_id = :petId AND appointment_id = :appointmentId", nativeQuery = true)
+    int makePermanent(@Param("petId") Long petId, @Param("appointmentId") Long appointmentId);
+
+    List<PetHold> findByExpiresAtIsNotNull();
+
+    List<PetHold> findByExpiresAtBefore(LocalDateTime cutoff);
+}
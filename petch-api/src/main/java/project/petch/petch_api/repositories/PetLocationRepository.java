@@ -0,0 +1,47 @@
+package project.petch.petch_api.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Effective locations of available pets for the geo search: the pet's own coordinates, otherwise
+ * its vendor's shelter location when the vendor set useShelterLocation. Pets with neither are left out.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PetLocationRepository {
+
+    public record PetLocation(long petId, double latitude, double longitude) {
+    }
+
+    private static final String LOCATED_PETS = "SELECT id, lat, lng FROM ("
+            + "SELECT p.id, "
+            + "CASE WHEN p.latitude IS NOT NULL AND p.longitude IS NOT NULL THEN p.latitude ELSE vap.latitude END AS lat, "
+            + "CASE WHEN p.latitude IS NOT NULL AND p.longitude IS NOT NULL THEN p.longitude ELSE vap.longitude END AS lng "
+            + "FROM pets p "
+            + "LEFT JOIN vendor_profiles vp ON vp.user_id = p.user_id "
+            + "LEFT JOIN vendor_adoption_preferences vap ON vap.vendor_profile_id = vp.id AND vap.use_shelter_location = true "
+            + "WHERE p.is_adopted = false AND (p.on_hold IS NULL OR p.on_hold = false)"
+            + ") located WHERE lat IS NOT NULL AND lng IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PetLocation> findAll() {
+        return jdbcTemplate.query(LOCATED_PETS, (rs, rowNum) ->
+                new PetLocation(rs.getLong(1), rs.getDouble(2), rs.getDouble(3)));
+    }
+
+    /**
+     * Pets inside a latitude/longitude box. When {@code west > east} the box crosses the
+     * antimeridian and both sides are matched.
+     */
+    public List<PetLocation> findInBox(double south, double north, double west, double east) {
+        String longitudeTest = west <= east ? "lng BETWEEN ? AND ?" : "(lng >= ? OR lng <= ?)";
+        return jdbcTemplate.query(LOCATED_PETS + " AND lat BETWEEN ? AND ? AND " + longitudeTest,
+                (rs, rowNum) -> new PetLocation(rs.getLong(1), rs.getDouble(2), rs.getDouble(3)),
+                south, north, west, east);
+    }
+}
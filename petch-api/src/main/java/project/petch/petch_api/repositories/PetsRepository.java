@@ -1,26 +1,98 @@
 package project.petch.petch_api.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import project.petch.petch_api.dto.pet.PetListingRow;
+import project.petch.petch_api.models.PetInteraction.InteractionType;
 import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import java.util.Collection;
 import java.util.List;
 
 public interface PetsRepository extends JpaRepository<Pets, Long> {
-        List<Pets> findBySpeciesIgnoreCaseAndIsAdoptedFalse(String species);
+        // PERFORMANCE: Flat rows for the filter and favorites listings in one statement: owner, verification
+        // status and adoption details are joined instead of loaded per pet, and the online form PDF is only
+        // tested for null, never read
+        String LISTING_SELECT = "SELECT new project.petch.petch_api.dto.pet.PetListingRow("
+                        + "p.id, p.name, p.species, p.breed, p.age, p.description, p.atRisk, p.fosterable, p.real, "
+                        + "p.onHold, p.isAdopted, p.viewCount, p.latitude, p.longitude, "
+                        + "u.id, u.email, u.firstName, u.lastName, u.userType, v.verificationStatus, "
+                        + "d.id, d.isDirect, d.priceEstimate, d.stepsDescription, d.redirectLink, d.phoneNumber, d.email, "
+                        + "CASE WHEN d.onlineFormPdf IS NOT NULL THEN true ELSE false END, "
+                        + "d.onlineFormFileName, d.onlineFormContentType) "
+                        + "FROM Pets p LEFT JOIN p.user u LEFT JOIN u.vendorProfile v LEFT JOIN p.adoptionDetails d ";
+
+        // Slices rather than pages: no count statement, the extra row fetched tells whether there is a next page
+        @Query(LISTING_SELECT + "WHERE UPPER(p.species) = UPPER(:species) AND p.isAdopted = false ORDER BY p.id DESC")
+        Slice<PetListingRow> findListingsBySpecies(@Param("species") String species, Pageable pageable);
+
+        @Query(LISTING_SELECT + "WHERE UPPER(p.breed) = UPPER(:breed) AND p.isAdopted = false ORDER BY p.id DESC")
+        Slice<PetListingRow> findListingsByBreed(@Param("breed") String breed, Pageable pageable);
+
+        @Query(LISTING_SELECT + "WHERE p.age BETWEEN :minAge AND :maxAge AND p.isAdopted = false ORDER BY p.id DESC")
+        Slice<PetListingRow> findListingsByAgeRange(@Param("minAge") Integer minAge, @Param("maxAge") Integer maxAge,
+                        Pageable pageable);
+
+        @Query(LISTING_SELECT + "WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :name, '%')) AND p.isAdopted = false ORDER BY p.id DESC")
+        Slice<PetListingRow> findListingsByName(@Param("name") String name, Pageable pageable);
 
-        List<Pets> findByBreedIgnoreCaseAndIsAdoptedFalse(String breed);
+        @Query(LISTING_SELECT + "WHERE p.atRisk = true AND p.isAdopted = false ORDER BY p.id DESC")
+        Slice<PetListingRow> findAtRiskListings(Pageable pageable);
 
-        List<Pets> findByAtRiskTrueAndIsAdoptedFalse();
+        @Query(LISTING_SELECT + "WHERE p.fosterable = true AND p.isAdopted = false ORDER BY p.id DESC")
+        Slice<PetListingRow> findFosterableListings(Pageable pageable);
+
+        // Most recently favorited first
+        @Query(LISTING_SELECT + "JOIN PetInteraction i ON i.pet = p "
+                        + "WHERE i.user = :user AND i.interactionType = :type ORDER BY i.createdAt DESC, i.id DESC")
+        Slice<PetListingRow> findListingsByInteraction(@Param("user") User user, @Param("type") InteractionType type,
+                        Pageable pageable);
+
+        // PERFORMANCE: Keyset pages for the catalog export, walking the primary key from afterId. Each page is
+        // a short query of its own, so no cursor or connection is held while a slow client drains the stream.
+        @Query(LISTING_SELECT + "WHERE (p.onHold IS NULL OR p.onHold = false) AND p.isAdopted = false AND p.id > :afterId "
+                        + "ORDER BY p.id")
+        List<PetListingRow> findAvailableListingsAfter(@Param("afterId") Long afterId, Limit limit);
+
+        @Query(LISTING_SELECT + "WHERE p.id IN :ids")
+        List<PetListingRow> findListingsByIdIn(@Param("ids") Collection<Long> ids);
+
+        // Geo search: which pets found within the radius also pass the listing filters (same rules as findFilteredPets)
+        @Query("SELECT p.id FROM Pets p WHERE p.id IN :ids AND "
+                        + "(p.onHold IS NULL OR p.onHold = false) AND p.isAdopted = false AND "
+                        + "(CAST(:search AS String) IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', CAST(:search AS String), '%')) "
+                        + "OR LOWER(p.species) LIKE LOWER(CONCAT('%', CAST(:search AS String), '%')) "
+                        + "OR LOWER(p.breed) LIKE LOWER(CONCAT('%', CAST(:search AS String), '%')) "
+                        + "OR LOWER(p.description) LIKE LOWER(CONCAT('%', CAST(:search AS String), '%'))) AND "
+                        + "(CAST(:species AS String) IS NULL OR UPPER(p.species) = UPPER(CAST(:species AS String))) AND "
+                        + "(CAST(:ageMin AS Integer) IS NULL OR p.age >= :ageMin) AND "
+                        + "(CAST(:ageMax AS Integer) IS NULL OR p.age <= :ageMax) AND "
+                        + "(CAST(:fosterable AS Boolean) IS NULL OR p.fosterable = :fosterable) AND "
+                        + "(CAST(:atRisk AS Boolean) IS NULL OR p.atRisk = :atRisk) AND "
+                        + "(CAST(:real AS Boolean) IS NULL OR p.real = :real)")
+        List<Long> findFilteredIdsIn(
+                        @Param("ids") Collection<Long> ids,
+                        @Param("search") String search,
+                        @Param("species") String species,
+                        @Param("ageMin") Integer ageMin,
+                        @Param("ageMax") Integer ageMax,
+                        @Param("fosterable") Boolean fosterable,
+                        @Param("atRisk") Boolean atRisk,
+                        @Param("real") Boolean real);
+
+        // Discovery candidates near the user, with the same fetch plan as findPetsNotIn
+        @Query("SELECT DISTINCT p FROM Pets p LEFT JOIN FETCH p.images LEFT JOIN FETCH p.adoptionDetails WHERE p.id IN :ids AND (p.onHold IS NULL OR p.onHold = false) AND p.isAdopted = false")
+        List<Pets> findAvailableWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 
         List<Pets> findByAtRiskFalse();
 
         List<Pets> findByAtRiskFalseAndIsAdoptedFalse();
 
-        List<Pets> findByFosterableTrueAndIsAdoptedFalse();
-
         List<Pets> findByFosterableFalse();
 
         List<Pets> findByFosterableFalseAndIsAdoptedFalse();
@@ -30,9 +102,6 @@ public interface PetsRepository extends JpaRepository<Pets, Long> {
         List<Pets> findByRealFalse();
 
         List<Pets> findByAgeBetween(Integer minAge, Integer maxAge);
-        List<Pets> findByAgeBetweenAndIsAdoptedFalse(Integer minAge, Integer maxAge);
-
-        List<Pets> findByNameContainingIgnoreCaseAndIsAdoptedFalse(String name);
 
         @Query("SELECT p FROM Pets p WHERE p.species = :species AND p.breed = :breed")
         List<Pets> findSpecificPetsByRace(@Param("species") String species, @Param("breed") String breed);
@@ -0,0 +1,253 @@
+package project.petch.petch_api.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import project.petch.petch_api.dto.report.MostReportedPetDTO;
+import project.petch.petch_api.dto.report.ReportDTO;
+import project.petch.petch_api.models.ReportStatus;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moderation-side report SQL: incremental upkeep of pet_report_aggregates and
+ * pet_report_reason_counts, the auto-hold transitions, and the admin read models.
+ *
+ * Reads are single statements that return finished rows (reasons folded in with string_agg),
+ * so a page costs two round trips (rows and count) whatever its size. Writes must run inside
+ * the caller's transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportModerationRepository {
+
+    private static final String REPORT_SELECT =
+            "SELECT r.id, r.pet_id, p.name AS pet_name, p.species AS pet_species, p.breed AS pet_breed, "
+                    + "u.id AS reporter_id, u.email AS reporter_email, u.first_name, u.last_name, "
+                    + "(SELECT string_agg(rr.reason, ',') FROM report_reasons rr WHERE rr.report_id = r.id) AS reasons, "
+                    + "r.additional_details, r.status, r.admin_notes, r.created_at, r.resolved_at "
+                    + "FROM reports r JOIN pets p ON p.id = r.pet_id JOIN users u ON u.id = r.reporter_id ";
+
+    private static final String QUEUE_SELECT =
+            "SELECT a.pet_id, p.name AS pet_name, p.species AS pet_species, p.breed AS pet_breed, "
+                    + "u.id AS owner_id, u.email AS owner_email, "
+                    + "a.report_count, a.pending_count, a.last_reported_at, a.auto_held_at, "
+                    + "(SELECT string_agg(c.reason || ':' || c.report_count, ',' ORDER BY c.report_count DESC, c.reason) "
+                    + "FROM pet_report_reason_counts c WHERE c.pet_id = a.pet_id) AS reasons "
+                    + "FROM pet_report_aggregates a JOIN pets p ON p.id = a.pet_id LEFT JOIN users u ON u.id = p.user_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Count a new (PENDING) report against the pet and its reasons.
+     *
+     * @return the pet's pending report count after this report
+     */
+    public long recordReport(Long petId, Collection<String> reasons) {
+        Long pending = jdbcTemplate.queryForObject(
+                "INSERT INTO pet_report_aggregates (pet_id, report_count, pending_count, last_reported_at) "
+                        + "VALUES (?, 1, 1, now()) "
+                        + "ON CONFLICT (pet_id) DO UPDATE SET report_count = pet_report_aggregates.report_count + 1, "
+                        + "pending_count = pet_report_aggregates.pending_count + 1, last_reported_at = now() "
+                        + "RETURNING pending_count",
+                Long.class, petId);
+        if (!reasons.isEmpty()) {
+            jdbcTemplate.update(connection -> {
+                var ps = connection.prepareStatement(
+                        "INSERT INTO pet_report_reason_counts (pet_id, reason, report_count) "
+                                + "SELECT ?, reason, 1 FROM unnest(?::text[]) AS reason "
+                                + "ON CONFLICT (pet_id, reason) DO UPDATE SET "
+                                + "report_count = pet_report_reason_counts.report_count + 1");
+                ps.setLong(1, petId);
+                ps.setArray(2, connection.createArrayOf("text", reasons.toArray()));
+                return ps;
+            });
+        }
+        return pending == null ? 0 : pending;
+    }
+
+    /**
+     * @return the pet's pending report count after the change, or null if it has no aggregate row
+     */
+    public Long adjustPending(Long petId, long delta) {
+        List<Long> pending = jdbcTemplate.queryForList(
+                "UPDATE pet_report_aggregates SET pending_count = GREATEST(pending_count + ?, 0) "
+                        + "WHERE pet_id = ? RETURNING pending_count",
+                Long.class, delta, petId);
+        return pending.isEmpty() ? null : pending.get(0);
+    }
+
+    /**
+     * Hide the listing unless it is already auto-held.
+     *
+     * @return true if this call put the hold in place
+     */
+    public boolean autoHold(Long petId) {
+        return jdbcTemplate.update(
+                "WITH held AS (UPDATE pet_report_aggregates SET auto_held_at = now() "
+                        + "WHERE pet_id = ? AND auto_held_at IS NULL RETURNING pet_id) "
+                        + "UPDATE pets SET on_hold = true FROM held WHERE pets.id = held.pet_id",
+                petId) > 0;
+    }
+
+    /**
+     * Lift the auto-hold. The listing only reappears if no appointment holds the pet.
+     *
+     * @return true if an auto-hold was lifted
+     */
+    public boolean releaseAutoHold(Long petId) {
+        Integer released = jdbcTemplate.queryForObject(
+                "WITH released AS (UPDATE pet_report_aggregates SET auto_held_at = NULL "
+                        + "WHERE pet_id = ? AND auto_held_at IS NOT NULL RETURNING pet_id), "
+                        + "relisted AS (UPDATE pets SET on_hold = false FROM released WHERE pets.id = released.pet_id "
+                        + "AND NOT EXISTS (SELECT 1 FROM pet_holds h WHERE h.pet_id = pets.id) RETURNING pets.id) "
+                        + "SELECT count(*) FROM released",
+                Integer.class, petId);
+        return released != null && released > 0;
+    }
+
+    /**
+     * Enforce the threshold for every pet at once (after reconciliation or bulk resolution).
+     *
+     * @return number of pets whose auto-hold state changed
+     */
+    public int applyThreshold(long threshold) {
+        int held = threshold <= 0 ? 0 : jdbcTemplate.update(
+                "WITH held AS (UPDATE pet_report_aggregates SET auto_held_at = now() "
+                        + "WHERE auto_held_at IS NULL AND pending_count >= ? RETURNING pet_id) "
+                        + "UPDATE pets SET on_hold = true FROM held WHERE pets.id = held.pet_id",
+                threshold);
+        Integer released = jdbcTemplate.queryForObject(
+                "WITH released AS (UPDATE pet_report_aggregates SET auto_held_at = NULL "
+                        + "WHERE auto_held_at IS NOT NULL AND pending_count < ? RETURNING pet_id), "
+                        + "relisted AS (UPDATE pets SET on_hold = false FROM released WHERE pets.id = released.pet_id "
+                        + "AND NOT EXISTS (SELECT 1 FROM pet_holds h WHERE h.pet_id = pets.id) RETURNING pets.id) "
+                        + "SELECT count(*) FROM released",
+                Integer.class, threshold <= 0 ? Long.MAX_VALUE : threshold);
+        return held + (released == null ? 0 : released);
+    }
+
+    /**
+     * Rebuild both aggregate tables from reports.
+     *
+     * @return number of aggregate rows written or removed
+     */
+    public int reconcile() {
+        int changed = jdbcTemplate.update(
+                "INSERT INTO pet_report_aggregates (pet_id, report_count, pending_count, last_reported_at) "
+                        + "SELECT r.pet_id, count(*), count(*) FILTER (WHERE r.status = 'PENDING'), max(r.created_at) "
+                        + "FROM reports r GROUP BY r.pet_id "
+                        + "ON CONFLICT (pet_id) DO UPDATE SET report_count = EXCLUDED.report_count, "
+                        + "pending_count = EXCLUDED.pending_count, last_reported_at = EXCLUDED.last_reported_at "
+                        + "WHERE pet_report_aggregates.report_count <> EXCLUDED.report_count "
+                        + "OR pet_report_aggregates.pending_count <> EXCLUDED.pending_count");
+        changed += jdbcTemplate.update(
+                "UPDATE pet_report_aggregates a SET report_count = 0, pending_count = 0 "
+                        + "WHERE (a.report_count <> 0 OR a.pending_count <> 0) "
+                        + "AND NOT EXISTS (SELECT 1 FROM reports r WHERE r.pet_id = a.pet_id)");
+        changed += jdbcTemplate.update(
+                "DELETE FROM pet_report_aggregates a WHERE NOT EXISTS (SELECT 1 FROM pets p WHERE p.id = a.pet_id)");
+        jdbcTemplate.update(
+                "DELETE FROM pet_report_reason_counts c WHERE NOT EXISTS (SELECT 1 FROM reports r "
+                        + "JOIN report_reasons rr ON rr.report_id = r.id WHERE r.pet_id = c.pet_id AND rr.reason = c.reason)");
+        jdbcTemplate.update(
+                "INSERT INTO pet_report_reason_counts (pet_id, reason, report_count) "
+                        + "SELECT r.pet_id, rr.reason, count(*) FROM reports r JOIN report_reasons rr ON rr.report_id = r.id "
+                        + "GROUP BY r.pet_id, rr.reason "
+                        + "ON CONFLICT (pet_id, reason) DO UPDATE SET report_count = EXCLUDED.report_count "
+                        + "WHERE pet_report_reason_counts.report_count <> EXCLUDED.report_count");
+        return changed;
+    }
+
+    public Page<MostReportedPetDTO> findMostReported(boolean pendingOnly, Pageable pageable) {
+        String where = pendingOnly ? "WHERE a.pending_count > 0 " : "WHERE a.report_count > 0 ";
+        List<MostReportedPetDTO> rows = jdbcTemplate.query(
+                QUEUE_SELECT + where
+                        + "ORDER BY a.pending_count DESC, a.report_count DESC, a.last_reported_at DESC, a.pet_id "
+                        + "LIMIT ? OFFSET ?",
+                (rs, i) -> MostReportedPetDTO.builder()
+                        .petId(rs.getLong("pet_id"))
+                        .petName(rs.getString("pet_name"))
+                        .petSpecies(rs.getString("pet_species"))
+                        .petBreed(rs.getString("pet_breed"))
+                        .ownerId(rs.getObject("owner_id", Long.class))
+                        .ownerEmail(rs.getString("owner_email"))
+                        .reportCount(rs.getLong("report_count"))
+                        .pendingCount(rs.getLong("pending_count"))
+                        .reasonCounts(parseReasonCounts(rs.getString("reasons")))
+                        .lastReportedAt(rs.getObject("last_reported_at", LocalDateTime.class))
+                        .autoHeld(rs.getObject("auto_held_at") != null)
+                        .autoHeldAt(rs.getObject("auto_held_at", LocalDateTime.class))
+                        .build(),
+                pageable.getPageSize(), pageable.getOffset());
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pet_report_aggregates a JOIN pets p ON p.id = a.pet_id " + where, Long.class);
+        return new PageImpl<>(rows, pageable, total == null ? 0 : total);
+    }
+
+    /**
+     * Newest reports first, optionally filtered by status
+     */
+    public Page<ReportDTO> findReports(ReportStatus status, Pageable pageable) {
+        String where = status == null ? "" : "WHERE r.status = ? ";
+        Object[] filter = status == null ? new Object[0] : new Object[] { status.name() };
+
+        List<ReportDTO> rows = jdbcTemplate.query(
+                REPORT_SELECT + where + "ORDER BY r.created_at DESC, r.id DESC LIMIT ? OFFSET ?",
+                (rs, i) -> mapReport(rs),
+                append(filter, pageable.getPageSize(), pageable.getOffset()));
+        Long total = jdbcTemplate.queryForObject("SELECT count(*) FROM reports r " + where, Long.class, filter);
+        return new PageImpl<>(rows, pageable, total == null ? 0 : total);
+    }
+
+    private static ReportDTO mapReport(ResultSet rs) throws SQLException {
+        String reasons = rs.getString("reasons");
+        Set<String> reasonSet = reasons == null ? Set.of() : new LinkedHashSet<>(Arrays.asList(reasons.split(",")));
+        return ReportDTO.builder()
+                .id(rs.getLong("id"))
+                .petId(rs.getLong("pet_id"))
+                .petName(rs.getString("pet_name"))
+                .petSpecies(rs.getString("pet_species"))
+                .petBreed(rs.getString("pet_breed"))
+                .reporterId(rs.getLong("reporter_id"))
+                .reporterEmail(rs.getString("reporter_email"))
+                .reporterName(rs.getString("first_name") + " " + rs.getString("last_name"))
+                .reasons(reasonSet)
+                .additionalDetails(rs.getString("additional_details"))
+                .status(rs.getString("status"))
+                .adminNotes(rs.getString("admin_notes"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .resolvedAt(rs.getObject("resolved_at", LocalDateTime.class))
+                .build();
+    }
+
+    private static Map<String, Long> parseReasonCounts(String folded) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (folded == null || folded.isEmpty()) {
+            return counts;
+        }
+        for (String entry : folded.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            counts.put(entry.substring(0, separator), Long.parseLong(entry.substring(separator + 1)));
+        }
+        return counts;
+    }
+
+    private static Object[] append(Object[] args, Object... more) {
+        Object[] result = Arrays.copyOf(args, args.length + more.length);
+        System.arraycopy(more, 0, result, args.length, more.length);
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package project.petch.petch_api.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.petch.petch_api.models.StatsCounter;
+import project.petch.petch_api.models.StatsCounterName;
+
+@Repository
+public interface StatsCounterRepository extends JpaRepository<StatsCounter, StatsCounterName> {
+
+    // Atomic on the database side, so concurrent flushes from several nodes never lose deltas
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO stats_counters (name, value, updated_at) VALUES (:name, :delta, now()) " +
+            "ON CONFLICT (name) DO UPDATE SET value = stats_counters.value + :delta, updated_at = now()",
+            nativeQuery = true)
+    void addDelta(@Param("name") String name, @Param("delta") long delta);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO stats_counters (name, value, updated_at) VALUES (:name, :value, now()) " +
+            "ON CONFLICT (name) DO UPDATE SET value = :value, updated_at = now()",
+            nativeQuery = true)
+    void setValue(@Param("name") String name, @Param("value") long value);
+}
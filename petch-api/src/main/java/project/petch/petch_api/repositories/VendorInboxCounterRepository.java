@@ -0,0 +1,57 @@
+package project.petch.petch_api.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.petch.petch_api.models.VendorInboxCounter;
+
+@Repository
+public interface VendorInboxCounterRepository extends JpaRepository<VendorInboxCounter, Long> {
+
+    // Runs in the caller's transaction so the counter commits or rolls back with the submission change
+    @Modifying
+    @Query(value = "INSERT INTO vendor_inbox_counters (vendor_user_id, unread_count, updated_at) "
+            + "VALUES (:vendorUserId, GREATEST(:delta, 0), now()) "
+            + "ON CONFLICT (vendor_user_id) DO UPDATE SET "
+            + "unread_count = GREATEST(vendor_inbox_counters.unread_count + :delta, 0), updated_at = now()",
+            nativeQuery = true)
+    void addDelta(@Param("vendorUserId") Long vendorUserId, @Param("delta") long delta);
+
+    // Recount the owner of one pet after set-based deletes of its submissions
+    @Modifying
+    @Query(value = "INSERT INTO vendor_inbox_counters (vendor_user_id, unread_count, updated_at) "
+            + "SELECT p.user_id, (SELECT count(*) FROM adoption_form_submissions s "
+            + "WHERE s.vendor_user_id = p.user_id AND s.status = 'NEW'), now() "
+            + "FROM pets p WHERE p.id = :petId AND p.user_id IS NOT NULL "
+            + "ON CONFLICT (vendor_user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count, updated_at = now()",
+            nativeQuery = true)
+    void recountForPet(@Param("petId") Long petId);
+
+    // Fill vendor_user_id on submissions created before the column existed
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE adoption_form_submissions s SET vendor_user_id = p.user_id "
+            + "FROM pets p WHERE p.id = s.pet_id AND s.vendor_user_id IS NULL", nativeQuery = true)
+    int backfillVendorUserIds();
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO vendor_inbox_counters (vendor_user_id, unread_count, updated_at) "
+            + "SELECT s.vendor_user_id, count(*) FILTER (WHERE s.status = 'NEW'), now() "
+            + "FROM adoption_form_submissions s WHERE s.vendor_user_id IS NOT NULL GROUP BY s.vendor_user_id "
+            + "ON CONFLICT (vendor_user_id) DO UPDATE SET unread_count = EXCLUDED.unread_count, updated_at = now() "
+            + "WHERE vendor_inbox_counters.unread_count <> EXCLUDED.unread_count",
+            nativeQuery = true)
+    int reconcileVendorsWithSubmissions();
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE vendor_inbox_counters c SET unread_count = 0, updated_at = now() "
+            + "WHERE c.unread_count <> 0 AND NOT EXISTS (SELECT 1 FROM adoption_form_submissions s "
+            + "WHERE s.vendor_user_id = c.vendor_user_id AND s.status = 'NEW')",
+            nativeQuery = true)
+    int reconcileVendorsWithoutUnread();
+}
@@ -0,0 +1,271 @@
+package project.petch.petch_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import project.petch.petch_api.models.AdminAuditLog;
+import project.petch.petch_api.repositories.AdminAuditLogRepository;
+import project.petch.petch_api.util.MpscRingBuffer;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only pipeline for admin_audit_logs.
+ *
+ * Durability modes (app.audit.durability):
+ * - COMMIT: entries of one transaction are written as a single JDBC batch just before it
+ *   commits, on the same connection, so the audit trail commits or rolls back with the action.
+ * - ASYNC: entries go into a lock-free ring buffer after commit and a writer thread inserts
+ *   them in batches. An entry can be lost if the process dies before the next batch.
+ *
+ * The newest entries are also kept in memory, so the dashboard read never hits the database.
+ * The tail is per node: it holds this node's writes plus whatever was stored at startup.
+ */
+@Service
+@Slf4j
+public class AdminAuditWriter implements SmartLifecycle {
+
+    public enum Durability {
+        COMMIT,
+        ASYNC
+    }
+
+    private static final String INSERT_SQL = "INSERT INTO admin_audit_logs "
+            + "(id, admin_email, action, target_type, target_id, target_details, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('admin_audit_logs', 'id')) FROM generate_series(1, ?)";
+    private static final int TAIL_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AdminAuditLogRepository auditLogRepository;
+    private final Durability durability;
+    private final int batchSize;
+    private final long idleParkNanos;
+    private final MpscRingBuffer<AdminAuditLog> buffer;
+
+    private final ConcurrentLinkedDeque<AdminAuditLog> tail = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger tailSize = new AtomicInteger();
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public AdminAuditWriter(JdbcTemplate jdbcTemplate,
+            AdminAuditLogRepository auditLogRepository,
+            @Value("${app.audit.durability:COMMIT}") Durability durability,
+            @Value("${app.audit.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${app.audit.batch-size:200}") int batchSize,
+            @Value("${app.audit.idle-flush-ms:50}") long idleFlushMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditLogRepository = auditLogRepository;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.idleParkNanos = TimeUnit.MILLISECONDS.toNanos(idleFlushMs);
+        this.buffer = new MpscRingBuffer<>(bufferCapacity);
+    }
+
+    /**
+     * Record an admin action. Inside a transaction the entry only becomes visible (and,
+     * in ASYNC mode, is only queued) once that transaction commits.
+     */
+    public void append(AdminAuditLog entry) {
+        if (entry.getCreatedAt() == null) {
+            entry.setCreatedAt(LocalDateTime.now());
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (durability == Durability.COMMIT) {
+                writeBatch(List.of(entry));
+            } else {
+                enqueue(entry);
+            }
+            addToTail(entry);
+            return;
+        }
+        pendingForTransaction().add(entry);
+    }
+
+    /**
+     * Most recent entries, newest first
+     */
+    public List<AdminAuditLog> getRecent() {
+        return List.copyOf(tail);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadTail() {
+        List<AdminAuditLog> stored = auditLogRepository.findTop100ByOrderByCreatedAtDesc();
+        // Stored entries are older than anything appended since startup
+        for (AdminAuditLog entry : stored) {
+            if (tailSize.get() >= TAIL_SIZE) {
+                break;
+            }
+            tail.addLast(entry);
+            tailSize.incrementAndGet();
+        }
+        log.info("Loaded {} audit log entries into memory (durability={})", stored.size(), durability);
+    }
+
+    private List<AdminAuditLog> pendingForTransaction() {
+        @SuppressWarnings("unchecked")
+        List<AdminAuditLog> pending = (List<AdminAuditLog>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<AdminAuditLog> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (durability == Durability.COMMIT) {
+                    writeBatch(created);
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                for (AdminAuditLog entry : created) {
+                    if (durability == Durability.ASYNC) {
+                        enqueue(entry);
+                    }
+                    addToTail(entry);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(AdminAuditWriter.this);
+            }
+        });
+        return created;
+    }
+
+    private void enqueue(AdminAuditLog entry) {
+        if (!buffer.offer(entry)) {
+            // Never drop audit entries: fall back to a synchronous write under overload
+            log.warn("Audit buffer full ({} entries), writing synchronously", buffer.capacity());
+            writeWithRetry(List.of(entry));
+            return;
+        }
+        Thread writer = writerThread;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void addToTail(AdminAuditLog entry) {
+        tail.addFirst(entry);
+        if (tailSize.incrementAndGet() > TAIL_SIZE && tail.pollLast() != null) {
+            tailSize.decrementAndGet();
+        }
+    }
+
+    /**
+     * Assigns ids from the table's sequence (so tail entries carry real ids) and inserts
+     * all entries in one JDBC batch.
+     */
+    private void writeBatch(List<AdminAuditLog> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, entries.size());
+        Iterator<Long> nextId = ids.iterator();
+        for (AdminAuditLog entry : entries) {
+            if (entry.getId() == null) {
+                entry.setId(nextId.next());
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getId());
+            ps.setString(2, entry.getAdminEmail());
+            ps.setString(3, entry.getAction());
+            ps.setString(4, entry.getTargetType());
+            if (entry.getTargetId() != null) {
+                ps.setLong(5, entry.getTargetId());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setString(6, entry.getTargetDetails());
+            ps.setTimestamp(7, Timestamp.valueOf(entry.getCreatedAt()));
+        });
+    }
+
+    private void writeWithRetry(List<AdminAuditLog> entries) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            try {
+                writeBatch(entries);
+                return;
+            } catch (Exception e) {
+                log.warn("Audit batch of {} failed (attempt {}/{}): {}", entries.size(), attempt, MAX_ATTEMPTS, e.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200L * attempt));
+            }
+        }
+        // Last resort so the trail survives in the application log
+        entries.forEach(entry -> log.error("Unwritten audit entry: admin={}, action={}, target={}:{}, details={}, at={}",
+                entry.getAdminEmail(), entry.getAction(), entry.getTargetType(), entry.getTargetId(),
+                entry.getTargetDetails(), entry.getCreatedAt()));
+    }
+
+    private void writerLoop() {
+        List<AdminAuditLog> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, idleParkNanos);
+                continue;
+            }
+            writeWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (durability == Durability.ASYNC) {
+            Thread thread = new Thread(this::writerLoop, "audit-writer");
+            thread.setDaemon(true);
+            writerThread = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Drains whatever is still buffered before the DataSource shuts down.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
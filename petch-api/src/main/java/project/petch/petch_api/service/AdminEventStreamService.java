@@ -0,0 +1,186 @@
+package project.petch.petch_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import project.petch.petch_api.dto.admin.AdminEvent;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fan-out hub behind GET /api/admin/stream.
+ *
+ * Each committed AdminEvent is serialized once and offered to every connection's
+ * bounded queue. A connection is drained by at most one virtual thread at a time, so a
+ * slow dashboard only delays itself. When its queue overflows, the oldest events are
+ * dropped and a single "resync" event tells the dashboard to reload its data.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminEventStreamService {
+
+    private static final String RESYNC = "resync";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.admin-stream.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${app.admin-stream.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${app.admin-stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("admin-sse-", 0).factory());
+
+    /**
+     * Register a dashboard connection. The first event carries the current stats so the
+     * client has a baseline to apply deltas to.
+     */
+    public SseEmitter subscribe(Object initialStats) {
+        if (subscribers.size() >= maxConnections) {
+            throw new IllegalStateException("Too many open admin streams");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        subscriber.offer(new Message(sequence.get(), "stats", toJson(initialStats)));
+        schedule(subscriber);
+        log.debug("Admin stream opened ({} connections)", subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Runs after the publishing transaction commits, or immediately when there is none.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdminEvent(AdminEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        broadcast(new Message(sequence.incrementAndGet(), event.type().name(), toJson(event)));
+    }
+
+    @Scheduled(fixedRateString = "${app.admin-stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (!subscribers.isEmpty()) {
+            broadcast(new Message(-1, HEARTBEAT, ""));
+        }
+    }
+
+    public int getConnectionCount() {
+        return subscribers.size();
+    }
+
+    private void broadcast(Message message) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(message);
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                if (subscriber.overflowed.getAndSet(false)) {
+                    send(subscriber, new Message(sequence.get(), RESYNC, ""));
+                }
+                Message message = subscriber.queue.poll();
+                if (message == null) {
+                    subscriber.draining.set(false);
+                    // Re-check: an offer may have raced with the flag reset
+                    if ((subscriber.queue.isEmpty() && !subscriber.overflowed.get())
+                            || !subscriber.draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                send(subscriber, message);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; the emitter callbacks remove the subscriber
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        }
+    }
+
+    private void send(Subscriber subscriber, Message message) throws IOException {
+        if (HEARTBEAT.equals(message.name())) {
+            subscriber.emitter.send(SseEmitter.event().comment(HEARTBEAT));
+            return;
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event().name(message.name());
+        if (message.id() >= 0) {
+            builder.id(Long.toString(message.id()));
+        }
+        subscriber.emitter.send(builder.data(message.json(), MediaType.APPLICATION_JSON));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize admin event", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private record Message(long id, String name, String json) {
+    }
+
+    private record Subscriber(SseEmitter emitter, Queue<Message> queue, AtomicBoolean draining,
+            AtomicBoolean overflowed) {
+
+        Subscriber(SseEmitter emitter, Queue<Message> queue) {
+            this(emitter, queue, new AtomicBoolean(), new AtomicBoolean());
+        }
+
+        /**
+         * Drop-oldest on overflow; the dashboard is told to resync instead of replaying.
+         */
+        void offer(Message message) {
+            while (!queue.offer(message)) {
+                queue.poll();
+                overflowed.set(true);
+            }
+        }
+    }
+}
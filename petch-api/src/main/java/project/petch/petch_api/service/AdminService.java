@@ -2,22 +2,33 @@ package project.petch.petch_api.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.petch.petch_api.config.ExecutorMetrics;
+import project.petch.petch_api.config.ExecutorMetricsRegistry;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
 import project.petch.petch_api.dto.admin.AdminStatsDto;
 import project.petch.petch_api.dto.admin.AdminUserDto;
+import project.petch.petch_api.dto.admin.CacheStatsDto;
+import project.petch.petch_api.dto.admin.ExecutorStatsDto;
+import project.petch.petch_api.dto.admin.SecurityEvent;
+import project.petch.petch_api.dto.admin.SecurityEventType;
 import project.petch.petch_api.dto.admin.VendorVerificationRequestDTO;
 import project.petch.petch_api.models.VerificationRequestStatus;
-import project.petch.petch_api.dto.user.UserType;
 import project.petch.petch_api.models.AdminAuditLog;
 import project.petch.petch_api.models.Pets;
-import project.petch.petch_api.models.ReportStatus;
+import project.petch.petch_api.models.StatsCounterName;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.models.VerificationStatus;
 import project.petch.petch_api.models.VendorProfile;
 import project.petch.petch_api.models.VendorVerificationRequest;
-import project.petch.petch_api.repositories.AdminAuditLogRepository;
 import project.petch.petch_api.repositories.PasswordResetTokenRepository;
 import project.petch.petch_api.repositories.PetInteractionRepository;
 import project.petch.petch_api.repositories.PetsRepository;
@@ -28,11 +39,14 @@ import project.petch.petch_api.repositories.VendorProfileRepository;
 import project.petch.petch_api.repositories.VendorVerificationRequestRepository;
 
 import java.util.List;
+import java.util.Map;
 import java.time.LocalDateTime;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+// Only used by the lazy AdminController
+@Lazy
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -40,7 +54,7 @@ public class AdminService {
 
     private final UserRepository userRepository;
     private final PetsRepository petsRepository;
-    private final AdminAuditLogRepository auditLogRepository;
+    private final AdminAuditWriter auditWriter;
     private final ReportRepository reportRepository;
     private final PetInteractionRepository petInteractionRepository;
     private final UserPreferenceRepository userPreferenceRepository;
@@ -49,25 +63,24 @@ public class AdminService {
     private final PetDocumentsService petDocumentsService;
     private final VendorProfileRepository vendorProfileRepository;
     private final VendorVerificationRequestRepository vendorVerificationRequestRepository;
+    private final CacheManager cacheManager;
+    private final PetCacheInvalidator petCacheInvalidator;
+    private final ExecutorMetricsRegistry executorMetricsRegistry;
+    private final StatsCounterService statsCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SecurityEventLogger securityEventLogger;
 
     /**
-     * Get admin dashboard statistics using efficient count queries
+     * Get admin dashboard statistics from the materialized stats counters (O(1), no COUNT queries)
      */
     public AdminStatsDto getStats() {
-        long totalUsers = userRepository.count();
-        long totalPets = petsRepository.count();
-        long totalAdoptedPets = petsRepository.countByIsAdoptedTrue();
-        long totalAdopters = userRepository.countByUserType(UserType.ADOPTER);
-        long totalVendors = userRepository.countByUserType(UserType.VENDOR);
-        long pendingReports = reportRepository.countByStatus(ReportStatus.PENDING);
-
         return AdminStatsDto.builder()
-                .totalUsers(totalUsers)
-                .totalPets(totalPets)
-                .totalAdoptedPets(totalAdoptedPets)
-                .totalAdopters(totalAdopters)
-                .totalVendors(totalVendors)
-                .pendingReports(pendingReports)
+                .totalUsers(statsCounterService.get(StatsCounterName.TOTAL_USERS))
+                .totalPets(statsCounterService.get(StatsCounterName.TOTAL_PETS))
+                .totalAdoptedPets(statsCounterService.get(StatsCounterName.ADOPTED_PETS))
+                .totalAdopters(statsCounterService.get(StatsCounterName.ADOPTERS))
+                .totalVendors(statsCounterService.get(StatsCounterName.VENDORS))
+                .pendingReports(statsCounterService.get(StatsCounterName.PENDING_REPORTS))
                 .build();
     }
 
@@ -122,6 +135,7 @@ public class AdminService {
 
         log.info("Admin {} deleted user: {}", currentUserEmail, targetDetails);
         userRepository.deleteById(id);
+        petCacheInvalidator.allPetsChanged();
     }
 
     // PERFORMANCE: Added pagination to avoid loading all pets at once
@@ -160,13 +174,58 @@ public class AdminService {
 
         log.info("Admin {} deleted pet: {}", currentUserEmail, targetDetails);
         petsRepository.deleteById(id);
+        petCacheInvalidator.petChanged(id);
+    }
+
+    /**
+     * Get hit/miss/eviction statistics for every Caffeine cache
+     */
+    public List<CacheStatsDto> getCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> {
+                    CacheStats stats = cache.getNativeCache().stats();
+                    return CacheStatsDto.builder()
+                            .name(cache.getName())
+                            .estimatedSize(cache.getNativeCache().estimatedSize())
+                            .hitCount(stats.hitCount())
+                            .missCount(stats.missCount())
+                            .hitRate(stats.hitRate())
+                            .loadSuccessCount(stats.loadSuccessCount())
+                            .loadFailureCount(stats.loadFailureCount())
+                            .averageLoadPenaltyMs(stats.averageLoadPenalty() / 1_000_000.0)
+                            .evictionCount(stats.evictionCount())
+                            .evictionWeight(stats.evictionWeight())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Get activity, queue depth, rejection and latency figures for every background executor
+     */
+    public List<ExecutorStatsDto> getExecutorStats() {
+        return executorMetricsRegistry.getAll().stream()
+                .map(ExecutorMetrics::snapshot)
+                .toList();
     }
 
     /**
      * Get recent audit logs for admin dashboard
      */
     public List<AdminAuditLog> getRecentAuditLogs() {
-        return auditLogRepository.findTop100ByOrderByCreatedAtDesc();
+        // PERFORMANCE: Served from the writer's in-memory tail, no query per dashboard load
+        return auditWriter.getRecent();
+    }
+
+    /**
+     * Recent security events for the admin dashboard, from SecurityEventLogger's in-memory buffer
+     */
+    public List<SecurityEvent> getRecentSecurityEvents(SecurityEventType type, String ipAddress, int limit) {
+        return securityEventLogger.getRecent(type, ipAddress, Math.min(Math.max(limit, 1), 500));
     }
 
     public List<VendorVerificationRequestDTO> getVerificationRequests(VerificationRequestStatus status) {
@@ -200,6 +259,8 @@ public class AdminService {
         verificationRequest.setRejectionReason(nextStatus == VerificationRequestStatus.REJECTED ? rejectionReason : null);
 
         VendorVerificationRequest savedRequest = vendorVerificationRequestRepository.save(verificationRequest);
+        eventPublisher.publishEvent(AdminEvent.of(AdminEventType.VERIFICATION_REVIEWED, savedRequest.getId(),
+                Map.of("status", nextStatus)));
 
         VendorProfile profile = verificationRequest.getVendorProfile();
         if (profile == null) {
@@ -212,6 +273,8 @@ public class AdminService {
                 : VerificationStatus.REJECTED;
         profile.setVerificationStatus(vendorStatus);
         VendorProfile savedProfile = vendorProfileRepository.save(profile);
+        // Owner verification badges are embedded in every cached pet DTO of this vendor
+        petCacheInvalidator.allPetsChanged();
 
         String targetDetails = String.format("VerificationRequest: %d | VendorProfile: %d (%s) -> %s",
                 savedRequest.getId(),
@@ -225,7 +288,8 @@ public class AdminService {
     }
 
     /**
-     * Create an audit log entry
+     * Create an audit log entry.
+     * PERFORMANCE: Batched by AdminAuditWriter instead of one INSERT per action.
      */
     private void auditLog(String adminEmail, String action, String targetType, Long targetId, String targetDetails) {
         AdminAuditLog logEntry = AdminAuditLog.builder()
@@ -236,7 +300,7 @@ public class AdminService {
                 .targetDetails(targetDetails)
                 .build();
 
-        auditLogRepository.save(logEntry);
+        auditWriter.append(logEntry);
     }
 
     private VendorVerificationRequestDTO toVerificationRequestDTO(VendorVerificationRequest request) {
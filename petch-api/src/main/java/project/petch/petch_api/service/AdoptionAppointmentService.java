@@ -3,6 +3,8 @@ package project.petch.petch_api.service;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +16,10 @@ import project.petch.petch_api.models.AdoptionAppointment.AppointmentStatus;
 import project.petch.petch_api.models.AdoptionAppointment.AppointmentType;
 import project.petch.petch_api.models.AdoptionAppointment.PaymentOption;
 import project.petch.petch_api.models.AdoptionFormSubmission;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.repositories.AdoptionAppointmentRepository;
 import project.petch.petch_api.repositories.AdoptionFormSubmissionRepository;
-import project.petch.petch_api.repositories.PetsRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -26,7 +28,9 @@ public class AdoptionAppointmentService {
 
     private final AdoptionAppointmentRepository appointmentRepository;
     private final AdoptionFormSubmissionRepository submissionRepository;
-    private final PetsRepository petsRepository;
+    private final PetHoldService petHoldService;
+    private final AdoptionFormSubmissionService submissionService;
+    private final SubmissionArchiveService submissionArchiveService;
 
     public AdoptionAppointmentDTO createAppointment(
             Long submissionId,
@@ -66,15 +70,15 @@ public class AdoptionAppointmentService {
 
         AdoptionAppointmentDTO result = toDTO(appointmentRepository.save(appointment));
 
-        // Put the pet on hold — removes it from public listings
-        submission.getPet().setOnHold(true);
-        petsRepository.save(submission.getPet());
+        // Put the pet on hold — removes it from public listings. Rolls back the booking if another
+        // appointment got there first.
+        petHoldService.acquire(submission.getPet().getId(), appointment.getId(), vendor.getId());
+
+        submissionService.changeStatus(submission, SubmissionStatus.ACCEPTED);
 
         // Remove all OTHER submissions for this pet (keep the accepted one)
-        submissionRepository.findByPetIdOrderByCreatedAtDesc(submission.getPet().getId())
-                .stream()
-                .filter(s -> !s.getId().equals(submissionId))
-                .forEach(submissionRepository::delete);
+        submissionArchiveService.archiveSubmissionsForPet(submission.getPet().getId(), submissionId,
+                SubmissionArchiveService.REASON_APPOINTMENT_CREATED);
 
         return result;
     }
@@ -84,8 +88,15 @@ public class AdoptionAppointmentService {
         if (adopter == null) {
             throw new IllegalArgumentException("User must be authenticated");
         }
-        return appointmentRepository.findByAdopterUserIdOrderByCreatedAtDesc(adopter.getId())
-                .stream().map(this::toDTO).toList();
+        return appointmentRepository.findSummariesByAdopterUserId(adopter.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AdoptionAppointmentDTO> getAppointmentsForAdopter(User adopter, Pageable pageable) {
+        if (adopter == null) {
+            throw new IllegalArgumentException("User must be authenticated");
+        }
+        return appointmentRepository.findSummariesByAdopterUserId(adopter.getId(), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -93,8 +104,15 @@ public class AdoptionAppointmentService {
         if (vendor == null) {
             throw new IllegalArgumentException("User must be authenticated");
         }
-        return appointmentRepository.findByVendorUserIdOrderByCreatedAtDesc(vendor.getId())
-                .stream().map(this::toDTO).toList();
+        return appointmentRepository.findSummariesByVendorUserId(vendor.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AdoptionAppointmentDTO> getAppointmentsForVendor(User vendor, Pageable pageable) {
+        if (vendor == null) {
+            throw new IllegalArgumentException("User must be authenticated");
+        }
+        return appointmentRepository.findSummariesByVendorUserId(vendor.getId(), pageable);
     }
 
     public AdoptionAppointmentDTO vendorConfirm(Long appointmentId, User vendor) {
@@ -102,20 +120,24 @@ public class AdoptionAppointmentService {
             throw new IllegalArgumentException("User must be authenticated");
         }
 
-        AdoptionAppointment appointment = appointmentRepository.findById(appointmentId)
+        AdoptionAppointment appointment = appointmentRepository.findByIdForUpdate(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
         if (!appointment.getVendorUser().getId().equals(vendor.getId())) {
             throw new IllegalArgumentException("You do not have access to this appointment");
         }
 
+        requireNotExpired(appointment);
+
         appointment.setVendorConfirmed(true);
         appointment.setSubmission(null); // allow submission cleanup
         appointmentRepository.save(appointment);
+        // The adoption is agreed: the pending hold must not expire and relist the pet
+        petHoldService.makePermanent(appointment.getPet().getId(), appointment.getId());
 
         // Delete all submission forms for this pet now that appointment is fully confirmed
-        submissionRepository.findByPetIdOrderByCreatedAtDesc(appointment.getPet().getId())
-                .forEach(submissionRepository::delete);
+        submissionArchiveService.archiveSubmissionsForPet(appointment.getPet().getId(), null,
+                SubmissionArchiveService.REASON_APPOINTMENT_CONFIRMED);
 
         return toDTO(appointment);
     }
@@ -125,7 +147,7 @@ public class AdoptionAppointmentService {
             throw new IllegalArgumentException("User must be authenticated");
         }
 
-        AdoptionAppointment appointment = appointmentRepository.findById(appointmentId)
+        AdoptionAppointment appointment = appointmentRepository.findByIdForUpdate(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
         if (!appointment.getAdopterUser().getId().equals(adopter.getId())) {
@@ -133,8 +155,7 @@ public class AdoptionAppointmentService {
         }
 
         // Release the pet from on-hold
-        appointment.getPet().setOnHold(false);
-        petsRepository.save(appointment.getPet());
+        petHoldService.release(appointment.getPet().getId(), appointment.getId());
 
         appointmentRepository.delete(appointment);
     }
@@ -144,7 +165,7 @@ public class AdoptionAppointmentService {
             throw new IllegalArgumentException("User must be authenticated");
         }
 
-        AdoptionAppointment appointment = appointmentRepository.findById(appointmentId)
+        AdoptionAppointment appointment = appointmentRepository.findByIdForUpdate(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
         if (!appointment.getVendorUser().getId().equals(vendor.getId())) {
@@ -152,8 +173,7 @@ public class AdoptionAppointmentService {
         }
 
         // Release the pet from on-hold
-        appointment.getPet().setOnHold(false);
-        petsRepository.save(appointment.getPet());
+        petHoldService.release(appointment.getPet().getId(), appointment.getId());
 
         appointmentRepository.delete(appointment);
     }
@@ -163,15 +183,18 @@ public class AdoptionAppointmentService {
             throw new IllegalArgumentException("User must be authenticated");
         }
 
-        AdoptionAppointment appointment = appointmentRepository.findById(appointmentId)
+        AdoptionAppointment appointment = appointmentRepository.findByIdForUpdate(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
         if (!appointment.getAdopterUser().getId().equals(adopter.getId())) {
             throw new IllegalArgumentException("You do not have access to this appointment");
         }
 
+        requireNotExpired(appointment);
+
         appointment.setSelectedTime(selectedTime);
         appointment.setStatus(AppointmentStatus.CONFIRMED);
+        petHoldService.makePermanent(appointment.getPet().getId(), appointment.getId());
         return toDTO(appointmentRepository.save(appointment));
     }
 
@@ -180,26 +203,36 @@ public class AdoptionAppointmentService {
             throw new IllegalArgumentException("User must be authenticated");
         }
 
-        AdoptionAppointment appointment = appointmentRepository.findById(appointmentId)
+        AdoptionAppointment appointment = appointmentRepository.findByIdForUpdate(appointmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment not found"));
 
         if (!appointment.getVendorUser().getId().equals(vendor.getId())) {
             throw new IllegalArgumentException("You do not have access to this appointment");
         }
 
+        requireNotExpired(appointment);
+
         appointment.setSelectedTime(selectedTime);
         appointment.setVendorConfirmed(true); // Vendor chose it — implicitly confirmed
         appointment.setStatus(AppointmentStatus.CONFIRMED);
         appointment.setSubmission(null); 
         appointmentRepository.save(appointment);
+        petHoldService.makePermanent(appointment.getPet().getId(), appointment.getId());
 
         // Delete all submission forms for this pet now that appointment is fully confirmed
-        submissionRepository.findByPetIdOrderByCreatedAtDesc(appointment.getPet().getId())
-                .forEach(submissionRepository::delete);
+        submissionArchiveService.archiveSubmissionsForPet(appointment.getPet().getId(), null,
+                SubmissionArchiveService.REASON_APPOINTMENT_CONFIRMED);
 
         return toDTO(appointment);
     }
 
+    // The pet may have been relisted or booked by someone else since the appointment expired
+    private static void requireNotExpired(AdoptionAppointment appointment) {
+        if (appointment.getStatus() == AppointmentStatus.EXPIRED) {
+            throw new IllegalArgumentException("This appointment has expired");
+        }
+    }
+
     private AdoptionAppointmentDTO toDTO(AdoptionAppointment a) {
         return AdoptionAppointmentDTO.builder()
                 .id(a.getId())
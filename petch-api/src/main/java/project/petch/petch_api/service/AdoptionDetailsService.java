@@ -23,6 +23,7 @@ import java.util.Objects;
 public class AdoptionDetailsService {
     private final AdoptionDetailsRepository adoptionDetailsRepository;
     private final PetsRepository petsRepository;
+    private final PetCacheInvalidator petCacheInvalidator;
 
     public AdoptionDetailsDTO getAdoptionDetails(Long petId) {
         AdoptionDetails adoptionDetails = adoptionDetailsRepository.findByPetId(petId)
@@ -42,6 +43,7 @@ public class AdoptionDetailsService {
         adoptionDetails.setPet(pet);
 
         AdoptionDetails saved = adoptionDetailsRepository.save(adoptionDetails);
+        petCacheInvalidator.petChanged(petId);
         return mapToDTO(saved);
     }
 
@@ -69,6 +71,7 @@ public class AdoptionDetailsService {
         }
 
         AdoptionDetails updated = adoptionDetailsRepository.save(adoptionDetails);
+        petCacheInvalidator.petChanged(petId);
         return mapToDTO(updated);
     }
 
@@ -76,6 +79,7 @@ public class AdoptionDetailsService {
         AdoptionDetails adoptionDetails = adoptionDetailsRepository.findByPetId(petId)
                 .orElseThrow(() -> new ResourceNotFoundException("Adoption details not found for pet: " + petId));
         adoptionDetailsRepository.delete(adoptionDetails);
+        petCacheInvalidator.petChanged(petId);
     }
 
     @Transactional(readOnly = true)
@@ -109,7 +113,9 @@ public class AdoptionDetailsService {
         adoptionDetails.setOnlineFormFileName(file.getOriginalFilename());
         adoptionDetails.setOnlineFormContentType(file.getContentType());
 
-        return mapToDTO(adoptionDetailsRepository.save(adoptionDetails));
+        AdoptionDetails saved = adoptionDetailsRepository.save(adoptionDetails);
+        petCacheInvalidator.petChanged(petId);
+        return mapToDTO(saved);
     }
 
     private AdoptionDetailsDTO mapToDTO(AdoptionDetails adoptionDetails) {
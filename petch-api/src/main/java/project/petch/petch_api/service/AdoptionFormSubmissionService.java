@@ -1,8 +1,19 @@
 package project.petch.petch_api.service;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.domain.Limit;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,8 +21,10 @@ import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
 import project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO;
+import project.petch.petch_api.dto.pet.SubmissionInboxPageDTO;
 import project.petch.petch_api.exception.ResourceNotFoundException;
 import project.petch.petch_api.models.AdoptionFormSubmission;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
 import project.petch.petch_api.models.Pets;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.models.VendorAdoptionPreferences;
@@ -27,6 +40,18 @@ public class AdoptionFormSubmissionService{
     private final PetsRepository petsRepository;
     private final AdoptionDetailsRepository adoptionDetailsRepository;
     private final VendorAdoptionPreferencesService vendorAdoptionPreferencesService;
+    private final VendorInboxCounterService inboxCounterService;
+
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+
+    // Status changes a vendor may make from the inbox. ACCEPTED is only reached by creating an
+    // appointment and is final; a rejected submission can be reopened as read.
+    private static final Map<SubmissionStatus, Set<SubmissionStatus>> VENDOR_TRANSITIONS = new EnumMap<>(Map.of(
+            SubmissionStatus.NEW, EnumSet.of(SubmissionStatus.READ, SubmissionStatus.SHORTLISTED, SubmissionStatus.REJECTED),
+            SubmissionStatus.READ, EnumSet.of(SubmissionStatus.NEW, SubmissionStatus.SHORTLISTED, SubmissionStatus.REJECTED),
+            SubmissionStatus.SHORTLISTED, EnumSet.of(SubmissionStatus.READ, SubmissionStatus.REJECTED),
+            SubmissionStatus.REJECTED, EnumSet.of(SubmissionStatus.READ),
+            SubmissionStatus.ACCEPTED, EnumSet.noneOf(SubmissionStatus.class)));
 
     @SuppressWarnings("null")
     public AdoptionFormSubmissionDTO submitForm(Long petId, MultipartFile file, User adopter) throws IOException{
@@ -47,6 +72,7 @@ public class AdoptionFormSubmissionService{
 
         AdoptionFormSubmission submission = AdoptionFormSubmission.builder()
                 .pet(pet)
+                .vendorUserId(pet.getUser() != null ? pet.getUser().getId() : null)
                 .adopterUser(adopter)
                 .pdfData(file.getBytes())
                 .fileName(file.getOriginalFilename())
@@ -54,13 +80,14 @@ public class AdoptionFormSubmissionService{
                 .build();
 
         AdoptionFormSubmission savedSubmission = Objects.requireNonNull(submissionRepository.save(submission),"Failed to save adoption form submission");
+        inboxCounterService.submissionAdded(savedSubmission.getVendorUserId(), savedSubmission.getStatus());
         return toDTO(savedSubmission);
     }
 
     @Transactional(readOnly = true)
     public List<AdoptionFormSubmissionDTO> getSubmissionsForVendorPet(Long petId, User vendor){
         Pets pet = requireVendorOwnedPet(petId, vendor);
-        return submissionRepository.findByPetIdOrderByCreatedAtDesc(pet.getId()).stream().map(this::toDTO).toList();
+        return submissionRepository.findSummariesByPetId(pet.getId());
     }
 
     @Transactional(readOnly = true)
@@ -68,7 +95,95 @@ public class AdoptionFormSubmissionService{
         if(vendor == null){
             throw new IllegalArgumentException("User must be authenticated");
         }
-        return submissionRepository.findByPetUserIdOrderByCreatedAtDesc(vendor.getId()).stream().map(this::toDTO).toList();
+        return submissionRepository.findSummariesByVendorUserId(vendor.getId());
+    }
+
+    /**
+     * One page of the vendor's inbox, newest first. Pass the previous page's nextCursor to continue.
+     */
+    @Transactional(readOnly = true)
+    public SubmissionInboxPageDTO getInbox(User vendor, Long petId, SubmissionStatus status,
+            LocalDate from, LocalDate to, String cursor, int size){
+        if(vendor == null){
+            throw new IllegalArgumentException("User must be authenticated");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_INBOX_PAGE_SIZE);
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if(cursor != null && !cursor.isBlank()){
+            String[] parts = decodeCursor(cursor);
+            afterCreatedAt = LocalDateTime.parse(parts[0]);
+            afterId = Long.valueOf(parts[1]);
+        }
+
+        // Fetch one extra row to know whether another page exists without a COUNT
+        List<AdoptionFormSubmissionDTO> rows = submissionRepository.findInboxPage(vendor.getId(), petId, status,
+                from == null ? null : from.atStartOfDay(),
+                to == null ? null : to.plusDays(1).atStartOfDay(),
+                afterCreatedAt, afterId, Limit.of(pageSize + 1));
+        String nextCursor = null;
+        if(rows.size() > pageSize){
+            rows = rows.subList(0, pageSize);
+            AdoptionFormSubmissionDTO last = rows.get(pageSize - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return SubmissionInboxPageDTO.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .unreadCount(inboxCounterService.getUnreadCount(vendor.getId()))
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(User vendor){
+        if(vendor == null){
+            throw new IllegalArgumentException("User must be authenticated");
+        }
+        return inboxCounterService.getUnreadCount(vendor.getId());
+    }
+
+    public AdoptionFormSubmissionDTO updateStatusForVendor(Long submissionId, SubmissionStatus status, User vendor){
+        if(vendor == null){
+            throw new IllegalArgumentException("User must be authenticated");
+        }
+        Long nonNullSubmissionId = Objects.requireNonNull(submissionId, "submissionId must not be null");
+        if(status == null){
+            throw new IllegalArgumentException("status is required");
+        }
+        if(status == SubmissionStatus.ACCEPTED){
+            throw new IllegalArgumentException("Submissions are accepted by creating an appointment");
+        }
+
+        AdoptionFormSubmission submission = submissionRepository.findById(nonNullSubmissionId).orElseThrow(() -> new ResourceNotFoundException("Submission not found"));
+        if(!canViewAllSubmissionsForPet(submission.getPet(), vendor)){
+            throw new IllegalArgumentException("You do not have access to this submission");
+        }
+        SubmissionStatus current = submission.getStatus();
+        if(current != status && !VENDOR_TRANSITIONS.get(current).contains(status)){
+            throw new IllegalArgumentException("A " + current + " submission cannot be marked " + status);
+        }
+
+        changeStatus(submission, status);
+        AdoptionFormSubmissionDTO dto = toDTO(submission);
+        dto.setStatus(status);
+        return dto;
+    }
+
+    /**
+     * Move the submission to {@code status} and adjust the owner's unread counter. Safe against
+     * concurrent changes: only the caller whose compare-and-set succeeds touches the counter.
+     */
+    public void changeStatus(AdoptionFormSubmission submission, SubmissionStatus status){
+        SubmissionStatus current = submission.getStatus();
+        if(current == status){
+            return;
+        }
+        if(submissionRepository.updateStatus(submission.getId(), current, status) == 0){
+            throw new IllegalArgumentException("Submission status was changed by someone else, please reload");
+        }
+        inboxCounterService.statusChanged(submission.getVendorUserId(), current, status);
+        // The loaded entity is deliberately left untouched: marking it dirty would rewrite the whole row, PDF included
     }
 
     @Transactional(readOnly = true)
@@ -81,10 +196,10 @@ public class AdoptionFormSubmissionService{
         Pets pet = petsRepository.findById(nonNullPetId).orElseThrow(() -> new ResourceNotFoundException("Pet not found with id: " + nonNullPetId));
 
         if(canViewAllSubmissionsForPet(pet, user)){
-            return submissionRepository.findByPetIdOrderByCreatedAtDesc(nonNullPetId).stream().map(this::toDTO).toList();
+            return submissionRepository.findSummariesByPetId(nonNullPetId);
         }
 
-        return submissionRepository.findByPetIdAndAdopterUserIdOrderByCreatedAtDesc(nonNullPetId, user.getId()).stream().map(this::toDTO).toList();
+        return submissionRepository.findSummariesByPetIdAndAdopterUserId(nonNullPetId, user.getId());
     }
 
     @Transactional(readOnly = true)
@@ -95,7 +210,7 @@ public class AdoptionFormSubmissionService{
             throw new IllegalArgumentException("User must be authenticated");
         }
 
-        return submissionRepository.findByPetIdAndAdopterUserIdOrderByCreatedAtDesc(nonNullPetId, adopter.getId()).stream().map(this::toDTO).toList();
+        return submissionRepository.findSummariesByPetIdAndAdopterUserId(nonNullPetId, adopter.getId());
     }
 
     @Transactional(readOnly = true)
@@ -118,6 +233,7 @@ public class AdoptionFormSubmissionService{
         }
 
         submissionRepository.delete(submission);
+        inboxCounterService.submissionRemoved(submission.getVendorUserId(), submission.getStatus());
     }
 
     @Transactional(readOnly = true)
@@ -155,7 +271,7 @@ public class AdoptionFormSubmissionService{
         if(adopter == null){
             throw new IllegalArgumentException("User must be authenticated");
         }
-        return submissionRepository.findByAdopterUserIdOrderByCreatedAtDesc(adopter.getId()).stream().map(this::toDTO).toList();
+        return submissionRepository.findSummariesByAdopterUserId(adopter.getId());
     }
 
     @Transactional(readOnly = true)
@@ -225,7 +341,27 @@ public class AdoptionFormSubmissionService{
                 .fileName(submission.getFileName())
                 .contentType(submission.getContentType())
                 .priceEstimate(adoptionDetailsRepository.findByPetId(submission.getPet().getId()).map(d -> d.getPriceEstimate()).orElse(null))
+                .status(submission.getStatus())
                 .createdAt(submission.getCreatedAt())
                 .build();
     }
-}
\ No newline at end of file
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id){
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor){
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if(parts.length != 2){
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -2,6 +2,7 @@ package project.petch.petch_api.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -11,6 +12,9 @@ import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
+import project.petch.petch_api.dto.admin.SecurityEventType;
 import project.petch.petch_api.dto.auth.AuthenticationRequest;
 import project.petch.petch_api.dto.auth.AuthenticationResponse;
 import project.petch.petch_api.dto.auth.RegisterRequest;
@@ -19,6 +23,8 @@ import project.petch.petch_api.models.User;
 import project.petch.petch_api.repositories.UserRepository;
 import project.petch.petch_api.util.LoggingUtils;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -30,6 +36,7 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final SecurityEventLogger securityEventLogger;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Register a new user
@@ -56,6 +63,8 @@ public class AuthenticationService {
 
         // Save user to database
         userRepository.save(user);
+        eventPublisher.publishEvent(AdminEvent.of(AdminEventType.USER_REGISTERED, user.getId(),
+                Map.of("userType", user.getUserType())));
 
         // Send welcome email (non-blocking, won't fail registration)
         emailService.sendWelcomeEmail(user.getEmail(), user.getFirstName());
@@ -86,7 +95,7 @@ public class AuthenticationService {
             if (!user.isAccountNonLocked()) {
                 log.warn("Login attempt on locked account: {}", LoggingUtils.maskEmail(request.email()));
                 securityEventLogger.logEvent(
-                        SecurityEventLogger.SecurityEventType.UNAUTHORIZED_ACCESS,
+                        SecurityEventType.UNAUTHORIZED_ACCESS,
                         getClientIP(), request.email(), "Account is locked");
                 throw new BadCredentialsException("Account is temporarily locked. Please try again later.");
             }
@@ -114,7 +123,7 @@ public class AuthenticationService {
                     log.warn("Account locked after {} failed attempts: {}", attempts,
                             LoggingUtils.maskEmail(request.email()));
                     securityEventLogger.logEvent(
-                            SecurityEventLogger.SecurityEventType.UNAUTHORIZED_ACCESS,
+                            SecurityEventType.UNAUTHORIZED_ACCESS,
                             getClientIP(), request.email(),
                             "Account locked after " + attempts + " failed attempts");
                 }
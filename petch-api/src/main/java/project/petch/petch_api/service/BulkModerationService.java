@@ -0,0 +1,314 @@
+package project.petch.petch_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.config.AsyncConfig;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
+import project.petch.petch_api.dto.admin.BulkDeleteRequest;
+import project.petch.petch_api.dto.admin.BulkResolveReportsRequest;
+import project.petch.petch_api.dto.admin.ModerationJobDto;
+import project.petch.petch_api.models.AdminAuditLog;
+import project.petch.petch_api.models.ReportStatus;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.BulkModerationRepository;
+import project.petch.petch_api.repositories.BulkModerationRepository.ResolvedReport;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk deletes of pets and users, and bulk report resolution, using set-based SQL.
+ *
+ * Deletes run as background jobs on the moderation executor and commit one chunk per
+ * transaction, so locks stay short and progress is visible through {@link #getJob(String)}.
+ * A failed job can simply be resubmitted: already deleted rows are no longer matched.
+ * Because the SQL bypasses JPA, every job finishes by evicting pet caches and reconciling
+ * the stats counters.
+ */
+// Only used by the lazy AdminController
+@Lazy
+@Service
+@Slf4j
+public class BulkModerationService {
+
+    private static final int RETAINED_JOBS = 100;
+
+    private final BulkModerationRepository bulkModerationRepository;
+    private final UserRepository userRepository;
+    private final ImageService imageService;
+    private final StatsCounterService statsCounterService;
+    private final VendorInboxCounterService inboxCounterService;
+    private final ReportAggregateService reportAggregateService;
+    private final PetCacheInvalidator petCacheInvalidator;
+    private final AdminAuditWriter auditWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor moderationExecutor;
+    private final int chunkSize;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public BulkModerationService(BulkModerationRepository bulkModerationRepository,
+            UserRepository userRepository,
+            ImageService imageService,
+            StatsCounterService statsCounterService,
+            VendorInboxCounterService inboxCounterService,
+            ReportAggregateService reportAggregateService,
+            PetCacheInvalidator petCacheInvalidator,
+            AdminAuditWriter auditWriter,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(AsyncConfig.MODERATION_EXECUTOR) Executor moderationExecutor,
+            @Value("${app.moderation.chunk-size:500}") int chunkSize) {
+        this.bulkModerationRepository = bulkModerationRepository;
+        this.userRepository = userRepository;
+        this.imageService = imageService;
+        this.statsCounterService = statsCounterService;
+        this.inboxCounterService = inboxCounterService;
+        this.reportAggregateService = reportAggregateService;
+        this.petCacheInvalidator = petCacheInvalidator;
+        this.auditWriter = auditWriter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.moderationExecutor = moderationExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Delete the given pets, or every pet of {@code vendorId}, with all dependent rows and image files
+     */
+    public ModerationJobDto deletePets(BulkDeleteRequest request) {
+        String adminEmail = currentAdminEmail();
+        List<Long> petIds;
+        String scope;
+        if (request.vendorId() != null) {
+            petIds = bulkModerationRepository.findPetIdsByOwner(request.vendorId());
+            scope = "vendorId=" + request.vendorId();
+        } else {
+            petIds = sortedIds(request);
+            scope = "ids";
+        }
+        if (petIds.isEmpty()) {
+            throw new IllegalArgumentException("No pets match the request");
+        }
+
+        Job job = new Job("DELETE_PETS", petIds.size());
+        submit(job, () -> {
+            for (List<Long> chunk : chunks(petIds)) {
+                job.deleted.addAndGet(deletePetChunk(chunk));
+                job.processed.addAndGet(chunk.size());
+            }
+        }, () -> audit(adminEmail, "BULK_DELETE_PETS", "PET",
+                String.format("Deleted %d of %d pets (%s), job %s", job.deleted.get(), job.total, scope, job.id)));
+        return job.toDto();
+    }
+
+    /**
+     * Delete the given users together with their pets and every row that references them
+     */
+    public ModerationJobDto deleteUsers(BulkDeleteRequest request) {
+        String adminEmail = currentAdminEmail();
+        List<Long> userIds = sortedIds(request);
+        if (userIds.isEmpty()) {
+            throw new IllegalArgumentException("ids are required");
+        }
+        userRepository.findByEmail(adminEmail)
+                .map(User::getId)
+                .filter(userIds::contains)
+                .ifPresent(selfId -> {
+                    throw new IllegalStateException("Cannot delete your own admin account");
+                });
+
+        Job job = new Job("DELETE_USERS", userIds.size());
+        submit(job, () -> {
+            for (List<Long> userChunk : chunks(userIds)) {
+                List<Long> petIds = bulkModerationRepository.findPetIdsByOwners(userChunk);
+                for (List<Long> petChunk : chunks(petIds)) {
+                    deletePetChunk(petChunk);
+                }
+                Integer deleted = transactionTemplate.execute(status -> bulkModerationRepository.deleteUsers(userChunk));
+                job.deleted.addAndGet(deleted == null ? 0 : deleted);
+                job.processed.addAndGet(userChunk.size());
+            }
+        }, () -> audit(adminEmail, "BULK_DELETE_USERS", "USER",
+                String.format("Deleted %d of %d users, job %s", job.deleted.get(), job.total, job.id)));
+        return job.toDto();
+    }
+
+    /**
+     * Resolve many reports at once; runs synchronously because it is a single UPDATE per chunk
+     *
+     * @return number of reports updated
+     */
+    public int resolveReports(BulkResolveReportsRequest request) {
+        ReportStatus status;
+        try {
+            status = ReportStatus.valueOf(request.status());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + request.status());
+        }
+        String adminEmail = currentAdminEmail();
+        List<Long> reportIds = new ArrayList<>(request.ids());
+
+        int updated = 0;
+        for (List<Long> chunk : chunks(reportIds)) {
+            Integer count = transactionTemplate.execute(tx -> {
+                List<ResolvedReport> resolved =
+                        bulkModerationRepository.resolveReports(chunk, status.name(), request.adminNotes());
+                // Same event as ReportService.resolveReport, delivered once this chunk commits
+                resolved.forEach(report -> eventPublisher.publishEvent(AdminEvent.of(
+                        AdminEventType.REPORT_RESOLVED, report.id(),
+                        Map.of("previousStatus", ReportStatus.valueOf(report.previousStatus()), "status", status))));
+                return resolved.size();
+            });
+            updated += count == null ? 0 : count;
+        }
+        statsCounterService.reconcile();
+        reportAggregateService.reconcile();
+        audit(adminEmail, "BULK_RESOLVE_REPORTS", "REPORT",
+                String.format("Resolved %d of %d reports as %s", updated, reportIds.size(), status));
+        return updated;
+    }
+
+    public ModerationJobDto getJob(String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Job not found with ID: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    /**
+     * Deletes one chunk of pets in its own transaction, then removes their image files
+     */
+    private int deletePetChunk(List<Long> petIds) {
+        List<String> fileNames = new ArrayList<>();
+        Integer deleted = transactionTemplate.execute(status -> {
+            fileNames.addAll(bulkModerationRepository.findImageFileNames(petIds));
+            return bulkModerationRepository.deletePets(petIds);
+        });
+        // Only after commit, so a rolled-back chunk never loses its files
+        imageService.deleteImageFiles(fileNames);
+        return deleted == null ? 0 : deleted;
+    }
+
+    private void submit(Job job, Runnable work, Runnable onFinish) {
+        jobs.put(job.id, job);
+        evictOldJobs();
+        try {
+            moderationExecutor.execute(() -> {
+                job.state = "RUNNING";
+                try {
+                    work.run();
+                    job.state = "COMPLETED";
+                } catch (Exception e) {
+                    log.error("Moderation job {} ({}) failed after {} of {}: {}",
+                            job.id, job.type, job.processed.get(), job.total, e.getMessage(), e);
+                    job.error = e.getMessage();
+                    job.state = "FAILED";
+                } finally {
+                    job.finishedAt = LocalDateTime.now();
+                    try {
+                        petCacheInvalidator.allPetsChanged();
+                        statsCounterService.reconcile();
+                        inboxCounterService.reconcile();
+                        reportAggregateService.reconcile();
+                        onFinish.run();
+                    } catch (Exception e) {
+                        log.error("Moderation job {} cleanup failed: {}", job.id, e.getMessage());
+                    }
+                    log.info("Moderation job {} ({}) {}: {} of {} processed, {} deleted",
+                            job.id, job.type, job.state, job.processed.get(), job.total, job.deleted.get());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.id);
+            throw new IllegalStateException("Too many moderation jobs queued, try again later");
+        }
+    }
+
+    private void evictOldJobs() {
+        if (jobs.size() <= RETAINED_JOBS) {
+            return;
+        }
+        jobs.values().stream()
+                .filter(job -> job.finishedAt != null)
+                .sorted(Comparator.comparing(job -> job.finishedAt))
+                .limit(jobs.size() - RETAINED_JOBS)
+                .forEach(job -> jobs.remove(job.id));
+    }
+
+    private void audit(String adminEmail, String action, String targetType, String details) {
+        auditWriter.append(AdminAuditLog.builder()
+                .adminEmail(adminEmail)
+                .action(action)
+                .targetType(targetType)
+                .targetDetails(details)
+                .build());
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static List<Long> sortedIds(BulkDeleteRequest request) {
+        // Sorted so concurrent jobs lock rows in the same order
+        return request.ids() == null ? List.of() : request.ids().stream().sorted().toList();
+    }
+
+    private static String currentAdminEmail() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
+
+    private static final class Job {
+        private final String id = UUID.randomUUID().toString();
+        private final String type;
+        private final int total;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger deleted = new AtomicInteger();
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile String state = "QUEUED";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        private Job(String type, int total) {
+            this.type = type;
+            this.total = total;
+        }
+
+        private ModerationJobDto toDto() {
+            return ModerationJobDto.builder()
+                    .id(id)
+                    .type(type)
+                    .state(state)
+                    .total(total)
+                    .processed(processed.get())
+                    .deleted(deleted.get())
+                    .error(error)
+                    .submittedAt(submittedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
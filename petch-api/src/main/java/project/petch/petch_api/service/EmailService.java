@@ -1,11 +1,14 @@
 package project.petch.petch_api.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -19,6 +22,7 @@ import java.util.List;
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
     @Value("${spring.mail.username:noreply@petch.com}")
     private String fromEmail;
@@ -27,6 +31,8 @@ public class EmailService {
     private String frontendUrl;
 
     public void sendPasswordResetEmail(String toEmail, String resetLink) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
         try {
             MimeMessage mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
@@ -37,14 +43,19 @@ public class EmailService {
             helper.setText(buildResetEmailHtml(resetLink), true);
 
             mailSender.send(mimeMessage);
+            sent = true;
             log.info("Password reset email sent to: {}", toEmail.replaceAll("(?<=.{3}).(?=.*@)", "*"));
         } catch (MessagingException e) {
             log.error("Failed to send password reset email: {}", e.getMessage());
             throw new RuntimeException("Failed to send password reset email. Please try again later.");
+        } finally {
+            recordSend(sample, "password_reset", sent);
         }
     }
 
     public void sendWelcomeEmail(String toEmail, String firstName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
         try {
             MimeMessage mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
@@ -55,14 +66,19 @@ public class EmailService {
             helper.setText(buildWelcomeEmailHtml(firstName), true);
 
             mailSender.send(mimeMessage);
+            sent = true;
             log.info("Welcome email sent to: {}", toEmail.replaceAll("(?<=.{3}).(?=.*@)", "*"));
         } catch (Exception e) {
             log.error("Failed to send welcome email: {}", e.getMessage());
             // Don't throw - welcome email failure shouldn't block registration
+        } finally {
+            recordSend(sample, "welcome", sent);
         }
     }
 
     public void sendPetMatchEmail(String toEmail, String firstName, List<Pets> matchingPets) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
         try {
             MimeMessage mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
@@ -73,13 +89,43 @@ public class EmailService {
             helper.setText(buildPetMatchEmailHtml(firstName, matchingPets), true);
 
             mailSender.send(mimeMessage);
+            sent = true;
             log.info("Pet match email sent to: {}", toEmail.replaceAll("(?<=.{3}).(?=.*@)", "*"));
         } catch (MessagingException e) {
             log.error("Failed to send pet match email: {}", e.getMessage());
+        } finally {
+            recordSend(sample, "pet_match", sent);
         }
     }
 
-    private String buildWelcomeEmailHtml(String firstName) {
+    public void sendAppointmentExpiredEmail(String toEmail, String firstName, String petName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = false;
+        try {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+            helper.setFrom(fromEmail);
+            helper.setTo(toEmail);
+            helper.setSubject("Petch - Your appointment for " + petName + " has expired");
+            helper.setText(buildAppointmentExpiredEmailHtml(firstName, petName), true);
+
+            mailSender.send(mimeMessage);
+            sent = true;
+            log.info("Appointment expired email sent to: {}", toEmail.replaceAll("(?<=.{3}).(?=.*@)", "*"));
+        } catch (MessagingException e) {
+            log.error("Failed to send appointment expired email: {}", e.getMessage());
+        } finally {
+            recordSend(sample, "appointment_expired", sent);
+        }
+    }
+
+    // Failures are mostly swallowed above, so the outcome tag is the only place they are counted
+    private void recordSend(Timer.Sample sample, String type, boolean sent) {
+        sample.stop(meterRegistry.timer("petch.email.send", "type", type, "outcome", sent ? "success" : "failure"));
+    }
+
+    String buildWelcomeEmailHtml(String firstName) {
         return """
                 <!DOCTYPE html>
                 <html>
@@ -161,7 +207,7 @@ public class EmailService {
                 """.formatted(firstName);
     }
 
-    private String buildPetMatchEmailHtml(String firstName, List<Pets> pets) {
+    String buildPetMatchEmailHtml(String firstName, List<Pets> pets) {
         StringBuilder petCards = new StringBuilder();
         for (Pets pet : pets) {
             String petLink = frontendUrl + "/petch/pet/" + pet.getId();
@@ -250,7 +296,7 @@ public class EmailService {
                 """.formatted(firstName, petCards.toString());
     }
 
-    private String buildResetEmailHtml(String resetLink) {
+    String buildResetEmailHtml(String resetLink) {
         return """
                 <!DOCTYPE html>
                 <html>
@@ -337,4 +383,56 @@ public class EmailService {
                 </html>
                 """.formatted(resetLink, resetLink);
     }
+
+    String buildAppointmentExpiredEmailHtml(String firstName, String petName) {
+        String greeting = firstName != null ? "Hi " + HtmlUtils.htmlEscape(firstName) + "," : "Hi,";
+        return """
+                <!DOCTYPE html>
+                <html>
+                <head>
+                  <meta charset="UTF-8">
+                  <meta name="viewport" content="width=device-width, initial-scale=1.0">
+                </head>
+                <body style="margin: 0; padding: 0; background-color: #f4f4f5; font-family: -apple-system, BlinkMacSystemFont, 'Segoe UI', Roboto, sans-serif;">
+                  <table width="100%%" cellpadding="0" cellspacing="0" style="background-color: #f4f4f5; padding: 40px 20px;">
+                    <tr>
+                      <td align="center">
+                        <table width="600" cellpadding="0" cellspacing="0" style="max-width: 600px; width: 100%%;">
+
+                          <!-- Top Border -->
+                          <tr>
+                            <td style="background: linear-gradient(135deg, #FF6B6B, #E85555); border-radius: 12px 12px 0 0; padding: 24px 40px; text-align: center;">
+                              <span style="color: #ffffff; font-size: 22px; font-weight: 700; letter-spacing: 0.5px;">Petch</span>
+                            </td>
+                          </tr>
+
+                          <!-- Email Body -->
+                          <tr>
+                            <td style="background-color: #ffffff; padding: 40px;">
+                              <h2 style="margin: 0 0 16px; color: #18181b; font-size: 22px; font-weight: 600;">Appointment expired</h2>
+                              <p style="margin: 0 0 16px; color: #52525b; font-size: 16px; line-height: 1.6;">%s</p>
+                              <p style="margin: 0; color: #52525b; font-size: 16px; line-height: 1.6;">
+                                The adoption appointment for <strong>%s</strong> was never given a time, so it has expired
+                                and %s is listed for adoption again.
+                              </p>
+                            </td>
+                          </tr>
+
+                          <!-- Bottom Border -->
+                          <tr>
+                            <td style="background: linear-gradient(135deg, #FF6B6B, #E85555); border-radius: 0 0 12px 12px; padding: 24px 40px; text-align: center;">
+                              <p style="margin: 0; color: rgba(255, 255, 255, 0.6); font-size: 12px;">
+                                &copy; 2026 Petch. All rights reserved.
+                              </p>
+                            </td>
+                          </tr>
+
+                        </table>
+                      </td>
+                    </tr>
+                  </table>
+                </body>
+                </html>
+                """.formatted(greeting, HtmlUtils.htmlEscape(petName), HtmlUtils.htmlEscape(petName));
+    }
 }
@@ -1,5 +1,6 @@
 package project.petch.petch_api.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +16,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -25,6 +27,7 @@ import java.util.stream.Collectors;
 public class ImageService {
     private final ImagesRepository imagesRepository;
     private final PetsRepository petsRepository;
+    private final PetCacheInvalidator petCacheInvalidator;
 
     @Value("${app.upload.dir:uploads/images}")
     private String uploadDir;
@@ -46,6 +49,7 @@ public class ImageService {
     private static final List<String> ALLOWED_CONTENT_TYPES = List.of(
             "image/jpeg", "image/png", "image/gif", "image/webp");
 
+    @Timed("petch.images.upload")
     public ImageDTO uploadImage(Long petId, MultipartFile file, String altText) throws IOException {
         Pets pet = petsRepository.findById(petId)
                 .orElseThrow(() -> new RuntimeException("Pet not found with id: " + petId));
@@ -102,6 +106,7 @@ public class ImageService {
                 .build();
 
         Images saved = imagesRepository.save(image);
+        petCacheInvalidator.petChanged(petId);
         log.info("Image uploaded successfully: petId={}, imageId={}, filename={}", petId, saved.getId(), filename);
         return toDTO(saved);
     }
@@ -114,26 +119,33 @@ public class ImageService {
         Files.deleteIfExists(filePath);
 
         imagesRepository.deleteById(imageId);
+        petCacheInvalidator.petChanged(image.getPet() != null ? image.getPet().getId() : null);
     }
 
     public void deleteImagesByPet(Long petId) throws IOException {
         log.info("Deleting all images for petId={}", petId);
         List<Images> images = imagesRepository.findByPetId(petId);
-        Path uploadPath = Paths.get(uploadDir).toAbsolutePath();
+        deleteImageFiles(images.stream().map(Images::getFileName).toList());
+
+        imagesRepository.deleteByPetId(petId);
+        petCacheInvalidator.petChanged(petId);
+        log.info("Deleted {} images for petId={}", images.size(), petId);
+    }
 
-        for (Images image : images) {
+    /**
+     * Remove stored image files from disk. Failures are logged and skipped so the
+     * remaining files (and the caller's database cleanup) still go through.
+     */
+    public void deleteImageFiles(Collection<String> fileNames) {
+        Path uploadPath = Paths.get(uploadDir).toAbsolutePath();
+        for (String fileName : fileNames) {
             try {
-                Path filePath = uploadPath.resolve(image.getFileName());
-                Files.deleteIfExists(filePath);
-                log.debug("Deleted image file: {}", image.getFileName());
+                Files.deleteIfExists(uploadPath.resolve(fileName));
+                log.debug("Deleted image file: {}", fileName);
             } catch (IOException e) {
-                // Log but continue deleting other images and database records
-                log.error("Failed to delete image file: {}, error: {}", image.getFileName(), e.getMessage());
+                log.error("Failed to delete image file: {}, error: {}", fileName, e.getMessage());
             }
         }
-
-        imagesRepository.deleteByPetId(petId);
-        log.info("Deleted {} images for petId={}", images.size(), petId);
     }
 
     // PERFORMANCE: Use count query instead of loading all images
@@ -0,0 +1,219 @@
+package project.petch.petch_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Keeps the pet DTO caches (petDetails, petListings, trendingPets) coherent.
+ *
+ * Local entries are evicted after the surrounding transaction commits, and the same
+ * invalidation is broadcast to other nodes with PostgreSQL NOTIFY. Each node LISTENs on
+ * a dedicated, unpooled connection and evicts its own caches when a message from another node
+ * arrives. Payload format: {@code <nodeId>:<petId>} or {@code <nodeId>:*} for everything.
+ */
+@Service
+@Slf4j
+public class PetCacheInvalidator implements SmartLifecycle {
+
+    public static final String PET_DETAILS_CACHE = "petDetails";
+    public static final String PET_LISTINGS_CACHE = "petListings";
+    public static final String TRENDING_PETS_CACHE = "trendingPets";
+
+    private static final String ALL = "*";
+    private static final long RECONNECT_BACKOFF_MS = 5000;
+
+    private final CacheManager cacheManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${app.cache.invalidation.enabled:true}")
+    private boolean broadcastEnabled;
+
+    @Value("${app.cache.invalidation.channel:petch_cache_invalidation}")
+    private String channel;
+
+    @Value("${app.cache.invalidation.poll-timeout-ms:5000}")
+    private int pollTimeoutMs;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PetCacheInvalidator(CacheManager cacheManager, JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties) {
+        this.cacheManager = cacheManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    /**
+     * A single pet changed (fields, images, adoption details, hold or adoption state).
+     * Listings and trending are cleared too because the pet may enter or leave them.
+     */
+    public void petChanged(Long petId) {
+        if (petId == null) {
+            allPetsChanged();
+            return;
+        }
+        invalidate(String.valueOf(petId));
+    }
+
+    /**
+     * Many pets changed at once (user deletion, vendor verification changes).
+     */
+    public void allPetsChanged() {
+        invalidate(ALL);
+    }
+
+    private void invalidate(String target) {
+        broadcast(target);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictLocal(target);
+                }
+            });
+        } else {
+            evictLocal(target);
+        }
+    }
+
+    /**
+     * NOTIFY is transactional in PostgreSQL: inside a transaction the message is only
+     * delivered on commit, outside one it is sent immediately.
+     */
+    private void broadcast(String target) {
+        if (!broadcastEnabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, channel, nodeId + ":" + target);
+        } catch (Exception e) {
+            // Other nodes fall back to TTL expiry; never fail the write because of this
+            log.warn("Failed to broadcast cache invalidation for {}: {}", target, e.getMessage());
+        }
+    }
+
+    private void evictLocal(String target) {
+        if (ALL.equals(target)) {
+            clear(PET_DETAILS_CACHE);
+        } else {
+            Cache details = cacheManager.getCache(PET_DETAILS_CACHE);
+            if (details != null) {
+                details.evict(Long.valueOf(target));
+            }
+        }
+        clear(PET_LISTINGS_CACHE);
+        clear(TRENDING_PETS_CACHE);
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!broadcastEnabled) {
+            log.info("Cross-node cache invalidation disabled; pet caches rely on local eviction and TTL only");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = openListenConnection();
+                    Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("Listening for cache invalidations on channel '{}' (nodeId={})", channel, nodeId);
+                // Anything could have changed while we were not listening
+                evictLocal(ALL);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener failed, reconnecting in {} ms: {}", RECONNECT_BACKOFF_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_BACKOFF_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * The LISTEN connection stays open for the life of the node, so it is opened directly from the
+     * datasource settings rather than borrowed from the pool. That way it takes neither a Hikari
+     * connection nor a JDBC concurrency permit (JdbcConcurrencyLimitConfig) away from requests.
+     */
+    private Connection openListenConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private void handle(String payload) {
+        int separator = payload == null ? -1 : payload.indexOf(':');
+        if (separator < 0) {
+            log.warn("Ignoring malformed cache invalidation payload: {}", payload);
+            return;
+        }
+        if (payload.startsWith(nodeId)) {
+            return; // Already evicted locally after commit
+        }
+        String target = payload.substring(separator + 1);
+        try {
+            evictLocal(target);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed cache invalidation target: {}", target);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package project.petch.petch_api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.dto.pet.ImageDTO;
+import project.petch.petch_api.dto.pet.PetDTO;
+import project.petch.petch_api.dto.pet.PetListingRow;
+import project.petch.petch_api.repositories.PetsRepository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catalog-wide export of available pets for partner feeds, written as NDJSON (one PetDTO per line).
+ *
+ * PERFORMANCE: Listing rows are read in keyset pages of {@code app.export.chunk-size}, each page
+ * and its images in one short read-only transaction. The connection goes back to the pool before
+ * the page is written, so a slow client never holds a connection, a cursor or a JDBC permit.
+ * Memory stays flat however large the catalog is, and the client starts receiving pets before
+ * the last page is read.
+ */
+@Service
+@Slf4j
+public class PetExportService {
+
+    private final PetsRepository petsRepository;
+    private final PetService petService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final int chunkSize;
+
+    public PetExportService(PetsRepository petsRepository, PetService petService, EntityManager entityManager,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+            @Value("${app.export.chunk-size:500}") int chunkSize) {
+        this.petsRepository = petsRepository;
+        this.petService = petService;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        // Flushed once per chunk rather than once per pet
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Writes every available pet to {@code out}, ordered by id. The stream is flushed but not closed.
+     *
+     * @return number of pets written
+     */
+    public long exportAvailablePets(OutputStream out) throws IOException {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are separated explicitly below; the default root separator is a space
+            generator.setRootValueSeparator(null);
+
+            long afterId = 0;
+            List<PetDTO> page;
+            do {
+                long pageAfter = afterId;
+                page = readOnlyTransaction.execute(status -> readPage(pageAfter));
+                for (PetDTO pet : page) {
+                    writer.writeValue(generator, pet);
+                    generator.writeRaw('\n');
+                }
+                generator.flush();
+                written += page.size();
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == chunkSize);
+        }
+        log.info("Exported {} pets", written);
+        return written;
+    }
+
+    private List<PetDTO> readPage(long afterId) {
+        List<PetListingRow> rows = petsRepository.findAvailableListingsAfter(afterId, Limit.of(chunkSize));
+        Map<Long, List<ImageDTO>> imagesByPet = petService.loadImageDTOs(rows.stream().map(PetListingRow::id).toList());
+        // Only the image entities are managed; drop them so the persistence context does not grow per page
+        entityManager.clear();
+        return rows.stream()
+                .map(row -> petService.toDTO(row, imagesByPet.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+package project.petch.petch_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.petch.petch_api.repositories.PetLocationRepository;
+import project.petch.petch_api.repositories.PetLocationRepository.PetLocation;
+import project.petch.petch_api.util.GeoGridIndex;
+import project.petch.petch_api.util.GeoPoint;
+
+import java.util.List;
+
+/**
+ * Radius search over available pets.
+ *
+ * PERFORMANCE: Queries are answered from an in-memory {@link GeoGridIndex} rebuilt every
+ * {@code app.geo.refresh-interval-ms}, so a search touches only nearby grid cells and no
+ * database rows. Until the first build, or with {@code app.geo.index-enabled=false}, a
+ * bounding-box SQL prefilter is used instead. Index results can be one refresh behind, so
+ * callers re-check availability when they load the pets.
+ */
+@Service
+@Slf4j
+public class PetGeoService {
+
+    private final PetLocationRepository petLocationRepository;
+    private final boolean indexEnabled;
+    private final double cellDegrees;
+    private final int maxResults;
+    private final double proximityWeight;
+    private final double proximityDecayKm;
+
+    private volatile GeoGridIndex index;
+
+    public PetGeoService(PetLocationRepository petLocationRepository,
+            @Value("${app.geo.index-enabled:true}") boolean indexEnabled,
+            @Value("${app.geo.cell-degrees:0.5}") double cellDegrees,
+            @Value("${app.geo.max-results:2000}") int maxResults,
+            @Value("${app.geo.proximity-weight:3.0}") double proximityWeight,
+            @Value("${app.geo.proximity-decay-km:25}") double proximityDecayKm) {
+        this.petLocationRepository = petLocationRepository;
+        this.indexEnabled = indexEnabled;
+        this.cellDegrees = cellDegrees;
+        this.maxResults = maxResults;
+        this.proximityWeight = proximityWeight;
+        this.proximityDecayKm = proximityDecayKm;
+    }
+
+    /**
+     * Discovery score bonus for a pet {@code distanceKm} away: {@code app.geo.proximity-weight} at the
+     * searcher's location, decaying exponentially with scale {@code app.geo.proximity-decay-km}.
+     */
+    public double proximityScore(double distanceKm) {
+        return proximityWeight * Math.exp(-distanceKm / proximityDecayKm);
+    }
+
+    /**
+     * Available pets within {@code radiusKm} of {@code center}, nearest first, all of them. Callers filter
+     * these further, so capping here would leave short pages and wrong totals; they bound their own work
+     * with {@link #getMaxResults()} instead.
+     */
+    public List<GeoGridIndex.Hit> findNearby(GeoPoint center, double radiusKm) {
+        GeoGridIndex current = index;
+        if (current != null) {
+            return current.within(center, radiusKm, Integer.MAX_VALUE);
+        }
+        double latitudeDelta = radiusKm / GeoPoint.KM_PER_DEGREE;
+        double longitudeDelta = center.longitudeDelta(radiusKm);
+        double west = longitudeDelta >= 180 ? -180 : normalizeLongitude(center.longitude() - longitudeDelta);
+        double east = longitudeDelta >= 180 ? 180 : normalizeLongitude(center.longitude() + longitudeDelta);
+        List<PetLocation> boxed = petLocationRepository.findInBox(
+                Math.max(-90, center.latitude() - latitudeDelta), Math.min(90, center.latitude() + latitudeDelta),
+                west, east);
+        return toIndex(boxed).within(center, radiusKm, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@code app.geo.max-results}: how many of the nearest candidates discovery scores, and the batch size
+     * in which listing filters are applied to the hits.
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    @Scheduled(fixedDelayString = "${app.geo.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!indexEnabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        GeoGridIndex rebuilt = toIndex(petLocationRepository.findAll());
+        index = rebuilt;
+        log.debug("Geo index rebuilt with {} pets in {} ms", rebuilt.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public int getIndexedCount() {
+        GeoGridIndex current = index;
+        return current != null ? current.size() : 0;
+    }
+
+    private GeoGridIndex toIndex(List<PetLocation> locations) {
+        int n = locations.size();
+        long[] ids = new long[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            PetLocation location = locations.get(i);
+            ids[i] = location.petId();
+            latitudes[i] = location.latitude();
+            longitudes[i] = location.longitude();
+        }
+        return GeoGridIndex.build(ids, latitudes, longitudes, cellDegrees);
+    }
+
+    private static double normalizeLongitude(double longitude) {
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude > 180 ? longitude - 360 : longitude;
+    }
+}
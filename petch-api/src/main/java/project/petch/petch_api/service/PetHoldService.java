@@ -0,0 +1,239 @@
+package project.petch.petch_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.config.AsyncConfig;
+import project.petch.petch_api.exception.PetAlreadyHeldException;
+import project.petch.petch_api.models.AdoptionAppointment;
+import project.petch.petch_api.models.AdoptionAppointment.AppointmentStatus;
+import project.petch.petch_api.models.PetHold;
+import project.petch.petch_api.repositories.AdoptionAppointmentRepository;
+import project.petch.petch_api.repositories.PetHoldRepository;
+import project.petch.petch_api.util.HashedTimerWheel;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executor;
+
+/**
+ * Reserves pets for appointments so concurrent bookings cannot both win.
+ *
+ * Acquiring a hold is a conditional {@code UPDATE pets ... WHERE on_hold = false} followed by an
+ * insert into pet_holds, whose primary key is the pet id. Both run in the booking transaction,
+ * so a losing booking is rolled back with {@link PetAlreadyHeldException} and nothing ever waits
+ * on an application lock.
+ *
+ * Holds for appointments still waiting on a time expire after {@code app.holds.pending-ttl}: the
+ * pending appointment is marked EXPIRED, the pet goes back on the listings and both parties are
+ * emailed. Appointments the vendor has confirmed never expire. Deadlines are tracked
+ * in a {@link HashedTimerWheel}; the database stays the source of truth, so expiry re-checks the
+ * row and a periodic sweep catches holds whose node went away.
+ */
+@Service
+@Slf4j
+public class PetHoldService implements SmartLifecycle {
+
+    private final PetHoldRepository holdRepository;
+    private final AdoptionAppointmentRepository appointmentRepository;
+    private final PetCacheInvalidator petCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor maintenanceExecutor;
+    private final Executor notificationsExecutor;
+    private final EmailService emailService;
+    private final Duration pendingTtl;
+    private final HashedTimerWheel<HoldKey> wheel;
+
+    private volatile boolean running;
+
+    public PetHoldService(PetHoldRepository holdRepository,
+            AdoptionAppointmentRepository appointmentRepository,
+            PetCacheInvalidator petCacheInvalidator,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(AsyncConfig.MAINTENANCE_EXECUTOR) Executor maintenanceExecutor,
+            @Qualifier(AsyncConfig.NOTIFICATIONS_EXECUTOR) Executor notificationsExecutor,
+            EmailService emailService,
+            @Value("${app.holds.pending-ttl:PT72H}") Duration pendingTtl,
+            @Value("${app.holds.tick-ms:1000}") long tickMs,
+            @Value("${app.holds.wheel-size:512}") int wheelSize) {
+        this.holdRepository = holdRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.petCacheInvalidator = petCacheInvalidator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.notificationsExecutor = notificationsExecutor;
+        this.emailService = emailService;
+        this.pendingTtl = pendingTtl;
+        this.wheel = new HashedTimerWheel<>("pet-holds", tickMs, wheelSize, this::onExpire);
+    }
+
+    /**
+     * Put the pet on hold for the appointment, or fail if another appointment holds it or it is adopted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acquire(Long petId, Long appointmentId, Long holderUserId) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(pendingTtl);
+        if (holdRepository.markOnHold(petId) == 0
+                || holdRepository.insertHold(petId, appointmentId, holderUserId, expiresAt) == 0) {
+            throw new PetAlreadyHeldException("This pet is already on hold or has been adopted");
+        }
+        petCacheInvalidator.petChanged(petId);
+        HoldKey key = new HoldKey(petId, appointmentId);
+        afterCommit(() -> wheel.schedule(key, toEpochMillis(expiresAt)));
+    }
+
+    /**
+     * The appointment has a confirmed time or the vendor confirmed it: keep the hold until it is released.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void makePermanent(Long petId, Long appointmentId) {
+        if (holdRepository.makePermanent(petId, appointmentId) > 0) {
+            HoldKey key = new HoldKey(petId, appointmentId);
+            afterCommit(() -> wheel.cancel(key));
+        }
+    }
+
+    /**
+     * Release the appointment's hold. The pet only leaves on-hold when no other appointment holds it,
+     * so a stale cancel cannot free a pet that has since been booked again.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long petId, Long appointmentId) {
+        holdRepository.deleteHold(petId, appointmentId);
+        holdRepository.clearOnHold(petId);
+        petCacheInvalidator.petChanged(petId);
+        HoldKey key = new HoldKey(petId, appointmentId);
+        afterCommit(() -> wheel.cancel(key));
+    }
+
+    public int pendingExpirations() {
+        return wheel.pending();
+    }
+
+    /**
+     * Expire holds that are past due but not in this node's wheel (created on a node that has since stopped)
+     */
+    @Scheduled(fixedDelayString = "${app.holds.sweep-interval-ms:300000}", initialDelayString = "${app.holds.sweep-interval-ms:300000}")
+    public void sweep() {
+        for (PetHold hold : holdRepository.findByExpiresAtBefore(LocalDateTime.now())) {
+            onExpire(new HoldKey(hold.getPetId(), hold.getAppointmentId()));
+        }
+    }
+
+    // Runs on the wheel thread: hand the database work to the maintenance executor
+    private void onExpire(HoldKey key) {
+        try {
+            maintenanceExecutor.execute(() -> expire(key));
+        } catch (TaskRejectedException e) {
+            log.warn("Expiry of hold on pet {} rejected, the next sweep will retry: {}", key.petId(), e.getMessage());
+        }
+    }
+
+    private void expire(HoldKey key) {
+        try {
+            ExpiredAppointment expired = transactionTemplate.execute(status -> {
+                // Locked so a concurrent confirmation either finishes first or sees the appointment expired
+                AdoptionAppointment appointment = appointmentRepository.findByIdForUpdate(key.appointmentId()).orElse(null);
+                // The vendor confirmed the adoption without a time being chosen: keep the hold
+                if (appointment != null && Boolean.TRUE.equals(appointment.getVendorConfirmed())) {
+                    holdRepository.makePermanent(key.petId(), key.appointmentId());
+                    return null;
+                }
+                // Released, made permanent, re-booked or extended since the timer was set
+                if (holdRepository.deleteExpiredHold(key.petId(), key.appointmentId(), LocalDateTime.now()) == 0) {
+                    return null;
+                }
+                holdRepository.clearOnHold(key.petId());
+                petCacheInvalidator.petChanged(key.petId());
+                if (appointment == null || appointment.getStatus() != AppointmentStatus.PENDING) {
+                    return null;
+                }
+                // Kept for both parties' history; the submission link goes so the pet's submissions can be archived later
+                appointment.setStatus(AppointmentStatus.EXPIRED);
+                appointment.setSubmission(null);
+                return new ExpiredAppointment(appointment.getPet().getName(),
+                        appointment.getAdopterUser().getEmail(), appointment.getAdopterUser().getFirstName(),
+                        appointment.getVendorUser().getEmail(), appointment.getVendorUser().getFirstName());
+            });
+            if (expired != null) {
+                log.info("Hold on pet {} for appointment {} expired without a confirmed time", key.petId(), key.appointmentId());
+                notifyExpired(expired);
+            }
+        } catch (Exception e) {
+            log.error("Failed to expire hold on pet {} for appointment {}", key.petId(), key.appointmentId(), e);
+        }
+    }
+
+    private void notifyExpired(ExpiredAppointment expired) {
+        try {
+            notificationsExecutor.execute(() -> {
+                emailService.sendAppointmentExpiredEmail(expired.adopterEmail(), expired.adopterFirstName(), expired.petName());
+                emailService.sendAppointmentExpiredEmail(expired.vendorEmail(), expired.vendorFirstName(), expired.petName());
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("Expired appointment emails for {} rejected: {}", expired.petName(), e.getMessage());
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public void start() {
+        try {
+            int loaded = 0;
+            for (PetHold hold : holdRepository.findByExpiresAtIsNotNull()) {
+                wheel.schedule(new HoldKey(hold.getPetId(), hold.getAppointmentId()), toEpochMillis(hold.getExpiresAt()));
+                loaded++;
+            }
+            log.info("Loaded {} pending pet hold expirations", loaded);
+        } catch (Exception e) {
+            log.warn("Could not load pending pet holds, relying on the periodic sweep: {}", e.getMessage());
+        }
+        wheel.start();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        wheel.stop();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record HoldKey(Long petId, Long appointmentId) {
+    }
+
+    private record ExpiredAppointment(String petName, String adopterEmail, String adopterFirstName,
+            String vendorEmail, String vendorFirstName) {
+    }
+}
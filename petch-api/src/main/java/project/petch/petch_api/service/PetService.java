@@ -1,16 +1,25 @@
 package project.petch.petch_api.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.petch.petch_api.config.AsyncConfig;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
 import project.petch.petch_api.dto.pet.AdoptionDetailsDTO;
 import project.petch.petch_api.dto.pet.ImageDTO;
 import project.petch.petch_api.dto.pet.PetDTO;
+import project.petch.petch_api.dto.pet.PetListingRow;
 import project.petch.petch_api.dto.pet.PetOwnerDTO;
 import project.petch.petch_api.models.AdoptionDetails;
 import project.petch.petch_api.models.Images;
@@ -20,12 +29,23 @@ import project.petch.petch_api.models.User;
 import project.petch.petch_api.models.UserPreference;
 import project.petch.petch_api.dto.user.UserType;
 import project.petch.petch_api.models.VerificationStatus;
+import project.petch.petch_api.repositories.ImagesRepository;
 import project.petch.petch_api.repositories.PetInteractionRepository;
 import project.petch.petch_api.repositories.PetsRepository;
 import project.petch.petch_api.repositories.UserPreferenceRepository;
+import project.petch.petch_api.util.GeoGridIndex;
+import project.petch.petch_api.util.GeoPoint;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,36 +56,100 @@ public class PetService {
     private final UserPreferenceRepository userPreferenceRepository;
     private final PetInteractionRepository petInteractionRepository;
     private final EmailService emailService;
+    private final PetCacheInvalidator petCacheInvalidator;
+    // Proxy of this bean, so internal calls still go through @Async/@Transactional
+    private final ObjectProvider<PetService> self;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImagesRepository imagesRepository;
+    private final PetGeoService petGeoService;
 
     public List<Pets> discoverPets(User user) {
-        UserPreference prefs = userPreferenceRepository.findByUser(user)
+        UserPreference prefs = discoveryPreferences(user);
+        List<Long> interactedPetIds = interactedPetIds(user);
+
+        // PERFORMANCE: Use database-level exclusion instead of loading all pets into memory
+        List<Pets> availablePets = interactedPetIds.isEmpty()
+                ? petsRepository.findAllWithDetails()
+                : petsRepository.findPetsNotIn(interactedPetIds);
+
+        return rankForDiscovery(availablePets, prefs, 50);
+    }
+
+    private UserPreference discoveryPreferences(User user) {
+        return userPreferenceRepository.findByUser(user)
                 .orElseGet(() -> userPreferenceRepository.save(
                         UserPreference.builder().user(user).build()));
+    }
 
-        List<Long> interactedPetIds = petInteractionRepository.findByUser(user)
+    private List<Long> interactedPetIds(User user) {
+        return petInteractionRepository.findByUser(user)
                 .stream()
                 .map(i -> i.getPet().getId())
                 .collect(Collectors.toList());
+    }
 
-        // PERFORMANCE: Use database-level exclusion instead of loading all pets into memory
-        List<Pets> availablePets = interactedPetIds.isEmpty()
-                ? petsRepository.findAllWithDetails()
-                : petsRepository.findPetsNotIn(interactedPetIds);
+    // PERFORMANCE: Sort by match score and keep the top results; package-private for the JMH benchmarks
+    static List<Pets> rankForDiscovery(List<Pets> candidates, UserPreference prefs, int limit) {
+        return rankForDiscovery(candidates, prefs, pet -> 0, limit);
+    }
 
-        // PERFORMANCE: Sort by match score and limit to top 50
-        return availablePets.stream()
-                .sorted((p1, p2) -> Double.compare(
-                        calculateMatchScore(p2, prefs),
-                        calculateMatchScore(p1, prefs)))
-                .limit(50)
+    /**
+     * Ranks by match score plus {@code proximity}, a per-pet bonus for being close to the searcher.
+     * PERFORMANCE: Each candidate is scored once up front instead of on every comparison.
+     */
+    static List<Pets> rankForDiscovery(List<Pets> candidates, UserPreference prefs,
+            ToDoubleFunction<Pets> proximity, int limit) {
+        record Scored(Pets pet, double score) {
+        }
+        return candidates.stream()
+                .map(pet -> new Scored(pet, calculateMatchScore(pet, prefs) + proximity.applyAsDouble(pet)))
+                .sorted(Comparator.comparingDouble(Scored::score).reversed())
+                .limit(limit)
+                .map(Scored::pet)
                 .collect(Collectors.toList());
     }
 
+    // Timed here rather than on discoverPets, which is only reached through this method (no proxy)
+    @Timed(value = "petch.pets.discover", histogram = true)
     @Transactional
     public List<PetDTO> discoverPetDTOs(User user) {
         return discoverPets(user).stream().map(this::toDTO).toList();
     }
 
+    /**
+     * Discovery restricted to pets within {@code radiusKm} of {@code near}, ranked by match score plus a
+     * proximity bonus (see {@link PetGeoService#proximityScore}); each result carries its distance.
+     * Distances use the pet's coordinates or, failing that, its shelter's location.
+     * PERFORMANCE: Only the pets in the grid cells the geo index visits are loaded and scored, not the
+     * whole catalog.
+     */
+    @Timed(value = "petch.pets.discover.nearby", histogram = true)
+    @Transactional
+    public List<PetDTO> discoverNearbyPetDTOs(User user, GeoPoint near, double radiusKm) {
+        UserPreference prefs = discoveryPreferences(user);
+        Set<Long> interacted = new HashSet<>(interactedPetIds(user));
+        // The nearest app.geo.max-results pets the user has not swiped on yet
+        Map<Long, Double> distances = new HashMap<>();
+        int maxCandidates = petGeoService.getMaxResults();
+        for (GeoGridIndex.Hit hit : petGeoService.findNearby(near, radiusKm)) {
+            if (distances.size() == maxCandidates) {
+                break;
+            }
+            if (!interacted.contains(hit.id())) {
+                distances.put(hit.id(), hit.distanceKm());
+            }
+        }
+        if (distances.isEmpty()) {
+            return List.of();
+        }
+        List<Pets> candidates = petsRepository.findAvailableWithDetailsByIdIn(distances.keySet());
+        return rankForDiscovery(candidates, prefs,
+                pet -> petGeoService.proximityScore(distances.get(pet.getId())), 50)
+                .stream()
+                .map(pet -> withDistance(toDTO(pet), distances.get(pet.getId())))
+                .toList();
+    }
+
     /**
      * Get all pets the user has liked.
      */
@@ -96,6 +180,8 @@ public class PetService {
         return petsRepository.findFilteredPets(search, species, ageMin, ageMax, fosterable, atRisk, real, pageable);
     }
 
+    @Timed(value = "petch.pets.listings", histogram = true)
+    @Cacheable(value = PetCacheInvalidator.PET_LISTINGS_CACHE, keyGenerator = "petListingKeyGenerator")
     @Transactional(readOnly = true)
     public Page<PetDTO> getFilteredPetDTOs(
             String search,
@@ -110,6 +196,62 @@ public class PetService {
                 .map(this::toDTO);
     }
 
+    /**
+     * Listing filters applied to the pets within {@code radiusKm} of {@code near}, nearest first.
+     * PERFORMANCE: The geo index yields the candidates; the filters run as one id-restricted query and
+     * only the requested page is loaded.
+     */
+    @Timed(value = "petch.pets.listings.nearby", histogram = true)
+    @Transactional(readOnly = true)
+    public Page<PetDTO> getNearbyPetDTOs(
+            GeoPoint near,
+            double radiusKm,
+            String search,
+            String species,
+            Integer ageMin,
+            Integer ageMax,
+            Boolean fosterable,
+            Boolean atRisk,
+            Boolean real,
+            Pageable pageable) {
+        List<GeoGridIndex.Hit> hits = petGeoService.findNearby(near, radiusKm);
+        if (hits.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        // Every hit is checked, in batches of app.geo.max-results to keep the IN lists bounded, so pages are
+        // full and the total counts all matches within the radius
+        List<GeoGridIndex.Hit> ordered = new ArrayList<>();
+        int batchSize = petGeoService.getMaxResults();
+        for (int start = 0; start < hits.size(); start += batchSize) {
+            List<GeoGridIndex.Hit> batch = hits.subList(start, Math.min(start + batchSize, hits.size()));
+            Set<Long> matching = new HashSet<>(petsRepository.findFilteredIdsIn(
+                    batch.stream().map(GeoGridIndex.Hit::id).toList(),
+                    search, species, ageMin, ageMax, fosterable, atRisk, real));
+            batch.stream().filter(hit -> matching.contains(hit.id())).forEach(ordered::add);
+        }
+
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        List<GeoGridIndex.Hit> pageHits = ordered.subList(from, Math.min(from + pageable.getPageSize(), ordered.size()));
+        if (pageHits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ordered.size());
+        }
+        List<Long> pageIds = pageHits.stream().map(GeoGridIndex.Hit::id).toList();
+        Map<Long, PetListingRow> rows = petsRepository.findListingsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PetListingRow::id, Function.identity()));
+        Map<Long, List<ImageDTO>> imagesByPet = loadImageDTOs(pageIds);
+        List<PetDTO> content = pageHits.stream()
+                .filter(hit -> rows.containsKey(hit.id()))
+                .map(hit -> withDistance(toDTO(rows.get(hit.id()), imagesByPet.getOrDefault(hit.id(), List.of())),
+                        hit.distanceKm()))
+                .toList();
+        return new PageImpl<>(content, pageable, ordered.size());
+    }
+
+    private static PetDTO withDistance(PetDTO dto, double distanceKm) {
+        dto.setDistanceKm(Math.round(distanceKm * 100) / 100.0);
+        return dto;
+    }
+
     /**
      * Get all pets with eager-loaded images and adoption details.
      */
@@ -117,12 +259,7 @@ public class PetService {
         return petsRepository.findAllWithDetails();
     }
 
-    @Transactional(readOnly = true)
-    public List<PetDTO> getAllPetDTOsWithDetails() {
-        return petsRepository.findAllWithDetails().stream().map(this::toDTO).toList();
-    }
-
-    private double calculateMatchScore(Pets pet, UserPreference prefs) {
+    static double calculateMatchScore(Pets pet, UserPreference prefs) {
         double score = 0;
         String species = pet.getSpecies().toLowerCase();
         String breed = pet.getBreed().toLowerCase();
@@ -210,6 +347,12 @@ public class PetService {
         return petsRepository.findByIdWithDetails(id);
     }
 
+    /**
+     * Get a pet DTO by ID.
+     * PERFORMANCE: Cached per ID; PetCacheInvalidator evicts it on every pet change.
+     * The cached viewCount may lag by up to the petDetails TTL.
+     */
+    @Cacheable(value = PetCacheInvalidator.PET_DETAILS_CACHE, key = "#id", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<PetDTO> getPetDTOById(Long id) {
         return petsRepository.findByIdWithDetails(id).map(this::toDTO);
@@ -236,11 +379,19 @@ public class PetService {
 
     public Pets createPet(Pets pet) {
         Pets savedPet = petsRepository.save(pet);
-        notifyMatchingUsers(savedPet);
+        petCacheInvalidator.petChanged(savedPet.getId());
+        self.getObject().notifyMatchingUsers(savedPet);
         return savedPet;
     }
 
-    @Async("asyncExecutor")
+    /**
+     * Email adopters whose learned preferences match a newly listed pet.
+     * PERFORMANCE: Runs on the notifications executor so SMTP latency never holds a
+     * request thread or competes with view counting.
+     */
+    @Timed("petch.pets.match_notifications")
+    @Async(AsyncConfig.NOTIFICATIONS_EXECUTOR)
+    @Transactional(readOnly = true)
     public void notifyMatchingUsers(Pets pet) {
         try {
             List<UserPreference> allPreferences = userPreferenceRepository.findAll();
@@ -277,6 +428,7 @@ public class PetService {
 
     public void deletePet(Long id) {
         petsRepository.deleteById(id);
+        petCacheInvalidator.petChanged(id);
     }
 
     public Pets updatePet(Long id, Pets updatedPet) {
@@ -289,7 +441,9 @@ public class PetService {
             pet.setAtRisk(updatedPet.getAtRisk());
             pet.setFosterable(updatedPet.getFosterable());
             pet.setReal(updatedPet.getReal());
-            return petsRepository.save(pet);
+            Pets saved = petsRepository.save(pet);
+            petCacheInvalidator.petChanged(id);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Pet not found with id " + id));
     }
 
@@ -303,16 +457,31 @@ public class PetService {
             pet.setAtRisk(dto.getAtRisk() != null ? dto.getAtRisk() : false);
             pet.setFosterable(dto.getFosterable() != null ? dto.getFosterable() : false);
             pet.setReal(dto.getReal() != null ? dto.getReal() : false);
-            return petsRepository.save(pet);
+            Pets saved = petsRepository.save(pet);
+            petCacheInvalidator.petChanged(id);
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Pet not found with id " + id));
     }
 
+    /**
+     * Get trending pet DTOs (most viewed).
+     * PERFORMANCE: Cached and refreshed ahead of expiry (see app.cache.specs.trendingPets).
+     */
+    @Cacheable(value = "trendingPets", key = "#count", sync = true)
     @Transactional(readOnly = true)
     public List<PetDTO> getTrendingPetDTOs(int count) {
+        return loadTrendingPetDTOs(count);
+    }
+
+    /**
+     * Uncached trending lookup, also used by the trendingPets cache to refresh entries.
+     */
+    @Transactional(readOnly = true)
+    public List<PetDTO> loadTrendingPetDTOs(int count) {
         return petsRepository.findTrendingPets(Pageable.ofSize(count)).stream().map(this::toDTO).toList();
     }
 
-    private PetDTO toDTO(Pets pet) {
+    PetDTO toDTO(Pets pet) {
         return PetDTO.builder()
                 .id(pet.getId())
                 .name(pet.getName())
@@ -338,8 +507,14 @@ public class PetService {
     @Transactional
     public Pets markAdopted(Long petId, boolean adopted) {
         return petsRepository.findById(petId).map(pet -> {
+            boolean wasAdopted = Boolean.TRUE.equals(pet.getIsAdopted());
             pet.setIsAdopted(adopted);
-            return petsRepository.save(pet);
+            Pets saved = petsRepository.save(pet);
+            petCacheInvalidator.petChanged(petId);
+            if (adopted && !wasAdopted) {
+                eventPublisher.publishEvent(AdminEvent.of(AdminEventType.PET_ADOPTED, petId, Map.of()));
+            }
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Pet not found with id " + petId));
     }
 
@@ -392,32 +567,108 @@ public class PetService {
                 .build();
     }
 
-    public List<Pets> findPetsBySpecies(String species) {
-        return petsRepository.findBySpeciesIgnoreCaseAndIsAdoptedFalse(species);
+    @Transactional(readOnly = true)
+    public Slice<PetDTO> findPetsBySpecies(String species, Pageable pageable) {
+        return toListingDTOs(petsRepository.findListingsBySpecies(species, pageable));
     }
 
-    public List<Pets> findPetsByBreed(String breed) {
-        return petsRepository.findByBreedIgnoreCaseAndIsAdoptedFalse(breed);
+    @Transactional(readOnly = true)
+    public Slice<PetDTO> findPetsByBreed(String breed, Pageable pageable) {
+        return toListingDTOs(petsRepository.findListingsByBreed(breed, pageable));
     }
 
-    public List<Pets> findPetsByAgeRange(Integer minAge, Integer maxAge) {
-        return petsRepository.findByAgeBetweenAndIsAdoptedFalse(minAge, maxAge);
+    @Transactional(readOnly = true)
+    public Slice<PetDTO> findPetsByAgeRange(Integer minAge, Integer maxAge, Pageable pageable) {
+        return toListingDTOs(petsRepository.findListingsByAgeRange(minAge, maxAge, pageable));
     }
 
-    public List<Pets> searchPetsByName(String name) {
-        return petsRepository.findByNameContainingIgnoreCaseAndIsAdoptedFalse(name);
+    @Transactional(readOnly = true)
+    public Slice<PetDTO> searchPetsByName(String name, Pageable pageable) {
+        return toListingDTOs(petsRepository.findListingsByName(name, pageable));
     }
 
     public List<Pets> findSpecificPetsByRace(String species, String breed) {
         return petsRepository.findSpecificPetsByRace(species, breed);
     }
 
-    public List<Pets> findAtRiskPets() {
-        return petsRepository.findByAtRiskTrueAndIsAdoptedFalse();
+    @Transactional(readOnly = true)
+    public Slice<PetDTO> findAtRiskPets(Pageable pageable) {
+        return toListingDTOs(petsRepository.findAtRiskListings(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<PetDTO> findFosterablePets(Pageable pageable) {
+        return toListingDTOs(petsRepository.findFosterableListings(pageable));
     }
 
-    public List<Pets> findFosterablePets() {
-        return petsRepository.findByFosterableTrueAndIsAdoptedFalse();
+    /**
+     * Turns a slice of listing rows into DTOs; the page's images come from one extra query.
+     */
+    private Slice<PetDTO> toListingDTOs(Slice<PetListingRow> rows) {
+        Map<Long, List<ImageDTO>> imagesByPet = loadImageDTOs(rows.map(PetListingRow::id).getContent());
+        return rows.map(row -> toDTO(row, imagesByPet.getOrDefault(row.id(), List.of())));
+    }
+
+    /**
+     * Image DTOs for a batch of pets, keyed by pet id, in one query.
+     */
+    Map<Long, List<ImageDTO>> loadImageDTOs(List<Long> petIds) {
+        if (petIds.isEmpty()) {
+            return Map.of();
+        }
+        return imagesRepository.findByPetIdIn(petIds).stream()
+                .collect(Collectors.groupingBy(image -> image.getPet().getId(),
+                        Collectors.mapping(this::toImageDTO, Collectors.toList())));
+    }
+
+    PetDTO toDTO(PetListingRow row, List<ImageDTO> images) {
+        PetOwnerDTO owner = null;
+        if (row.ownerId() != null) {
+            owner = PetOwnerDTO.builder()
+                    .id(row.ownerId())
+                    .email(row.ownerEmail())
+                    .firstName(row.ownerFirstName())
+                    .lastName(row.ownerLastName())
+                    .userType(row.ownerType() != null ? row.ownerType().name() : null)
+                    .verificationStatus((row.ownerVerificationStatus() != null
+                            ? row.ownerVerificationStatus() : VerificationStatus.UNVERIFIED).name())
+                    .build();
+        }
+        AdoptionDetailsDTO adoptionDetails = null;
+        if (row.adoptionDetailsId() != null) {
+            adoptionDetails = AdoptionDetailsDTO.builder()
+                    .id(row.adoptionDetailsId())
+                    .isDirect(row.isDirect())
+                    .priceEstimate(row.priceEstimate())
+                    .stepsDescription(row.stepsDescription())
+                    .redirectLink(row.redirectLink())
+                    .phoneNumber(row.phoneNumber())
+                    .email(row.email())
+                    .hasOnlineFormPdf(row.hasOnlineFormPdf())
+                    .onlineFormFileName(row.onlineFormFileName())
+                    .onlineFormContentType(row.onlineFormContentType())
+                    .build();
+        }
+        return PetDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .species(row.species())
+                .breed(row.breed())
+                .age(row.age())
+                .description(row.description())
+                .atRisk(row.atRisk())
+                .fosterable(row.fosterable())
+                .real(row.real())
+                .onHold(row.onHold() != null && row.onHold())
+                .isAdopted(row.isAdopted())
+                .userId(row.ownerId())
+                .images(images)
+                .viewCount(row.viewCount())
+                .latitude(row.latitude())
+                .longitude(row.longitude())
+                .adoptionDetails(adoptionDetails)
+                .user(owner)
+                .build();
     }
 
     public long countFosterablePets() {
@@ -437,7 +688,7 @@ public class PetService {
         return petsRepository.countByBreedIgnoreCase(breed);
     }
 
-    @Cacheable(value = "petCounts", key = "'all'")
+    @Cacheable(value = "petCounts", key = "'all'", sync = true)
     public long countAllPets() {
         return petsRepository.count();
     }
@@ -446,7 +697,7 @@ public class PetService {
      * Increment view count for a pet (used for trending logic).
      * PERFORMANCE: Made async to avoid blocking request threads.
      */
-    @Async("asyncExecutor")
+    @Async(AsyncConfig.COUNTERS_EXECUTOR)
     public void incrementViewCount(Long petId) {
         petsRepository.findById(petId).ifPresent(pet -> {
             Long currentCount = pet.getViewCount() != null ? pet.getViewCount() : 0L;
@@ -457,9 +708,8 @@ public class PetService {
 
     /**
      * Get trending pets (most viewed).
-     * PERFORMANCE: Cached for 5 minutes to reduce database load.
+     * Callers that need caching should use getTrendingPetDTOs; entities are not cached.
      */
-    @Cacheable(value = "trendingPets", key = "#count")
     public List<Pets> getTrendingPets(int count) {
         Pageable pageable = org.springframework.data.domain.PageRequest.of(0, count);
         return petsRepository.findTrendingPets(pageable);
@@ -531,13 +781,12 @@ public class PetService {
     }
 
     /**
-     * Get all pets the user has favorited.
+     * Get the pets the user has favorited, most recent first.
      */
-    public List<Pets> getFavoritePets(User user) {
-        return petInteractionRepository.findByUserAndInteractionType(user, PetInteraction.InteractionType.FAVORITE)
-                .stream()
-                .map(PetInteraction::getPet)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Slice<PetDTO> getFavoritePetDTOs(User user, Pageable pageable) {
+        return toListingDTOs(petsRepository.findListingsByInteraction(
+                user, PetInteraction.InteractionType.FAVORITE, pageable));
     }
 
     /**
@@ -0,0 +1,115 @@
+package project.petch.petch_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
+import project.petch.petch_api.dto.report.MostReportedPetDTO;
+import project.petch.petch_api.models.ReportReason;
+import project.petch.petch_api.models.ReportStatus;
+import project.petch.petch_api.repositories.ReportModerationRepository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Per-pet report counts and reason histograms for the moderation queue, plus auto-hold.
+ *
+ * Counts change incrementally in the same transaction as the report they describe. When a
+ * pet's pending reports reach {@code app.reports.auto-hold-threshold} its listing is put on
+ * hold, and the hold is lifted once resolutions bring it back below the threshold. Set-based
+ * changes (bulk moderation) are covered by {@link #reconcile()}, which also runs hourly.
+ */
+@Service
+@Slf4j
+public class ReportAggregateService {
+
+    private final ReportModerationRepository moderationRepository;
+    private final PetCacheInvalidator petCacheInvalidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long autoHoldThreshold;
+
+    public ReportAggregateService(ReportModerationRepository moderationRepository,
+            PetCacheInvalidator petCacheInvalidator,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.reports.auto-hold-threshold:5}") long autoHoldThreshold) {
+        this.moderationRepository = moderationRepository;
+        this.petCacheInvalidator = petCacheInvalidator;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.autoHoldThreshold = autoHoldThreshold;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reportCreated(Long petId, Collection<ReportReason> reasons) {
+        long pending = moderationRepository.recordReport(petId, reasons.stream().map(Enum::name).toList());
+        if (autoHoldThreshold > 0 && pending >= autoHoldThreshold && moderationRepository.autoHold(petId)) {
+            log.warn("Pet {} auto-held after reaching {} pending reports", petId, pending);
+            petCacheInvalidator.petChanged(petId);
+            eventPublisher.publishEvent(AdminEvent.of(AdminEventType.PET_AUTO_HELD, petId,
+                    Map.of("pendingReports", pending)));
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reportStatusChanged(Long petId, ReportStatus from, ReportStatus to) {
+        long delta = (to == ReportStatus.PENDING ? 1 : 0) - (from == ReportStatus.PENDING ? 1 : 0);
+        if (delta == 0) {
+            return;
+        }
+        Long pending = moderationRepository.adjustPending(petId, delta);
+        if (pending == null) {
+            return; // No aggregate yet; the next reconcile creates it
+        }
+        if (delta > 0) {
+            if (autoHoldThreshold > 0 && pending >= autoHoldThreshold && moderationRepository.autoHold(petId)) {
+                petCacheInvalidator.petChanged(petId);
+            }
+        } else if ((autoHoldThreshold <= 0 || pending < autoHoldThreshold) && moderationRepository.releaseAutoHold(petId)) {
+            log.info("Auto-hold lifted for pet {} ({} pending reports left)", petId, pending);
+            petCacheInvalidator.petChanged(petId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<MostReportedPetDTO> getMostReported(boolean pendingOnly, Pageable pageable) {
+        return moderationRepository.findMostReported(pendingOnly, pageable);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    /**
+     * Rebuild the aggregates from reports and re-apply the auto-hold threshold. Runs hourly by
+     * default and after bulk operations that bypass {@link #reportCreated} and {@link #reportStatusChanged}.
+     */
+    @Scheduled(cron = "${app.reports.reconcile-cron:0 30 * * * *}")
+    public void reconcile() {
+        int[] changed = new int[2];
+        transactionTemplate.executeWithoutResult(status -> {
+            changed[0] = moderationRepository.reconcile();
+            changed[1] = moderationRepository.applyThreshold(autoHoldThreshold);
+        });
+        if (changed[1] > 0) {
+            petCacheInvalidator.allPetsChanged();
+        }
+        if (changed[0] > 0 || changed[1] > 0) {
+            log.info("Reconciled report aggregates: {} rows updated, {} auto-holds changed", changed[0], changed[1]);
+        }
+    }
+}
@@ -2,10 +2,16 @@ package project.petch.petch_api.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
+import project.petch.petch_api.dto.report.MostReportedPetDTO;
 import project.petch.petch_api.dto.report.ReportDTO;
 import project.petch.petch_api.dto.report.ReportRequest;
 import project.petch.petch_api.dto.report.ResolveReportRequest;
@@ -15,9 +21,11 @@ import project.petch.petch_api.models.ReportReason;
 import project.petch.petch_api.models.ReportStatus;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.ReportModerationRepository;
 import project.petch.petch_api.repositories.ReportRepository;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,14 +36,12 @@ public class ReportService {
 
     private final ReportRepository reportRepository;
     private final PetsRepository petsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReportModerationRepository reportModerationRepository;
+    private final ReportAggregateService reportAggregateService;
 
     @Transactional
     public ReportDTO createReport(User reporter, ReportRequest request) {
-        // Check if user already reported this pet
-        if (reportRepository.existsByReporterAndPetId(reporter, request.petId())) {
-            throw new IllegalStateException("You have already reported this listing");
-        }
-
         Pets pet = petsRepository.findById(request.petId())
                 .orElseThrow(() -> new IllegalArgumentException("Pet not found with ID: " + request.petId()));
 
@@ -58,25 +64,44 @@ public class ReportService {
                 .status(ReportStatus.PENDING)
                 .build();
 
-        Report saved = reportRepository.save(report);
+        Report saved;
+        try {
+            saved = reportRepository.saveAndFlush(report);
+        } catch (DataIntegrityViolationException e) {
+            // Only the reporter/pet unique key means a repeat report; anything else is a real failure
+            if (e.getCause() instanceof ConstraintViolationException violation
+                    && Report.UNIQUE_REPORTER_PET.equalsIgnoreCase(violation.getConstraintName())) {
+                throw new IllegalStateException("You have already reported this listing");
+            }
+            throw e;
+        }
+        reportAggregateService.reportCreated(pet.getId(), reasons);
         log.info("Report created: id={}, petId={}, reporter={}", saved.getId(), pet.getId(), reporter.getEmail());
+        eventPublisher.publishEvent(AdminEvent.of(AdminEventType.REPORT_CREATED, saved.getId(),
+                Map.of("petId", pet.getId())));
 
         return toDTO(saved);
     }
 
+    // PERFORMANCE: One projection query per page instead of lazy reporter/pet loads and a reasons query per row
+    @Transactional(readOnly = true)
     public Page<ReportDTO> getReports(String status, Pageable pageable) {
-        Page<Report> reports;
+        ReportStatus reportStatus = null;
         if (status != null && !status.isEmpty()) {
             try {
-                ReportStatus reportStatus = ReportStatus.valueOf(status);
-                reports = reportRepository.findByStatus(reportStatus, pageable);
+                reportStatus = ReportStatus.valueOf(status);
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException("Invalid status: " + status);
             }
-        } else {
-            reports = reportRepository.findAllByOrderByCreatedAtDesc(pageable);
         }
-        return reports.map(this::toDTO);
+        return reportModerationRepository.findReports(reportStatus, pageable);
+    }
+
+    /**
+     * Pets ordered by pending reports, served from pet_report_aggregates
+     */
+    public Page<MostReportedPetDTO> getMostReportedPets(boolean pendingOnly, Pageable pageable) {
+        return reportAggregateService.getMostReported(pendingOnly, pageable);
     }
 
     public ReportDTO getReportById(Long id) {
@@ -97,12 +122,16 @@ public class ReportService {
             throw new IllegalArgumentException("Invalid status: " + request.status());
         }
 
+        ReportStatus previousStatus = report.getStatus();
         report.setStatus(newStatus);
         report.setAdminNotes(request.adminNotes());
         report.setResolvedAt(LocalDateTime.now());
 
         Report saved = reportRepository.save(report);
+        reportAggregateService.reportStatusChanged(report.getPet().getId(), previousStatus, newStatus);
         log.info("Report resolved: id={}, status={}", saved.getId(), newStatus);
+        eventPublisher.publishEvent(AdminEvent.of(AdminEventType.REPORT_RESOLVED, saved.getId(),
+                Map.of("previousStatus", previousStatus, "status", newStatus)));
 
         return toDTO(saved);
     }
@@ -1,25 +1,84 @@
 package project.petch.petch_api.service;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import project.petch.petch_api.dto.admin.SecurityEvent;
+import project.petch.petch_api.dto.admin.SecurityEventType;
+import project.petch.petch_api.util.MpscRingBuffer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Centralized security event logging service.
- * Logs security-relevant events in a consistent format for monitoring and
- * auditing.
+ *
+ * Callers only enqueue: events go into a bounded lock-free queue and a writer thread logs them,
+ * so a flood of 429s or failed logins never blocks request threads on log appenders. When the
+ * queue is full the event is dropped and counted.
+ *
+ * Repeated events of one type from one IP are aggregated per window
+ * ({@code app.security-events.aggregate-window-ms}): the first is logged right away, the rest
+ * only bump a counter and are logged as a single summary when the window closes. The summary
+ * names the distinct users (and, for IDOR attempts, the resources) behind the repeats, so a
+ * password spray or an ID walk from one address is still visible. The newest logged events are
+ * kept in memory for the admin UI.
  */
 @Service
-public class SecurityEventLogger {
+@Slf4j
+public class SecurityEventLogger implements SmartLifecycle {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // Distinct users or targets named in one summary
+    private static final int MAX_SUMMARY_SUBJECTS = 20;
+
+    private final MpscRingBuffer<SecurityEvent> queue;
+    private final long windowMs;
+    private final int maxTrackedIps;
+    private final int recentSize;
+
+    // Per type, per IP events suppressed in the current window
+    private final Map<SecurityEventType, ConcurrentHashMap<String, Window>> windows = new EnumMap<>(SecurityEventType.class);
+    private final Map<SecurityEventType, LongAdder> recorded = new EnumMap<>(SecurityEventType.class);
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    private final ConcurrentLinkedDeque<SecurityEvent> recent = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger recentCount = new AtomicInteger();
 
-    private static final Logger logger = LoggerFactory.getLogger(SecurityEventLogger.class);
+    private volatile boolean running;
+    private volatile Thread writerThread;
 
-    public enum SecurityEventType {
-        FAILED_LOGIN,
-        RATE_LIMIT_EXCEEDED,
-        IDOR_ATTEMPT,
-        UNAUTHORIZED_ACCESS,
-        BUCKET_CLEANUP
+    public SecurityEventLogger(
+            @Value("${app.security-events.queue-capacity:4096}") int queueCapacity,
+            @Value("${app.security-events.aggregate-window-ms:60000}") long windowMs,
+            @Value("${app.security-events.max-tracked-ips:10000}") int maxTrackedIps,
+            @Value("${app.security-events.recent-size:500}") int recentSize) {
+        this.queue = new MpscRingBuffer<>(queueCapacity);
+        this.windowMs = windowMs;
+        this.maxTrackedIps = maxTrackedIps;
+        this.recentSize = recentSize;
+        for (SecurityEventType type : SecurityEventType.values()) {
+            recorded.put(type, new LongAdder());
+            // Cleanup events come from the scheduler, not from clients
+            if (windowMs > 0 && type != SecurityEventType.BUCKET_CLEANUP) {
+                windows.put(type, new ConcurrentHashMap<>());
+            }
+        }
     }
 
     /**
@@ -28,22 +87,8 @@ public class SecurityEventLogger {
      * details=<DETAILS>
      */
     public void logEvent(SecurityEventType type, String ipAddress, String userIdentifier, String details) {
-        String logMessage = String.format(
-                "SECURITY_EVENT | type=%s | ip=%s | user=%s | details=%s",
-                type.name(),
-                ipAddress != null ? ipAddress : "unknown",
-                userIdentifier != null ? userIdentifier : "anonymous",
-                details != null ? details : "none");
-
-        switch (type) {
-            case FAILED_LOGIN, RATE_LIMIT_EXCEEDED, IDOR_ATTEMPT, UNAUTHORIZED_ACCESS:
-                logger.warn(logMessage);
-                break;
-            case BUCKET_CLEANUP:
-                logger.info(logMessage);
-                break;
-            default:
-                logger.info(logMessage);
+        if (!suppress(type, ipAddress, userIdentifier)) {
+            publish(type, ipAddress, userIdentifier, details);
         }
     }
 
@@ -56,17 +101,23 @@ public class SecurityEventLogger {
 
     /**
      * Log a rate limit violation.
+     * PERFORMANCE: Called on every 429; suppressed repeats return before any string is built.
      */
     public void logRateLimitExceeded(String ipAddress, String endpoint) {
-        logEvent(SecurityEventType.RATE_LIMIT_EXCEEDED, ipAddress, null, "Rate limit exceeded for: " + endpoint);
+        if (!suppress(SecurityEventType.RATE_LIMIT_EXCEEDED, ipAddress, null)) {
+            publish(SecurityEventType.RATE_LIMIT_EXCEEDED, ipAddress, null, "Rate limit exceeded for: " + endpoint);
+        }
     }
 
     /**
      * Log an IDOR (Insecure Direct Object Reference) attempt.
      */
     public void logIdorAttempt(String ipAddress, String userId, String resourceType, Long resourceId) {
-        String details = String.format("Unauthorized %s access attempt on ID: %d", resourceType, resourceId);
-        logEvent(SecurityEventType.IDOR_ATTEMPT, ipAddress, userId, details);
+        if (!suppress(SecurityEventType.IDOR_ATTEMPT, ipAddress,
+                (userId != null ? userId : "anonymous") + " on " + resourceType + " " + resourceId)) {
+            publish(SecurityEventType.IDOR_ATTEMPT, ipAddress, userId,
+                    "Unauthorized " + resourceType + " access attempt on ID: " + resourceId);
+        }
     }
 
     /**
@@ -74,6 +125,234 @@ public class SecurityEventLogger {
      */
     public void logBucketCleanup(int removedCount) {
         logEvent(SecurityEventType.BUCKET_CLEANUP, "system", "system",
-                String.format("Cleaned up %d stale rate limit buckets", removedCount));
+                "Cleaned up " + removedCount + " stale rate limit buckets");
+    }
+
+    /**
+     * Most recent logged events, newest first, optionally filtered by type and IP
+     */
+    public List<SecurityEvent> getRecent(SecurityEventType type, String ipAddress, int limit) {
+        List<SecurityEvent> events = new ArrayList<>(Math.min(limit, recentSize));
+        for (SecurityEvent event : recent) {
+            if (events.size() >= limit) {
+                break;
+            }
+            if ((type == null || event.type() == type) && (ipAddress == null || ipAddress.equals(event.ipAddress()))) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    public long getRecordedCount(SecurityEventType type) {
+        return recorded.get(type).sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Counts the event and reports whether it repeats one already logged for this IP in the
+     * current window. {@code subject} (the user, or for IDOR the user and target) is kept for the
+     * summary; pass null when there is none. Allocation-free once the IP is tracked and the
+     * subject has been seen.
+     */
+    private boolean suppress(SecurityEventType type, String ipAddress, String subject) {
+        recorded.get(type).increment();
+        ConcurrentHashMap<String, Window> byIp = windows.get(type);
+        if (byIp == null) {
+            return false;
+        }
+        String key = ipAddress != null ? ipAddress : "unknown";
+        Window window = byIp.get(key);
+        if (window == null) {
+            // Beyond the cap events are logged individually and the queue bound applies
+            if (byIp.size() >= maxTrackedIps) {
+                return false;
+            }
+            window = byIp.putIfAbsent(key, new Window());
+            if (window == null) {
+                return false;
+            }
+        }
+        window.add(subject);
+        suppressed.increment();
+        return true;
+    }
+
+    /**
+     * Emit one summary per IP that had repeats in the window that just closed, and stop
+     * tracking IPs that went quiet so their next event is logged right away.
+     */
+    @Scheduled(fixedDelayString = "${app.security-events.aggregate-window-ms:60000}")
+    public void closeWindow() {
+        if (windowMs <= 0) {
+            return;
+        }
+        long windowSeconds = TimeUnit.MILLISECONDS.toSeconds(windowMs);
+        windows.forEach((type, byIp) -> {
+            Iterator<Map.Entry<String, Window>> iterator = byIp.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Window> entry = iterator.next();
+                Window window = entry.getValue();
+                long repeats = window.repeats.sumThenReset();
+                if (repeats == 0) {
+                    iterator.remove();
+                } else {
+                    String details = "Repeated " + repeats + " more times in the last " + windowSeconds + " s";
+                    String subjects = window.drainSubjects();
+                    if (subjects != null) {
+                        details += (type == SecurityEventType.IDOR_ATTEMPT ? "; targets: " : "; users: ") + subjects;
+                    }
+                    offer(new SecurityEvent(type, entry.getKey(), null, details, repeats, true, LocalDateTime.now()));
+                }
+            }
+        });
+    }
+
+    private void publish(SecurityEventType type, String ipAddress, String userIdentifier, String details) {
+        offer(new SecurityEvent(type,
+                ipAddress != null ? ipAddress : "unknown",
+                userIdentifier != null ? userIdentifier : "anonymous",
+                details != null ? details : "none",
+                1, false, LocalDateTime.now()));
+    }
+
+    private void offer(SecurityEvent event) {
+        if (!running) {
+            // Before startup and after shutdown there is no writer; log on the caller's thread
+            write(event);
+            return;
+        }
+        if (!queue.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void write(SecurityEvent event) {
+        if (event.type() == SecurityEventType.BUCKET_CLEANUP) {
+            log.info("SECURITY_EVENT | type={} | ip={} | user={} | details={}",
+                    event.type(), event.ipAddress(), event.user(), event.details());
+        } else if (event.summary()) {
+            log.warn("SECURITY_EVENT | type={} | ip={} | count={} | details={}",
+                    event.type(), event.ipAddress(), event.count(), event.details());
+        } else {
+            log.warn("SECURITY_EVENT | type={} | ip={} | user={} | details={}",
+                    event.type(), event.ipAddress(), event.user(), event.details());
+        }
+        if (recentSize > 0) {
+            recent.addFirst(event);
+            if (recentCount.incrementAndGet() > recentSize && recent.pollLast() != null) {
+                recentCount.decrementAndGet();
+            }
+        }
+    }
+
+    private void writerLoop() {
+        List<SecurityEvent> batch = new ArrayList<>(BATCH_SIZE);
+        long reportedDrops = 0;
+        while (running || queue.size() > 0) {
+            if (queue.drainTo(batch, BATCH_SIZE) == 0) {
+                long drops = dropped.sum();
+                if (drops > reportedDrops) {
+                    log.warn("Dropped {} security events because the queue was full", drops - reportedDrops);
+                    reportedDrops = drops;
+                }
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                continue;
+            }
+            for (SecurityEvent event : batch) {
+                try {
+                    write(event);
+                } catch (RuntimeException e) {
+                    // Keep the writer alive; one failed append is not worth losing the thread
+                    dropped.increment();
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Suppressed repeats from one IP in the current window and the distinct subjects behind them,
+     * up to {@link #MAX_SUMMARY_SUBJECTS}.
+     */
+    private static final class Window {
+        final LongAdder repeats = new LongAdder();
+        final Set<String> subjects = ConcurrentHashMap.newKeySet();
+        volatile boolean moreSubjects;
+
+        void add(String subject) {
+            repeats.increment();
+            if (subject == null || subjects.contains(subject)) {
+                return;
+            }
+            if (subjects.size() < MAX_SUMMARY_SUBJECTS) {
+                subjects.add(subject);
+            } else {
+                moreSubjects = true;
+            }
+        }
+
+        /**
+         * The subjects seen since the last call, comma separated, or null if there were none.
+         */
+        String drainSubjects() {
+            if (subjects.isEmpty()) {
+                return null;
+            }
+            List<String> seen = new ArrayList<>(subjects);
+            subjects.removeAll(seen);
+            String joined = String.join(", ", seen);
+            if (moreSubjects) {
+                moreSubjects = false;
+                joined += " and others";
+            }
+            return joined;
+        }
+    }
+
+    @Override
+    public void start() {
+        Thread thread = new Thread(this::writerLoop, "security-event-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Logs whatever is still queued before shutdown.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
     }
 }
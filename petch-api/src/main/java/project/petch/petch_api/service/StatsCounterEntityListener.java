@@ -0,0 +1,133 @@
+package project.petch.petch_api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.Report;
+import project.petch.petch_api.models.ReportStatus;
+import project.petch.petch_api.models.StatsCounterName;
+import project.petch.petch_api.models.User;
+
+import java.util.Objects;
+
+/**
+ * Turns committed inserts, deletes and relevant updates of users, pets and reports into
+ * StatsCounterService deltas. Post-commit events only fire once the transaction has
+ * committed, so rolled-back work never touches the counters.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatsCounterEntityListener implements PostCommitInsertEventListener,
+        PostCommitDeleteEventListener, PostCommitUpdateEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final StatsCounterService statsCounterService;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == User.class || type == Pets.class || type == Report.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        count(event.getEntity(), 1);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        count(event.getEntity(), -1);
+    }
+
+    private void count(Object entity, long sign) {
+        if (entity instanceof User user) {
+            statsCounterService.add(StatsCounterName.TOTAL_USERS, sign);
+            countUserType(user.getUserType(), sign);
+        } else if (entity instanceof Pets pet) {
+            statsCounterService.add(StatsCounterName.TOTAL_PETS, sign);
+            if (Boolean.TRUE.equals(pet.getIsAdopted())) {
+                statsCounterService.add(StatsCounterName.ADOPTED_PETS, sign);
+            }
+        } else if (entity instanceof Report report && report.getStatus() == ReportStatus.PENDING) {
+            statsCounterService.add(StatsCounterName.PENDING_REPORTS, sign);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            // Detached update without a loaded snapshot; reconcile will pick it up
+            return;
+        }
+        Object entity = event.getEntity();
+        if (entity instanceof User) {
+            Object before = property(event, oldState, "userType");
+            Object after = property(event, event.getState(), "userType");
+            if (!Objects.equals(before, after)) {
+                countUserType((UserType) before, -1);
+                countUserType((UserType) after, 1);
+            }
+        } else if (entity instanceof Pets) {
+            boolean before = Boolean.TRUE.equals(property(event, oldState, "isAdopted"));
+            boolean after = Boolean.TRUE.equals(property(event, event.getState(), "isAdopted"));
+            if (before != after) {
+                statsCounterService.add(StatsCounterName.ADOPTED_PETS, after ? 1 : -1);
+            }
+        } else if (entity instanceof Report) {
+            boolean before = property(event, oldState, "status") == ReportStatus.PENDING;
+            boolean after = property(event, event.getState(), "status") == ReportStatus.PENDING;
+            if (before != after) {
+                statsCounterService.add(StatsCounterName.PENDING_REPORTS, after ? 1 : -1);
+            }
+        }
+    }
+
+    private void countUserType(UserType userType, long sign) {
+        if (userType == UserType.ADOPTER) {
+            statsCounterService.add(StatsCounterName.ADOPTERS, sign);
+        } else if (userType == UserType.VENDOR) {
+            statsCounterService.add(StatsCounterName.VENDORS, sign);
+        }
+    }
+
+    private static Object property(PostUpdateEvent event, Object[] state, String propertyName) {
+        return state[event.getPersister().getPropertyIndex(propertyName)];
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Nothing was counted before commit, so there is nothing to undo
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+}
@@ -0,0 +1,135 @@
+package project.petch.petch_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.ReportStatus;
+import project.petch.petch_api.models.StatsCounter;
+import project.petch.petch_api.models.StatsCounterName;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.ReportRepository;
+import project.petch.petch_api.repositories.StatsCounterRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Admin dashboard counters kept in memory and in the stats_counters table.
+ *
+ * StatsCounterEntityListener reports committed changes as deltas. They are applied to
+ * the in-memory mirror immediately and flushed to the table in batches; each flush also
+ * pulls in deltas flushed by other nodes. A periodic reconcile overwrites everything with
+ * real COUNT queries to correct drift from bulk SQL, cascades done by the database, or
+ * deltas lost in a crash.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatsCounterService {
+
+    private final StatsCounterRepository statsCounterRepository;
+    private final UserRepository userRepository;
+    private final PetsRepository petsRepository;
+    private final ReportRepository reportRepository;
+
+    private final Map<StatsCounterName, AtomicLong> values = newCounterMap(AtomicLong::new);
+    private final Map<StatsCounterName, LongAdder> unflushed = newCounterMap(LongAdder::new);
+
+    /**
+     * Current value, read from memory
+     */
+    public long get(StatsCounterName name) {
+        return values.get(name).get();
+    }
+
+    /**
+     * Apply a committed change. Called from Hibernate post-commit listeners, so it must stay cheap.
+     */
+    public void add(StatsCounterName name, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        values.get(name).addAndGet(delta);
+        unflushed.get(name).add(delta);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<StatsCounterName, Long> stored = new EnumMap<>(StatsCounterName.class);
+        statsCounterRepository.findAll().forEach(counter -> stored.put(counter.getName(), counter.getValue()));
+        if (stored.size() < StatsCounterName.values().length) {
+            log.info("stats_counters is incomplete ({} of {} rows), rebuilding from COUNT queries",
+                    stored.size(), StatsCounterName.values().length);
+            reconcile();
+            return;
+        }
+        stored.forEach((name, value) -> values.get(name).set(value + unflushed.get(name).sum()));
+        log.info("Loaded admin stats counters: {}", stored);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stats.flush-interval-ms:10000}")
+    public void flush() {
+        for (StatsCounterName name : StatsCounterName.values()) {
+            long delta = unflushed.get(name).sumThenReset();
+            if (delta == 0) {
+                continue;
+            }
+            try {
+                statsCounterRepository.addDelta(name.name(), delta);
+            } catch (Exception e) {
+                unflushed.get(name).add(delta);
+                log.warn("Failed to flush stats counter {} (delta {}): {}", name, delta, e.getMessage());
+            }
+        }
+
+        // Converge with deltas flushed by other nodes
+        try {
+            for (StatsCounter counter : statsCounterRepository.findAll()) {
+                values.get(counter.getName()).set(counter.getValue() + unflushed.get(counter.getName()).sum());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh stats counters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Replace every counter with its real value. Runs hourly by default and after bulk operations
+     * that bypass the entity listeners.
+     */
+    @Scheduled(cron = "${app.stats.reconcile-cron:0 0 * * * *}")
+    public void reconcile() {
+        Map<StatsCounterName, Long> actual = new EnumMap<>(StatsCounterName.class);
+        actual.put(StatsCounterName.TOTAL_USERS, userRepository.count());
+        actual.put(StatsCounterName.TOTAL_PETS, petsRepository.count());
+        actual.put(StatsCounterName.ADOPTED_PETS, petsRepository.countByIsAdoptedTrue());
+        actual.put(StatsCounterName.ADOPTERS, userRepository.countByUserType(UserType.ADOPTER));
+        actual.put(StatsCounterName.VENDORS, userRepository.countByUserType(UserType.VENDOR));
+        actual.put(StatsCounterName.PENDING_REPORTS, reportRepository.countByStatus(ReportStatus.PENDING));
+
+        actual.forEach((name, value) -> {
+            // Pending deltas are already reflected in the COUNT results
+            unflushed.get(name).reset();
+            statsCounterRepository.setValue(name.name(), value);
+            long previous = values.get(name).getAndSet(value);
+            if (previous != value) {
+                log.info("Reconciled stats counter {}: {} -> {}", name, previous, value);
+            }
+        });
+    }
+
+    private static <T> Map<StatsCounterName, T> newCounterMap(Supplier<T> factory) {
+        Map<StatsCounterName, T> map = new EnumMap<>(StatsCounterName.class);
+        for (StatsCounterName name : StatsCounterName.values()) {
+            map.put(name, factory.get());
+        }
+        return map;
+    }
+}
@@ -4,9 +4,11 @@ import com.stripe.Stripe;
 import com.stripe.exception.StripeException;
 import com.stripe.model.checkout.Session;
 import com.stripe.param.checkout.SessionCreateParams;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import project.petch.petch_api.dto.payment.CheckoutRequest;
 import project.petch.petch_api.dto.payment.CheckoutResponse;
@@ -15,6 +17,8 @@ import project.petch.petch_api.dto.payment.CheckoutResponse;
  * Service for handling Stripe payment operations.
  * Uses Stripe Checkout for secure, hosted payment pages.
  */
+// Only used by the lazy PaymentController
+@Lazy
 @Service
 @Slf4j
 public class StripeService {
@@ -42,6 +46,7 @@ public class StripeService {
      * @return CheckoutResponse containing the session ID and URL
      * @throws StripeException If Stripe API call fails
      */
+    @Timed("petch.payments.checkout")
     public CheckoutResponse createCheckoutSession(CheckoutRequest request, String userEmail) throws StripeException {
         log.info("Creating checkout session for pet {} with amount {} cents", 
                 request.petId(), request.amountCents());
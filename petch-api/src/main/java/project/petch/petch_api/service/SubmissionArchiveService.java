@@ -0,0 +1,191 @@
+package project.petch.petch_api.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.config.AsyncConfig;
+import project.petch.petch_api.repositories.AdoptionFormSubmissionRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Removes a pet's adoption form submissions once an appointment goes ahead, keeping the PDFs.
+ *
+ * The cleanup itself is two set-based statements in the caller's transaction: copy the rows
+ * into archived_adoption_form_submissions, then delete them. After commit, an export on the
+ * media executor streams each archived PDF from the database to {@code app.archive.dir} and
+ * clears it from the row. Exports interrupted by a restart are picked up by a periodic sweep.
+ */
+@Service
+@Slf4j
+public class SubmissionArchiveService {
+
+    public static final String REASON_APPOINTMENT_CREATED = "APPOINTMENT_CREATED";
+    public static final String REASON_APPOINTMENT_CONFIRMED = "APPOINTMENT_CONFIRMED";
+
+    private final AdoptionFormSubmissionRepository submissionRepository;
+    private final VendorInboxCounterService inboxCounterService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor mediaExecutor;
+    private final AtomicBoolean exportRunning = new AtomicBoolean();
+
+    @Value("${app.archive.dir:archive/submissions}")
+    private String archiveDir;
+
+    @Value("${app.archive.export-enabled:true}")
+    private boolean exportEnabled;
+
+    @Value("${app.archive.batch-size:50}")
+    private int batchSize;
+
+    public SubmissionArchiveService(AdoptionFormSubmissionRepository submissionRepository,
+            VendorInboxCounterService inboxCounterService,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(AsyncConfig.MEDIA_EXECUTOR) Executor mediaExecutor) {
+        this.submissionRepository = submissionRepository;
+        this.inboxCounterService = inboxCounterService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mediaExecutor = mediaExecutor;
+    }
+
+    /**
+     * Archive and delete every submission for the pet except {@code keepSubmissionId} (may be null).
+     * Must run inside the transaction that changes the appointment, so both commit together.
+     *
+     * @return number of submissions removed
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int archiveSubmissionsForPet(Long petId, Long keepSubmissionId, String reason) {
+        int archived = submissionRepository.archiveByPetId(petId, keepSubmissionId, reason);
+        int deleted = submissionRepository.deleteByPetId(petId, keepSubmissionId);
+        if (deleted > 0) {
+            log.info("Archived {} and deleted {} submissions for pet {} ({})", archived, deleted, petId, reason);
+            inboxCounterService.recountForPet(petId);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleExport();
+                }
+            });
+        }
+        return deleted;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.sweep-interval-ms:600000}", initialDelayString = "${app.archive.sweep-interval-ms:600000}")
+    public void sweep() {
+        scheduleExport();
+    }
+
+    private void scheduleExport() {
+        if (!exportEnabled || !exportRunning.compareAndSet(false, true)) {
+            return; // A running export keeps going until nothing is pending
+        }
+        try {
+            mediaExecutor.execute(this::exportPending);
+        } catch (TaskRejectedException e) {
+            exportRunning.set(false);
+            log.warn("Submission archive export rejected, the next sweep will retry: {}", e.getMessage());
+        }
+    }
+
+    private void exportPending() {
+        int exported = 0;
+        try {
+            List<Long> ids;
+            do {
+                ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM archived_adoption_form_submissions "
+                                + "WHERE exported_at IS NULL AND pdf_data IS NOT NULL ORDER BY id LIMIT ?",
+                        Long.class, batchSize);
+                for (Long id : ids) {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> exportOne(id)))) {
+                        exported++;
+                    }
+                }
+            } while (ids.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Submission archive export failed after {} files, the next sweep will retry", exported, e);
+        } finally {
+            exportRunning.set(false);
+        }
+        if (exported > 0) {
+            log.info("Exported {} archived submission PDFs to {}", exported, archiveDir);
+        }
+    }
+
+    /**
+     * Stream one PDF to disk and clear it from the row. SKIP LOCKED lets several nodes export
+     * concurrently without writing the same file twice.
+     */
+    private boolean exportOne(Long id) {
+        Path root = Paths.get(archiveDir).toAbsolutePath().normalize();
+        Exported exported = jdbcTemplate.query(
+                "SELECT pet_id, pdf_data FROM archived_adoption_form_submissions "
+                        + "WHERE id = ? AND exported_at IS NULL FOR UPDATE SKIP LOCKED",
+                rs -> rs.next() ? writeFile(root, id, rs) : null,
+                id);
+        if (exported == null) {
+            return false;
+        }
+        if (exported.largeObject()) {
+            // Hibernate maps @Lob byte[] to a large object (oid) on PostgreSQL; unlink it so it is not orphaned
+            jdbcTemplate.query("SELECT lo_unlink(pdf_data) FROM archived_adoption_form_submissions WHERE id = ?",
+                    rs -> null, id);
+        }
+        jdbcTemplate.update(
+                "UPDATE archived_adoption_form_submissions SET pdf_data = NULL, export_path = ?, exported_at = now() WHERE id = ?",
+                exported.path(), id);
+        return true;
+    }
+
+    private Exported writeFile(Path root, Long id, ResultSet rs) throws SQLException {
+        boolean largeObject = !isBinary(rs.getMetaData().getColumnType(2));
+        Path dir = root.resolve(String.valueOf(rs.getLong("pet_id")));
+        Path target = dir.resolve(id + ".pdf");
+        try {
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, id + "-", ".part");
+            try (InputStream in = largeObject ? rs.getBlob("pdf_data").getBinaryStream() : rs.getBinaryStream("pdf_data")) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to export archived submission " + id, e);
+        }
+        return new Exported(root.relativize(target).toString(), largeObject);
+    }
+
+    private static boolean isBinary(int sqlType) {
+        return sqlType == Types.BINARY || sqlType == Types.VARBINARY || sqlType == Types.LONGVARBINARY;
+    }
+
+    private record Exported(String path, boolean largeObject) {
+    }
+}
@@ -0,0 +1,84 @@
+package project.petch.petch_api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
+import project.petch.petch_api.models.VendorInboxCounter;
+import project.petch.petch_api.repositories.VendorInboxCounterRepository;
+
+/**
+ * Unread (NEW) submission counts per vendor, kept in vendor_inbox_counters.
+ *
+ * Single-row changes apply a +1/-1 delta in the same transaction as the submission change.
+ * Set-based deletes recount the affected vendor, and a scheduled reconciliation catches
+ * anything that bypasses both (cascading user deletes, bulk moderation).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VendorInboxCounterService {
+
+    private final VendorInboxCounterRepository counterRepository;
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long vendorUserId) {
+        return counterRepository.findById(vendorUserId).map(VendorInboxCounter::getUnreadCount).orElse(0L);
+    }
+
+    @Transactional
+    public void submissionAdded(Long vendorUserId, SubmissionStatus status) {
+        if (vendorUserId != null && status == SubmissionStatus.NEW) {
+            counterRepository.addDelta(vendorUserId, 1);
+        }
+    }
+
+    @Transactional
+    public void submissionRemoved(Long vendorUserId, SubmissionStatus status) {
+        if (vendorUserId != null && status == SubmissionStatus.NEW) {
+            counterRepository.addDelta(vendorUserId, -1);
+        }
+    }
+
+    @Transactional
+    public void statusChanged(Long vendorUserId, SubmissionStatus from, SubmissionStatus to) {
+        if (vendorUserId == null || from == to) {
+            return;
+        }
+        if (from == SubmissionStatus.NEW) {
+            counterRepository.addDelta(vendorUserId, -1);
+        } else if (to == SubmissionStatus.NEW) {
+            counterRepository.addDelta(vendorUserId, 1);
+        }
+    }
+
+    @Transactional
+    public void recountForPet(Long petId) {
+        counterRepository.recountForPet(petId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int backfilled = counterRepository.backfillVendorUserIds();
+        if (backfilled > 0) {
+            log.info("Backfilled vendor_user_id on {} adoption form submissions", backfilled);
+        }
+        reconcile();
+    }
+
+    /**
+     * Replace every counter with its real value. Runs hourly by default and after bulk operations.
+     */
+    @Scheduled(cron = "${app.inbox.reconcile-cron:0 15 * * * *}")
+    public void reconcile() {
+        int changed = counterRepository.reconcileVendorsWithSubmissions()
+                + counterRepository.reconcileVendorsWithoutUnread();
+        if (changed > 0) {
+            log.info("Reconciled {} vendor inbox counters", changed);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package project.petch.petch_api.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
 import project.petch.petch_api.dto.user.VendorProfileDTO;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.models.VerificationRequestStatus;
@@ -14,6 +17,7 @@ import project.petch.petch_api.repositories.UserRepository;
 import project.petch.petch_api.repositories.VendorProfileRepository;
 import project.petch.petch_api.repositories.VendorVerificationRequestRepository;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.Objects;
 
@@ -25,6 +29,7 @@ public class VendorProfileService {
     private final VendorProfileRepository vendorProfileRepository;
     private final UserRepository userRepository;
     private final VendorVerificationRequestRepository vendorVerificationRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Optional<VendorProfileDTO> getProfileByUserId(Long userId) {
@@ -93,7 +98,9 @@ public class VendorProfileService {
                             .supportingMetadata(supportingMetadata)
                             .build();
 
-                    vendorVerificationRequestRepository.save(verificationRequest);
+                    VendorVerificationRequest savedRequest = vendorVerificationRequestRepository.save(verificationRequest);
+                    eventPublisher.publishEvent(AdminEvent.of(AdminEventType.VERIFICATION_REQUESTED,
+                            savedRequest.getId(), Map.of("vendorProfileId", savedProfile.getId())));
 
                     return Optional.ofNullable(toDTO(savedProfile));
                 });
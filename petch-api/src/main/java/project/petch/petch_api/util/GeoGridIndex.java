@@ -0,0 +1,159 @@
+package project.petch.petch_api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable spatial index over points keyed by id: a uniform latitude/longitude grid whose cells
+ * are stored sorted, with the points of each cell contiguous in parallel primitive arrays.
+ *
+ * A radius query visits only the cells overlapping the circle's bounding box (binary search per
+ * cell) and computes exact distances for the points in them, so its cost tracks the number of
+ * points nearby rather than the catalog size. Rebuild to apply changes; instances are safe to
+ * share between threads.
+ */
+public final class GeoGridIndex {
+
+    public record Hit(long id, double distanceKm) {
+    }
+
+    private static final Comparator<Hit> BY_DISTANCE = Comparator.comparingDouble(Hit::distanceKm)
+            .thenComparingLong(Hit::id);
+
+    private final double cellDegrees;
+    private final int latitudeCells;
+    private final int longitudeCells;
+
+    // Sorted cell keys (row * longitudeCells + column); points of cellKeys[i] are at positions
+    // cellStart[i] until cellStart[i + 1]
+    private final int[] cellKeys;
+    private final int[] cellStart;
+    private final long[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    private GeoGridIndex(double cellDegrees, int[] cellKeys, int[] cellStart,
+            long[] ids, double[] latitudes, double[] longitudes) {
+        this.cellDegrees = cellDegrees;
+        this.latitudeCells = (int) Math.ceil(180 / cellDegrees);
+        this.longitudeCells = (int) Math.ceil(360 / cellDegrees);
+        this.cellKeys = cellKeys;
+        this.cellStart = cellStart;
+        this.ids = ids;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+    }
+
+    /**
+     * @param cellDegrees grid resolution; around the typical search radius works best
+     *                    (0.5 degrees is about 55 km north-south)
+     */
+    public static GeoGridIndex build(long[] ids, double[] latitudes, double[] longitudes, double cellDegrees) {
+        if (ids.length != latitudes.length || ids.length != longitudes.length) {
+            throw new IllegalArgumentException("ids, latitudes and longitudes must have the same length");
+        }
+        if (!(cellDegrees > 0 && cellDegrees <= 90)) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 90]");
+        }
+        int latitudeCells = (int) Math.ceil(180 / cellDegrees);
+        int longitudeCells = (int) Math.ceil(360 / cellDegrees);
+        int n = ids.length;
+        // Cell key in the high half, source position in the low half: one primitive sort orders by cell
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            int key = latitudeCell(latitudes[i], cellDegrees, latitudeCells) * longitudeCells
+                    + longitudeCell(longitudes[i], cellDegrees, longitudeCells);
+            order[i] = ((long) key << 32) | i;
+        }
+        Arrays.sort(order);
+
+        long[] sortedIds = new long[n];
+        double[] sortedLatitudes = new double[n];
+        double[] sortedLongitudes = new double[n];
+        int[] cellKeys = new int[n];
+        int[] cellStart = new int[n + 1];
+        int cells = 0;
+        for (int i = 0; i < n; i++) {
+            int key = (int) (order[i] >>> 32);
+            int source = (int) order[i];
+            sortedIds[i] = ids[source];
+            sortedLatitudes[i] = latitudes[source];
+            sortedLongitudes[i] = longitudes[source];
+            if (cells == 0 || cellKeys[cells - 1] != key) {
+                cellKeys[cells] = key;
+                cellStart[cells] = i;
+                cells++;
+            }
+        }
+        cellStart[cells] = n;
+        return new GeoGridIndex(cellDegrees, Arrays.copyOf(cellKeys, cells), Arrays.copyOf(cellStart, cells + 1),
+                sortedIds, sortedLatitudes, sortedLongitudes);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Points within {@code radiusKm} of {@code center}, nearest first, at most {@code limit} of them.
+     */
+    public List<Hit> within(GeoPoint center, double radiusKm, int limit) {
+        List<Hit> hits = new ArrayList<>();
+        if (ids.length == 0 || radiusKm <= 0 || limit <= 0) {
+            return hits;
+        }
+        double latitudeDelta = radiusKm / GeoPoint.KM_PER_DEGREE;
+        int fromRow = latitudeCell(Math.max(-90, center.latitude() - latitudeDelta), cellDegrees, latitudeCells);
+        int toRow = latitudeCell(Math.min(90, center.latitude() + latitudeDelta), cellDegrees, latitudeCells);
+
+        double longitudeDelta = center.longitudeDelta(radiusKm);
+        double west = center.longitude() - longitudeDelta;
+        double east = center.longitude() + longitudeDelta;
+        if (longitudeDelta >= 180) {
+            scan(center, radiusKm, fromRow, toRow, 0, longitudeCells - 1, hits);
+        } else if (west < -180) {
+            // Box crosses the antimeridian: scan both sides
+            scan(center, radiusKm, fromRow, toRow, longitudeCell(west + 360), longitudeCells - 1, hits);
+            scan(center, radiusKm, fromRow, toRow, 0, longitudeCell(east), hits);
+        } else if (east > 180) {
+            scan(center, radiusKm, fromRow, toRow, longitudeCell(west), longitudeCells - 1, hits);
+            scan(center, radiusKm, fromRow, toRow, 0, longitudeCell(east - 360), hits);
+        } else {
+            scan(center, radiusKm, fromRow, toRow, longitudeCell(west), longitudeCell(east), hits);
+        }
+        hits.sort(BY_DISTANCE);
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private void scan(GeoPoint center, double radiusKm, int fromRow, int toRow, int fromColumn, int toColumn,
+            List<Hit> hits) {
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int column = fromColumn; column <= toColumn; column++) {
+                int cell = Arrays.binarySearch(cellKeys, row * longitudeCells + column);
+                if (cell < 0) {
+                    continue;
+                }
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    double distance = center.distanceKm(latitudes[i], longitudes[i]);
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(ids[i], distance));
+                    }
+                }
+            }
+        }
+    }
+
+    private int longitudeCell(double longitude) {
+        return longitudeCell(longitude, cellDegrees, longitudeCells);
+    }
+
+    private static int latitudeCell(double latitude, double cellDegrees, int latitudeCells) {
+        return Math.min(latitudeCells - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    private static int longitudeCell(double longitude, double cellDegrees, int longitudeCells) {
+        return Math.min(longitudeCells - 1, Math.max(0, (int) Math.floor((longitude + 180) / cellDegrees)));
+    }
+}
@@ -0,0 +1,67 @@
+package project.petch.petch_api.util;
+
+/**
+ * A WGS84 coordinate in degrees, with the great-circle helpers the geo search needs.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    // Length of one degree of latitude (and of longitude at the equator)
+    public static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    public GeoPoint {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + "," + longitude);
+        }
+    }
+
+    /**
+     * Parses "lat,lng" as used by the {@code near} request parameter.
+     *
+     * @throws IllegalArgumentException if the value is malformed or out of range
+     */
+    public static GeoPoint parse(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Expected lat,lng");
+        }
+        int comma = value.indexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("Expected lat,lng: " + value);
+        }
+        try {
+            return new GeoPoint(Double.parseDouble(value.substring(0, comma).trim()),
+                    Double.parseDouble(value.substring(comma + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected lat,lng: " + value, e);
+        }
+    }
+
+    public double distanceKm(double otherLatitude, double otherLongitude) {
+        return haversineKm(latitude, longitude, otherLatitude, otherLongitude);
+    }
+
+    /**
+     * Great-circle distance; accurate to about 0.5% against the ellipsoid, plenty for search radii.
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Half-width in degrees of longitude of a box that contains every point within {@code radiusKm};
+     * 180 when the circle reaches a pole and any longitude can be in range.
+     */
+    public double longitudeDelta(double radiusKm) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        if (Math.abs(latitude) + latitudeDelta >= 90) {
+            return 180;
+        }
+        double delta = Math.toDegrees(Math.asin(Math.min(1,
+                Math.sin(radiusKm / EARTH_RADIUS_KM) / Math.cos(Math.toRadians(latitude)))));
+        return Math.min(180, delta);
+    }
+}
@@ -0,0 +1,182 @@
+package project.petch.petch_api.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Hashed timer wheel for large numbers of coarse, mostly cancelled timeouts keyed by id.
+ *
+ * Scheduling and cancelling are O(1) and lock-free for callers: new timeouts go through a
+ * queue and cancellation only flags the entry. A single worker thread advances the wheel
+ * one tick at a time and fires expired keys on that thread, so handlers must be quick
+ * (hand real work to an executor). Precision is one tick.
+ *
+ * Scheduling a key that already has a timeout replaces it.
+ */
+@Slf4j
+public class HashedTimerWheel<K> {
+
+    private final String name;
+    private final long tickMs;
+    private final int mask;
+    private final List<List<Entry<K>>> buckets;
+    private final Consumer<K> onExpire;
+    private final LongSupplier clock;
+    private final long startMs;
+
+    private final Queue<Entry<K>> incoming = new ConcurrentLinkedQueue<>();
+    private final Map<K, Entry<K>> byKey = new ConcurrentHashMap<>();
+
+    // Only touched by the thread that calls advance()
+    private long currentTick;
+
+    private volatile Thread worker;
+
+    public HashedTimerWheel(String name, long tickMs, int wheelSize, Consumer<K> onExpire) {
+        this(name, tickMs, wheelSize, onExpire, System::currentTimeMillis);
+    }
+
+    public HashedTimerWheel(String name, long tickMs, int wheelSize, Consumer<K> onExpire, LongSupplier clock) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.name = name;
+        this.tickMs = tickMs;
+        this.mask = wheelSize - 1;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.onExpire = onExpire;
+        this.clock = clock;
+        this.startMs = clock.getAsLong();
+    }
+
+    /**
+     * Fire {@code key} at (or up to one tick after) {@code deadlineMs}, replacing any pending timeout for it.
+     * Deadlines in the past fire on the next tick.
+     */
+    public void schedule(K key, long deadlineMs) {
+        Entry<K> entry = new Entry<>(key, deadlineMs);
+        Entry<K> previous = byKey.put(key, entry);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        incoming.add(entry);
+    }
+
+    /**
+     * @return true if a pending timeout was cancelled
+     */
+    public boolean cancel(K key) {
+        Entry<K> entry = byKey.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    public int pending() {
+        return byKey.size();
+    }
+
+    /**
+     * Process every tick up to the current clock time. Called by the worker thread; exposed
+     * so tests can drive the wheel with a manual clock instead of starting it.
+     */
+    public void advance() {
+        long targetTick = (clock.getAsLong() - startMs) / tickMs;
+        while (currentTick <= targetTick) {
+            transferIncoming();
+            expireBucket(buckets.get((int) (currentTick & mask)));
+            currentTick++;
+        }
+    }
+
+    private void transferIncoming() {
+        Entry<K> entry;
+        while ((entry = incoming.poll()) != null) {
+            if (entry.cancelled) {
+                continue;
+            }
+            long deadlineTick = Math.max(currentTick, (entry.deadlineMs - startMs + tickMs - 1) / tickMs);
+            entry.rounds = (deadlineTick - currentTick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(entry);
+        }
+    }
+
+    private void expireBucket(List<Entry<K>> bucket) {
+        for (Iterator<Entry<K>> it = bucket.iterator(); it.hasNext(); ) {
+            Entry<K> entry = it.next();
+            if (entry.cancelled) {
+                it.remove();
+            } else if (entry.rounds <= 0) {
+                it.remove();
+                // A concurrent cancel or reschedule wins over firing
+                if (byKey.remove(entry.key, entry)) {
+                    fire(entry.key);
+                }
+            } else {
+                entry.rounds--;
+            }
+        }
+    }
+
+    private void fire(K key) {
+        try {
+            onExpire.accept(key);
+        } catch (Exception e) {
+            log.error("Timer wheel '{}' expiry handler failed for {}", name, key, e);
+        }
+    }
+
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(tickMs);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                advance();
+            }
+        }, name + "-timer-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadlineMs;
+        private long rounds;
+        private volatile boolean cancelled;
+
+        private Entry(K key, long deadlineMs) {
+            this.key = key;
+            this.deadlineMs = deadlineMs;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package project.petch.petch_api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.AdoptionAppointment;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.AdoptionAppointmentRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static project.petch.petch_api.QueryCountAssertions.assertQueryCount;
+
+// Paged appointment listings: /me/page on the adopter and vendor controllers
+@SpringBootTest
+@AutoConfigureMockMvc
+class AppointmentPageControllerTest {
+
+    private static final int APPOINTMENTS = 3;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired UserRepository userRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired AdoptionAppointmentRepository appointmentRepository;
+    @Autowired PasswordEncoder passwordEncoder;
+
+    private User vendor;
+    private User adopter;
+    private Pets pet;
+    // Newest first, the order both endpoints return
+    private final List<Long> appointmentIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        vendor = saveUser(UserType.VENDOR);
+        adopter = saveUser(UserType.ADOPTER);
+        pet = petsRepository.save(Pets.builder()
+                .name("AppointmentPageTestPet").species("Cat").breed("Siamese")
+                .age(2).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build());
+        for (int i = 0; i < APPOINTMENTS; i++) {
+            AdoptionAppointment appointment = appointmentRepository.save(AdoptionAppointment.builder()
+                    .pet(pet).adopterUser(adopter).vendorUser(vendor)
+                    .appointmentType(AdoptionAppointment.AppointmentType.MEETUP)
+                    .location("Location " + (char) ('C' - i))
+                    .appointmentDate(LocalDate.now().plusDays(i))
+                    .availableTimes("10:00")
+                    .paymentOption(AdoptionAppointment.PaymentOption.IN_PERSON)
+                    .build());
+            appointmentIds.add(0, appointment.getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        appointmentRepository.deleteAllById(appointmentIds);
+        petsRepository.deleteById(pet.getId());
+        userRepository.deleteById(vendor.getId());
+        userRepository.deleteById(adopter.getId());
+    }
+
+    private User saveUser(UserType type) {
+        User u = new User();
+        u.setEmail("test-" + UUID.randomUUID() + "@appointments.test");
+        u.setPasswordHash(passwordEncoder.encode("pass"));
+        u.setUserType(type);
+        return userRepository.save(u);
+    }
+
+    @Test
+    void vendorPage_returnsPageShapeNewestFirst() throws Exception {
+        mockMvc.perform(get("/api/v1/vendor/appointments/me/page").param("page", "0").param("size", "2")
+                        .with(user(vendor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[*].id").value(contains(appointmentIds.get(0).intValue(),
+                        appointmentIds.get(1).intValue())))
+                .andExpect(jsonPath("$.content[0].petName").value("AppointmentPageTestPet"))
+                .andExpect(jsonPath("$.content[0].adopterEmail").value(adopter.getEmail()))
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.totalElements").value(APPOINTMENTS))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.last").value(false));
+        // Page query and count query; no per-row loading
+        assertQueryCount(2);
+    }
+
+    @Test
+    void adopterPage_capsSizeAtMaximum_andClampsInvalidValues() throws Exception {
+        mockMvc.perform(get("/api/v1/adopter/appointments/me/page").param("size", "5000").with(user(adopter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(100))
+                .andExpect(jsonPath("$.content.length()").value(APPOINTMENTS));
+
+        mockMvc.perform(get("/api/v1/adopter/appointments/me/page").param("page", "-3").param("size", "0")
+                        .with(user(adopter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.number").value(0))
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.content[*].id").value(contains(appointmentIds.get(0).intValue())));
+    }
+
+    @Test
+    void sortParameter_isIgnored_orderStaysNewestFirst() throws Exception {
+        // Only the fixed createdAt DESC, id DESC order is allowed; client sort fields never reach the query
+        mockMvc.perform(get("/api/v1/adopter/appointments/me/page")
+                        .param("sort", "location,asc")
+                        .param("sort", "adopterUser.passwordHash")
+                        .with(user(adopter)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id").value(contains(appointmentIds.stream()
+                        .map(Long::intValue).toArray())))
+                .andExpect(jsonPath("$.sort.sorted").value(false));
+    }
+
+    @Test
+    void outOfRangePage_returnsEmptyContentWithTotals() throws Exception {
+        mockMvc.perform(get("/api/v1/vendor/appointments/me/page").param("page", "50").param("size", "2")
+                        .with(user(vendor)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(0))
+                .andExpect(jsonPath("$.number").value(50))
+                .andExpect(jsonPath("$.totalElements").value(APPOINTMENTS))
+                .andExpect(jsonPath("$.totalPages").value(2))
+                .andExpect(jsonPath("$.last").value(true));
+    }
+}
@@ -23,7 +23,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static project.petch.petch_api.QueryCountAssertions.assertQueryCount;
 
+// assertQueryCount pins each endpoint's JDBC statement budget; a changed count means a new N+1 (or a fix)
 @SpringBootTest
 @AutoConfigureMockMvc
 class PetAdoptionControllerTest {
@@ -81,6 +83,8 @@ class PetAdoptionControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{}"))
                 .andExpect(status().isBadRequest());
+        // The body is rejected before any lookup
+        assertQueryCount(0);
     }
 
     @Test
@@ -90,6 +94,8 @@ class PetAdoptionControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"isAdopted\": true}"))
                 .andExpect(status().isNotFound());
+        // The pet lookup, which finds nothing
+        assertQueryCount(1);
     }
 
     @Test
@@ -99,6 +105,8 @@ class PetAdoptionControllerTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content("{\"isAdopted\": true}"))
                 .andExpect(status().isForbidden());
+        // Pet + adoption details, pet documents, owner, owner's adopter profile, preferences, vendor profile
+        assertQueryCount(6);
     }
 
     @Test
@@ -109,6 +117,8 @@ class PetAdoptionControllerTest {
                 .content("{\"isAdopted\": true}"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.isAdopted").value(true));
+        // The same six loads as a 403, the cache-invalidation pg_notify, then the pets UPDATE
+        assertQueryCount(8);
 
         assertThat(petsRepository.findById(testPet.getId()).orElseThrow().getIsAdopted()).isTrue();
     }
@@ -134,6 +144,26 @@ class PetAdoptionControllerTest {
                 .param("search", "AdoptionCtrlTestPet"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.totalElements").value(0));
+        // The filtered listing page; a short first page needs no COUNT
+        assertQueryCount(1);
+    }
+
+    @Test
+    void searchByName_returnsListingRowsAndExcludesAdopted() throws Exception {
+        mockMvc.perform(get("/api/pets/search")
+                .param("name", "adoptionctrltest"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.id==" + testPet.getId() + ")].user.id").value(ownerVendor.getId().intValue()));
+        // Listing rows, then the page's images
+        assertQueryCount(2);
+
+        testPet.setIsAdopted(true);
+        petsRepository.save(testPet);
+
+        mockMvc.perform(get("/api/pets/search")
+                .param("name", "AdoptionCtrlTestPet"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.id==" + testPet.getId() + ")]").isEmpty());
     }
 
     @Test
@@ -144,6 +174,8 @@ class PetAdoptionControllerTest {
         mockMvc.perform(get("/api/pets/user/{userId}", ownerVendor.getId()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[?(@.id==" + testPet.getId() + ")]").isNotEmpty());
+        // Pets + owner, adoption details, documents, owner, owner's three profiles, then images
+        assertQueryCount(8);
     }
 
     @Test
@@ -0,0 +1,221 @@
+package project.petch.petch_api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import project.petch.petch_api.config.AsyncConfig;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+import project.petch.petch_api.service.PetExportService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// One export thread and no queue, so a second concurrent export is rejected
+@SpringBootTest(properties = {
+        "app.export.chunk-size=2",
+        "app.export.timeout-ms=4321",
+        "app.executors.pools.exports.core-pool-size=1",
+        "app.executors.pools.exports.max-pool-size=1",
+        "app.executors.pools.exports.queue-capacity=0"
+})
+@AutoConfigureMockMvc
+class PetExportControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired PetExportService petExportService;
+    @Autowired UserRepository userRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired @Qualifier(AsyncConfig.EXPORTS_EXECUTOR) AsyncTaskExecutor exportsExecutor;
+
+    private User admin;
+    private User vendor;
+    private final List<Pets> available = new ArrayList<>();
+    private Pets held;
+    private Pets adopted;
+
+    @BeforeEach
+    void setUp() {
+        admin = saveUser(UserType.ADMIN);
+        vendor = saveUser(UserType.VENDOR);
+        for (int i = 0; i < 3; i++) {
+            available.add(savePet("ExportPet" + i, false, false));
+        }
+        held = savePet("ExportHeldPet", true, false);
+        adopted = savePet("ExportAdoptedPet", false, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        available.forEach(pet -> petsRepository.deleteById(pet.getId()));
+        petsRepository.deleteById(held.getId());
+        petsRepository.deleteById(adopted.getId());
+        userRepository.deleteById(admin.getId());
+        userRepository.deleteById(vendor.getId());
+    }
+
+    @Test
+    void export_requiresAdmin() throws Exception {
+        mockMvc.perform(get("/api/pets/export"))
+                .andExpect(status().is4xxClientError())
+                .andExpect(request().asyncNotStarted());
+        mockMvc.perform(get("/api/pets/export").with(user(vendor)))
+                .andExpect(status().isForbidden())
+                .andExpect(request().asyncNotStarted());
+    }
+
+    @Test
+    void export_streamsOneAvailablePetPerLineInIdOrder_withTheExportTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/pets/export").with(user(admin)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(4321);
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        List<Long> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode pet = objectMapper.readTree(line);
+            assertThat(pet.isObject()).isTrue();
+            ids.add(pet.get("id").asLong());
+        }
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).containsAll(available.stream().map(Pets::getId).toList());
+        assertThat(ids).doesNotContain(held.getId(), adopted.getId());
+    }
+
+    @Test
+    void export_whenTheExportPoolIsFull_returns503() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        occupyExportThread(release);
+        try {
+            MvcResult rejected = mockMvc.perform(get("/api/pets/export").with(user(admin)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            assertThat(WebAsyncUtils.getAsyncManager(rejected.getRequest()).getConcurrentResult())
+                    .isInstanceOf(TaskRejectedException.class);
+
+            // MockMvc's asyncDispatch only sees results from tasks that ran, so dispatch by hand
+            // the way the container does and let the exception handler render the rejection
+            mockMvc.perform(servletContext -> {
+                        MockHttpServletRequest dispatch = rejected.getRequest();
+                        dispatch.setDispatcherType(DispatcherType.ASYNC);
+                        dispatch.setAsyncStarted(false);
+                        return dispatch;
+                    })
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void export_writesOutsideAnyTransaction() throws IOException {
+        AtomicBoolean wroteInTransaction = new AtomicBoolean();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                check();
+                bytes.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                check();
+                bytes.write(b, off, len);
+            }
+
+            private void check() {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    wroteInTransaction.set(true);
+                }
+            }
+        };
+
+        long written = petExportService.exportAvailablePets(out);
+
+        assertThat(written).isGreaterThanOrEqualTo(available.size());
+        assertThat(bytes.toString().split("\n")).hasSize((int) written);
+        assertThat(wroteInTransaction).isFalse();
+    }
+
+    private void occupyExportThread(CountDownLatch release) throws InterruptedException {
+        CountDownLatch running = new CountDownLatch(1);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (true) {
+            try {
+                exportsExecutor.execute(() -> {
+                    running.countDown();
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                break;
+            } catch (TaskRejectedException stillBusy) {
+                // A previous test's export may still be returning its thread
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(20);
+            }
+        }
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private Pets savePet(String name, boolean onHold, boolean adopted) {
+        Pets pet = Pets.builder()
+                .name(name).species("Dog").breed("Poodle")
+                .age(2).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build();
+        pet.setOnHold(onHold);
+        pet.setIsAdopted(adopted);
+        return petsRepository.save(pet);
+    }
+
+    private User saveUser(UserType type) {
+        User u = new User();
+        u.setEmail("test-" + UUID.randomUUID() + "@export.test");
+        u.setPasswordHash("n/a");
+        u.setUserType(type);
+        return userRepository.save(u);
+    }
+}
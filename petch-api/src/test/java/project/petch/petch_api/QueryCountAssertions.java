@@ -0,0 +1,38 @@
+package project.petch.petch_api;
+
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement budgets for tests, read from the per-thread counts kept by QueryTrackingConfig.
+ *
+ * MockMvc runs the request on the test thread and QueryCountFilter resets the counts when the
+ * request starts, so right after {@code perform()} they cover exactly that request. Elsewhere,
+ * call {@link #resetQueryCount()} before the code under test.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void resetQueryCount() {
+        QueryCountHolder.clear();
+    }
+
+    public static void assertQueryCount(long expected) {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getTotal()).as("JDBC statements (%s)", describe(count)).isEqualTo(expected);
+    }
+
+    public static void assertSelectCount(long expected) {
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getSelect()).as("SELECT statements (%s)", describe(count)).isEqualTo(expected);
+    }
+
+    private static String describe(QueryCount count) {
+        return count.getSelect() + " select, " + count.getInsert() + " insert, " + count.getUpdate()
+                + " update, " + count.getDelete() + " delete, " + count.getOther() + " other";
+    }
+}
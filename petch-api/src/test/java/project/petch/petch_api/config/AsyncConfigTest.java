@@ -0,0 +1,85 @@
+package project.petch.petch_api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncConfigTest {
+
+    @Test
+    void virtualThreadMode_runsEachTaskOnItsOwnVirtualThread_withinThePoolBounds() throws Exception {
+        ExecutorProperties.Pool pool = new ExecutorProperties.Pool();
+        pool.setMaxPoolSize(1);
+        pool.setQueueCapacity(1);
+        pool.setRejectionPolicy(ExecutorProperties.RejectionPolicy.ABORT);
+        ExecutorProperties properties = new ExecutorProperties();
+        properties.getPools().put("exports", pool);
+        ExecutorMetricsRegistry registry = new ExecutorMetricsRegistry();
+        AsyncConfig config = new AsyncConfig(properties, registry);
+        ReflectionTestUtils.setField(config, "virtualThreadsEnabled", true);
+
+        AsyncTaskExecutor executor = config.exportsExecutor();
+        assertInstanceOf(VirtualThreadTaskExecutor.class, executor);
+        ExecutorMetrics metrics = registry.getAll().stream()
+                .filter(m -> m.getName().equals("exports")).findFirst().orElseThrow();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        AtomicBoolean allVirtual = new AtomicBoolean(true);
+        try {
+            executor.execute(() -> {
+                record(threads, allVirtual);
+                firstStarted.countDown();
+                awaitQuietly(release);
+            });
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+            executor.execute(() -> {
+                record(threads, allVirtual);
+                secondStarted.countDown();
+            });
+
+            // One runs, one waits for its slot, and a third is over the bound
+            assertFalse(secondStarted.await(200, TimeUnit.MILLISECONDS));
+            assertEquals(1, metrics.getQueueSize());
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+            assertEquals(1, metrics.getRejectedCount());
+
+            release.countDown();
+            assertTrue(secondStarted.await(5, TimeUnit.SECONDS));
+            assertEquals(2, threads.size());
+            assertTrue(allVirtual.get());
+        } finally {
+            release.countDown();
+            ((VirtualThreadTaskExecutor) executor).close();
+        }
+    }
+
+    private static void record(Set<Thread> threads, AtomicBoolean allVirtual) {
+        threads.add(Thread.currentThread());
+        if (!Thread.currentThread().isVirtual()) {
+            allVirtual.set(false);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
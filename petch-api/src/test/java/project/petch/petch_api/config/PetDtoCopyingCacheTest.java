@@ -0,0 +1,41 @@
+package project.petch.petch_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+import project.petch.petch_api.dto.pet.ImageDTO;
+import project.petch.petch_api.dto.pet.PetDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class PetDtoCopyingCacheTest {
+
+    @Test
+    void callersMutatingCachedDtos_doNotChangeTheCachedEntry() {
+        PetDtoCopyingCache cache = new PetDtoCopyingCache("petDetails", Caffeine.newBuilder().build(), true);
+        PetDTO original = PetDTO.builder().id(1L).name("Rex")
+                .images(List.of(ImageDTO.builder().id(10L).altText("front").build()))
+                .build();
+        cache.put(1L, Optional.of(original));
+        original.setName("changed after put");
+
+        @SuppressWarnings("unchecked")
+        PetDTO first = ((Optional<PetDTO>) cache.get(1L).get()).orElseThrow();
+        first.setDistanceKm(3.0);
+        first.getImages().get(0).setAltText("changed after get");
+
+        @SuppressWarnings("unchecked")
+        PetDTO second = ((Optional<PetDTO>) cache.get(1L).get()).orElseThrow();
+        assertNotSame(first, second);
+        assertEquals("Rex", second.getName());
+        assertEquals(null, second.getDistanceKm());
+        assertEquals("front", second.getImages().get(0).getAltText());
+
+        List<?> trending = cache.get("trending", () -> List.of(PetDTO.builder().id(2L).build()));
+        ((PetDTO) trending.get(0)).setName("changed");
+        assertEquals(null, ((PetDTO) ((List<?>) cache.get("trending").get()).get(0)).getName());
+    }
+}
@@ -0,0 +1,82 @@
+package project.petch.petch_api.models;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PreferenceVectorConverterTest {
+
+    private final PreferenceVectorConverter converter = new PreferenceVectorConverter();
+
+    @Test
+    void roundTrip_keepsWeightsAtFloatPrecisionAndEncodesDeterministically() {
+        Map<String, Double> species = new HashMap<>(Map.of("dog", 1.5, "cat", -0.2));
+        Map<String, Double> breeds = new HashMap<>(Map.of("labrador retriever", 0.25, "épagneul breton", 0.1));
+        byte[] encoded = converter.convertToDatabaseColumn(new PreferenceVector(species, breeds));
+
+        // version + 2 counts + 4 keys (2-byte length + UTF-8) + 4 floats
+        assertEquals(1 + 2 + 2 + (2 + 3) + (2 + 3) + (2 + 18) + (2 + 16) + 4 * 4, encoded.length);
+        PreferenceVector decoded = converter.convertToEntityAttribute(encoded);
+        assertEquals(Map.of("dog", 1.5, "cat", (double) -0.2f), decoded.getSpecies());
+        assertEquals(Map.of("labrador retriever", 0.25, "épagneul breton", (double) 0.1f), decoded.getBreeds());
+        assertArrayEquals(encoded, converter.convertToDatabaseColumn(decoded));
+    }
+
+    @Test
+    void supplementaryCharacterKeys_areWrittenAsStandardUtf8() {
+        // Modified UTF-8 would write the emoji as two 3-byte surrogates instead of 4 bytes
+        String key = "dog \uD83D\uDC36";
+        byte[] encoded = converter.convertToDatabaseColumn(
+                new PreferenceVector(new HashMap<>(Map.of(key, 1.0)), new HashMap<>()));
+
+        byte[] utf8 = key.getBytes(StandardCharsets.UTF_8);
+        assertEquals(8, utf8.length);
+        assertEquals(1 + 2 + 2 + utf8.length + 4 + 2, encoded.length);
+        assertEquals(utf8.length, ((encoded[3] & 0xFF) << 8) | (encoded[4] & 0xFF));
+        assertArrayEquals(utf8, Arrays.copyOfRange(encoded, 5, 5 + utf8.length));
+        assertEquals(Map.of(key, 1.0), converter.convertToEntityAttribute(encoded).getSpecies());
+    }
+
+    @Test
+    void decodesTheLayoutWrittenByTheMigrationScript() {
+        // What migrate-preference-weights-to-vector.sql builds: 0x01, then per map
+        // int2send(count) and per entry int2send(octet_length(key)) || convert_to(key, 'UTF8') || float4send(weight)
+        ByteBuffer column = ByteBuffer.allocate(64);
+        column.put((byte) 1);
+        column.putShort((short) 1);
+        putEntry(column, "cat \uD83D\uDC31", 0.5f);
+        column.putShort((short) 2);
+        putEntry(column, "beagle", -1.25f);
+        putEntry(column, "shiba inu \u67F4\u72AC", 2f);
+
+        PreferenceVector decoded = converter.convertToEntityAttribute(
+                Arrays.copyOf(column.array(), column.position()));
+
+        assertEquals(Map.of("cat \uD83D\uDC31", 0.5), decoded.getSpecies());
+        assertEquals(Map.of("beagle", -1.25, "shiba inu \u67F4\u72AC", 2.0), decoded.getBreeds());
+    }
+
+    @Test
+    void nullOrEmptyColumn_decodesToEmptyVector_andUnknownVersionIsRejected() {
+        assertTrue(converter.convertToEntityAttribute(null).getSpecies().isEmpty());
+        assertTrue(converter.convertToEntityAttribute(new byte[0]).getBreeds().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> converter.convertToEntityAttribute(new byte[] { 2, 0, 0, 0, 0 }));
+    }
+
+    private static void putEntry(ByteBuffer column, String key, float weight) {
+        byte[] utf8 = key.getBytes(StandardCharsets.UTF_8);
+        column.putShort((short) utf8.length);
+        column.put(utf8);
+        column.putFloat(weight);
+    }
+}
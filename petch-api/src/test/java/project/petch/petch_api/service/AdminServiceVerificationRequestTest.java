@@ -6,13 +6,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.models.VerificationStatus;
 import project.petch.petch_api.models.VendorProfile;
 import project.petch.petch_api.models.VendorVerificationRequest;
-import project.petch.petch_api.repositories.AdminAuditLogRepository;
 import project.petch.petch_api.repositories.PetInteractionRepository;
 import project.petch.petch_api.repositories.PetsRepository;
 import project.petch.petch_api.repositories.ReportRepository;
@@ -29,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +43,7 @@ class AdminServiceVerificationRequestTest {
     private PetsRepository petsRepository;
 
     @Mock
-    private AdminAuditLogRepository auditLogRepository;
+    private AdminAuditWriter auditWriter;
 
     @Mock
     private ReportRepository reportRepository;
@@ -62,6 +63,12 @@ class AdminServiceVerificationRequestTest {
     @Mock
     private VendorVerificationRequestRepository vendorVerificationRequestRepository;
 
+    @Mock
+    private PetCacheInvalidator petCacheInvalidator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminService adminService;
 
@@ -142,7 +149,7 @@ class AdminServiceVerificationRequestTest {
 
         verify(vendorVerificationRequestRepository).save(any(VendorVerificationRequest.class));
         verify(vendorProfileRepository).save(any(VendorProfile.class));
-        verify(auditLogRepository).save(any());
+        verify(auditWriter).append(argThat(entry -> "REVIEW_VENDOR_VERIFICATION".equals(entry.getAction())));
     }
 
     @Test
@@ -0,0 +1,129 @@
+package project.petch.petch_api.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.AdoptionDetails;
+import project.petch.petch_api.models.AdoptionFormSubmission;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.AdoptionDetailsRepository;
+import project.petch.petch_api.repositories.AdoptionFormSubmissionRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AdoptionFormSubmissionQueryCountTest {
+
+    @Autowired AdoptionFormSubmissionService submissionService;
+    @Autowired AdoptionFormSubmissionRepository submissionRepository;
+    @Autowired AdoptionDetailsRepository adoptionDetailsRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private User vendor;
+    private Pets pet;
+    private final List<User> adopters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        vendor = saveUser(UserType.VENDOR);
+        pet = petsRepository.save(Pets.builder()
+                .name("SubmissionQueryCountPet").species("Dog").breed("Beagle")
+                .age(2).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build());
+        adoptionDetailsRepository.save(AdoptionDetails.builder()
+                .pet(pet)
+                .isDirect(false)
+                .priceEstimate(150.0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        submissionRepository.deleteAllById(submissionRepository.findSummariesByPetId(pet.getId()).stream()
+                .map(AdoptionFormSubmissionDTO::getId).toList());
+        adoptionDetailsRepository.findByPetId(pet.getId()).ifPresent(adoptionDetailsRepository::delete);
+        petsRepository.deleteById(pet.getId());
+        adopters.forEach(adopter -> userRepository.deleteById(adopter.getId()));
+        userRepository.deleteById(vendor.getId());
+    }
+
+    @Test
+    void vendorListing_usesOneStatementRegardlessOfSubmissionCount() {
+        addSubmissions(3);
+        long statementsForThree = countStatements(() -> {
+            List<AdoptionFormSubmissionDTO> rows = submissionService.getSubmissionsForVendor(vendor);
+            assertThat(rows).hasSize(3);
+            assertThat(rows).allSatisfy(row -> {
+                assertThat(row.getPetName()).isEqualTo("SubmissionQueryCountPet");
+                assertThat(row.getPriceEstimate()).isEqualTo(150.0);
+                assertThat(row.getAdopterEmail()).endsWith("@submissions.test");
+            });
+        });
+
+        addSubmissions(7);
+        long statementsForTen = countStatements(() ->
+                assertThat(submissionService.getSubmissionsForVendor(vendor)).hasSize(10));
+
+        assertThat(statementsForThree).isEqualTo(1);
+        assertThat(statementsForTen).isEqualTo(statementsForThree);
+    }
+
+    @Test
+    void petListing_staysConstantAfterOwnershipCheck() {
+        addSubmissions(2);
+        long statementsForTwo = countStatements(() -> submissionService.getSubmissionsForVendorPet(pet.getId(), vendor));
+
+        addSubmissions(6);
+        long statementsForEight = countStatements(() -> submissionService.getSubmissionsForVendorPet(pet.getId(), vendor));
+
+        assertThat(statementsForEight).isEqualTo(statementsForTwo);
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void addSubmissions(int count) {
+        for (int i = 0; i < count; i++) {
+            User adopter = saveUser(UserType.ADOPTER);
+            adopters.add(adopter);
+            submissionRepository.save(AdoptionFormSubmission.builder()
+                    .pet(pet)
+                    .adopterUser(adopter)
+                    .pdfData(new byte[] {'%', 'P', 'D', 'F'})
+                    .fileName("application.pdf")
+                    .contentType("application/pdf")
+                    .build());
+        }
+    }
+
+    private User saveUser(UserType type) {
+        User user = new User();
+        user.setEmail("test-" + UUID.randomUUID() + "@submissions.test");
+        user.setPasswordHash("n/a");
+        user.setFirstName("Query");
+        user.setLastName("Count");
+        user.setUserType(type);
+        return userRepository.save(user);
+    }
+}
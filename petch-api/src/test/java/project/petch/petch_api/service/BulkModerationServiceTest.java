@@ -0,0 +1,199 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import project.petch.petch_api.dto.admin.AdminEvent;
+import project.petch.petch_api.dto.admin.AdminEventType;
+import project.petch.petch_api.dto.admin.BulkDeleteRequest;
+import project.petch.petch_api.dto.admin.BulkResolveReportsRequest;
+import project.petch.petch_api.dto.admin.ModerationJobDto;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.Images;
+import project.petch.petch_api.models.PetInteraction;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.Report;
+import project.petch.petch_api.models.ReportReason;
+import project.petch.petch_api.models.ReportStatus;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.BulkModerationRepository;
+import project.petch.petch_api.repositories.ImagesRepository;
+import project.petch.petch_api.repositories.PetInteractionRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.ReportRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@RecordApplicationEvents
+class BulkModerationServiceTest {
+
+    @Autowired BulkModerationRepository bulkModerationRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired UserRepository userRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired ImagesRepository imagesRepository;
+    @Autowired PetInteractionRepository petInteractionRepository;
+    @Autowired ReportRepository reportRepository;
+    @Autowired ImageService imageService;
+    @Autowired StatsCounterService statsCounterService;
+    @Autowired VendorInboxCounterService inboxCounterService;
+    @Autowired ReportAggregateService reportAggregateService;
+    @Autowired PetCacheInvalidator petCacheInvalidator;
+    @Autowired AdminAuditWriter auditWriter;
+    @Autowired ApplicationEventPublisher eventPublisher;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired ApplicationEvents events;
+
+    // Jobs are only queued here and run when the test says so
+    private final List<Runnable> queued = new ArrayList<>();
+    private User vendor;
+    private User reporter;
+    private final List<Pets> pets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("admin@bulk.test", null, List.of()));
+        vendor = saveUser(UserType.VENDOR);
+        reporter = saveUser(UserType.ADOPTER);
+        for (int i = 0; i < 3; i++) {
+            pets.add(petsRepository.save(Pets.builder()
+                    .name("BulkPet" + i).species("Dog").breed("Beagle")
+                    .age(2).atRisk(false).fosterable(false)
+                    .user(vendor)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        bulkModerationRepository.deletePets(pets.stream().map(Pets::getId).toList());
+        bulkModerationRepository.deleteUsers(List.of(vendor.getId(), reporter.getId()));
+    }
+
+    @Test
+    void deletePets_removesDependentRowsBeforeThePets_andReportsTheJobLifecycle() {
+        Pets pet = pets.get(0);
+        imagesRepository.save(Images.builder().fileName("bulk-test-" + UUID.randomUUID() + ".jpg")
+                .filePath("/tmp").pet(pet).build());
+        petInteractionRepository.save(PetInteraction.builder().user(reporter).pet(pet)
+                .interactionType(PetInteraction.InteractionType.LIKE).build());
+        reportRepository.save(Report.builder().reporter(reporter).pet(pet)
+                .reasons(Set.of(ReportReason.FAKE_LISTING)).build());
+
+        BulkModerationService service = service(bulkModerationRepository);
+        ModerationJobDto submitted = service.deletePets(new BulkDeleteRequest(null, vendor.getId()));
+
+        assertThat(submitted.state()).isEqualTo("QUEUED");
+        assertThat(submitted.total()).isEqualTo(3);
+        assertThat(service.getJob(submitted.id()).finishedAt()).isNull();
+
+        runQueued();
+
+        ModerationJobDto finished = service.getJob(submitted.id());
+        assertThat(finished.state()).isEqualTo("COMPLETED");
+        assertThat(finished.processed()).isEqualTo(3);
+        assertThat(finished.deleted()).isEqualTo(3);
+        assertThat(finished.error()).isNull();
+        assertThat(finished.finishedAt()).isNotNull();
+        assertThat(petsRepository.findByUserId(vendor.getId())).isEmpty();
+        assertThat(countWherePet("report_reasons r JOIN reports p ON p.id = r.report_id", pet)).isZero();
+        assertThat(countWherePet("pet_interactions p", pet)).isZero();
+        assertThat(countWherePet("images p", pet)).isZero();
+    }
+
+    @Test
+    void deletePets_failedChunk_keepsEarlierChunksAndReportsTheFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        BulkModerationRepository failingSecondChunk = new BulkModerationRepository(jdbcTemplate) {
+            @Override
+            public int deletePets(Collection<Long> petIds) {
+                if (calls.incrementAndGet() == 2) {
+                    throw new IllegalStateException("simulated failure");
+                }
+                return super.deletePets(petIds);
+            }
+        };
+        BulkModerationService service = service(failingSecondChunk);
+        ModerationJobDto submitted = service.deletePets(new BulkDeleteRequest(null, vendor.getId()));
+
+        runQueued();
+
+        ModerationJobDto failed = service.getJob(submitted.id());
+        assertThat(failed.state()).isEqualTo("FAILED");
+        assertThat(failed.error()).isEqualTo("simulated failure");
+        assertThat(failed.processed()).isEqualTo(1);
+        assertThat(failed.deleted()).isEqualTo(1);
+        assertThat(petsRepository.findByUserId(vendor.getId())).hasSize(2);
+        assertThatThrownBy(() -> service.getJob("unknown")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void resolveReports_publishesOneReportResolvedEventPerReport() {
+        List<Long> reportIds = pets.stream()
+                .map(pet -> reportRepository.save(Report.builder().reporter(reporter).pet(pet)
+                        .reasons(Set.of(ReportReason.OTHER)).build()).getId())
+                .toList();
+
+        int updated = service(bulkModerationRepository).resolveReports(
+                new BulkResolveReportsRequest(Set.copyOf(reportIds), "PARDONED", "bulk"));
+
+        assertThat(updated).isEqualTo(3);
+        List<AdminEvent> resolved = events.stream(AdminEvent.class)
+                .filter(event -> event.type() == AdminEventType.REPORT_RESOLVED)
+                .toList();
+        assertThat(resolved).extracting(AdminEvent::targetId).containsExactlyInAnyOrderElementsOf(reportIds);
+        assertThat(resolved).allSatisfy(event -> {
+            assertThat(event.details()).containsEntry("previousStatus", ReportStatus.PENDING);
+            assertThat(event.details()).containsEntry("status", ReportStatus.PARDONED);
+        });
+    }
+
+    private BulkModerationService service(BulkModerationRepository repository) {
+        return new BulkModerationService(repository, userRepository, imageService, statsCounterService,
+                inboxCounterService, reportAggregateService, petCacheInvalidator, auditWriter, eventPublisher,
+                transactionManager, queued::add, 1);
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = List.copyOf(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private int countWherePet(String from, Pets pet) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + from + " WHERE p.pet_id = ?", Integer.class, pet.getId());
+        return count == null ? 0 : count;
+    }
+
+    private User saveUser(UserType type) {
+        User user = new User();
+        user.setEmail("test-" + UUID.randomUUID() + "@bulk.test");
+        user.setPasswordHash("n/a");
+        user.setFirstName("Bulk");
+        user.setLastName("Moderation");
+        user.setUserType(type);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,123 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.exception.PetAlreadyHeldException;
+import project.petch.petch_api.models.PetHold;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.PetHoldRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PetHoldConcurrencyTest {
+
+    private static final int CONTENDERS = 32;
+    // pet_holds has no foreign key to appointments, so synthetic appointment ids are enough here
+    private static final long FIRST_APPOINTMENT_ID = 9_000_000L;
+
+    @Autowired PetHoldService petHoldService;
+    @Autowired PetHoldRepository petHoldRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User vendor;
+    private Pets pet;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        vendor = new User();
+        vendor.setEmail("test-" + UUID.randomUUID() + "@holds.test");
+        vendor.setPasswordHash("n/a");
+        vendor.setFirstName("Hold");
+        vendor.setLastName("Stress");
+        vendor.setUserType(UserType.VENDOR);
+        vendor = userRepository.save(vendor);
+        pet = petsRepository.save(Pets.builder()
+                .name("HoldStressPet").species("Cat").breed("Tabby")
+                .age(3).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        petHoldRepository.deleteById(pet.getId());
+        petsRepository.deleteById(pet.getId());
+        userRepository.deleteById(vendor.getId());
+    }
+
+    @Test
+    void concurrentBookings_exactlyOneAcquiresTheHold() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(CONTENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            long appointmentId = FIRST_APPOINTMENT_ID + i;
+            attempts.add(pool.submit(() -> {
+                start.await();
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            petHoldService.acquire(pet.getId(), appointmentId, vendor.getId()));
+                    return true;
+                } catch (PetAlreadyHeldException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int winners = 0;
+        for (Future<Boolean> attempt : attempts) {
+            if (attempt.get(30, TimeUnit.SECONDS)) {
+                winners++;
+            }
+        }
+        pool.shutdown();
+
+        assertThat(winners).isEqualTo(1);
+        PetHold hold = petHoldRepository.findById(pet.getId()).orElseThrow();
+        assertThat(hold.getAppointmentId()).isBetween(FIRST_APPOINTMENT_ID, FIRST_APPOINTMENT_ID + CONTENDERS - 1);
+        assertThat(petsRepository.findById(pet.getId()).orElseThrow().getOnHold()).isTrue();
+    }
+
+    @Test
+    void staleRelease_doesNotFreePetHeldByAnotherAppointment() {
+        long first = FIRST_APPOINTMENT_ID;
+        long second = FIRST_APPOINTMENT_ID + 1;
+        transactionTemplate.executeWithoutResult(status -> petHoldService.acquire(pet.getId(), first, vendor.getId()));
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                petHoldService.acquire(pet.getId(), second, vendor.getId())))
+                .isInstanceOf(PetAlreadyHeldException.class);
+
+        transactionTemplate.executeWithoutResult(status -> petHoldService.release(pet.getId(), first));
+        transactionTemplate.executeWithoutResult(status -> petHoldService.acquire(pet.getId(), second, vendor.getId()));
+
+        // Releasing the first appointment again must not touch the second one's hold
+        transactionTemplate.executeWithoutResult(status -> petHoldService.release(pet.getId(), first));
+        assertThat(petHoldRepository.findById(pet.getId()).orElseThrow().getAppointmentId()).isEqualTo(second);
+        assertThat(petsRepository.findById(pet.getId()).orElseThrow().getOnHold()).isTrue();
+    }
+}
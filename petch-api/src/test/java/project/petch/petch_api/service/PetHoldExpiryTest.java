@@ -0,0 +1,139 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.AdoptionAppointment;
+import project.petch.petch_api.models.AdoptionAppointment.AppointmentStatus;
+import project.petch.petch_api.models.AdoptionFormSubmission;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.AdoptionAppointmentRepository;
+import project.petch.petch_api.repositories.AdoptionFormSubmissionRepository;
+import project.petch.petch_api.repositories.BulkModerationRepository;
+import project.petch.petch_api.repositories.PetHoldRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+// Pending holds expire after one second; the wheel ticks every 100ms
+@SpringBootTest(properties = {
+        "app.holds.pending-ttl=PT1S",
+        "app.holds.tick-ms=100",
+        "app.archive.dir=target/test-archive"
+})
+class PetHoldExpiryTest {
+
+    @MockitoBean EmailService emailService;
+
+    @Autowired AdoptionAppointmentService appointmentService;
+    @Autowired AdoptionAppointmentRepository appointmentRepository;
+    @Autowired AdoptionFormSubmissionRepository submissionRepository;
+    @Autowired PetHoldRepository petHoldRepository;
+    @Autowired BulkModerationRepository bulkModerationRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private User vendor;
+    private User adopter;
+    private Pets pet;
+    private Long appointmentId;
+
+    @BeforeEach
+    void setUp() {
+        vendor = saveUser(UserType.VENDOR);
+        adopter = saveUser(UserType.ADOPTER);
+        pet = petsRepository.save(Pets.builder()
+                .name("ExpiringHoldPet").species("Dog").breed("Beagle")
+                .age(2).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build());
+        Long submissionId = submissionRepository.save(AdoptionFormSubmission.builder()
+                .pet(pet)
+                .adopterUser(adopter)
+                .vendorUserId(vendor.getId())
+                .pdfData(new byte[] {'%', 'P', 'D', 'F'})
+                .fileName("application.pdf")
+                .contentType("application/pdf")
+                .build()).getId();
+        appointmentId = appointmentService.createAppointment(submissionId, "PICKUP", "Shelter",
+                LocalDate.now().plusDays(3).toString(), "10:00,14:00", "IN_PERSON", null, vendor).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM archived_adoption_form_submissions WHERE pet_id = ?", pet.getId());
+        bulkModerationRepository.deletePets(List.of(pet.getId()));
+        bulkModerationRepository.deleteUsers(List.of(vendor.getId(), adopter.getId()));
+    }
+
+    @Test
+    void unconfirmedAppointment_isMarkedExpired_relistsThePet_andEmailsBothParties() throws InterruptedException {
+        awaitHoldGone();
+
+        AdoptionAppointment appointment = appointmentRepository.findById(appointmentId).orElseThrow();
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.EXPIRED);
+        assertThat(onHold()).isFalse();
+        verify(emailService, timeout(5_000)).sendAppointmentExpiredEmail(eq(adopter.getEmail()), anyString(), eq(pet.getName()));
+        verify(emailService, timeout(5_000)).sendAppointmentExpiredEmail(eq(vendor.getEmail()), anyString(), eq(pet.getName()));
+
+        // No longer listed, and it cannot be confirmed now that the pet is back on the listings
+        assertThat(appointmentService.getAppointmentsForAdopter(adopter)).isEmpty();
+        assertThatThrownBy(() -> appointmentService.vendorConfirm(appointmentId, vendor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    void vendorConfirmedAppointment_keepsItsHoldPastTheTtl() throws InterruptedException {
+        appointmentService.vendorConfirm(appointmentId, vendor);
+        Thread.sleep(2_000);
+
+        AdoptionAppointment appointment = appointmentRepository.findById(appointmentId).orElseThrow();
+        assertThat(appointment.getStatus()).isEqualTo(AppointmentStatus.PENDING);
+        assertThat(appointment.getVendorConfirmed()).isTrue();
+        assertThat(petHoldRepository.findById(pet.getId()).orElseThrow().getExpiresAt()).isNull();
+        assertThat(onHold()).isTrue();
+        verify(emailService, never()).sendAppointmentExpiredEmail(anyString(), anyString(), anyString());
+    }
+
+    private void awaitHoldGone() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (petHoldRepository.existsById(pet.getId()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(petHoldRepository.existsById(pet.getId())).isFalse();
+    }
+
+    private boolean onHold() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT on_hold FROM pets WHERE id = ?", Boolean.class, pet.getId()));
+    }
+
+    private User saveUser(UserType type) {
+        User user = new User();
+        user.setEmail("test-" + UUID.randomUUID() + "@holds.test");
+        user.setPasswordHash("n/a");
+        user.setFirstName("Hold");
+        user.setLastName("Expiry");
+        user.setUserType(type);
+        return userRepository.save(user);
+    }
+}
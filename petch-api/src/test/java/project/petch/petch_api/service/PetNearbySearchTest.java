@@ -0,0 +1,93 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import project.petch.petch_api.dto.pet.PetDTO;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.BulkModerationRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+import project.petch.petch_api.util.GeoPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Batches of two hits, and the bounding-box query so the search sees the pets as soon as they are saved
+@SpringBootTest(properties = {
+        "app.geo.index-enabled=false",
+        "app.geo.max-results=2"
+})
+class PetNearbySearchTest {
+
+    // Far from anything else the tests create
+    private static final GeoPoint CENTER = new GeoPoint(-54.80, -68.30);
+
+    @Autowired PetService petService;
+    @Autowired PetsRepository petsRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired BulkModerationRepository bulkModerationRepository;
+
+    private User vendor;
+    private final List<Pets> dogs = new ArrayList<>();
+    private final List<Long> petIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        vendor = new User();
+        vendor.setEmail("test-" + UUID.randomUUID() + "@nearby.test");
+        vendor.setPasswordHash("n/a");
+        vendor.setUserType(UserType.VENDOR);
+        vendor = userRepository.save(vendor);
+        // Nearest first: two cats, then three dogs, so every dog is past the first batch
+        savePet("Cat", 0.001);
+        savePet("Cat", 0.002);
+        dogs.add(savePet("Dog", 0.003));
+        dogs.add(savePet("Dog", 0.004));
+        dogs.add(savePet("Dog", 0.005));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkModerationRepository.deletePets(petIds);
+        bulkModerationRepository.deleteUsers(List.of(vendor.getId()));
+    }
+
+    @Test
+    void filteredNearbySearch_fillsPagesAndCountsMatchesBeyondTheFirstBatch() {
+        Page<PetDTO> first = search(PageRequest.of(0, 2));
+        Page<PetDTO> second = search(PageRequest.of(1, 2));
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).extracting(PetDTO::getId)
+                .containsExactly(dogs.get(0).getId(), dogs.get(1).getId());
+        assertThat(second.getContent()).extracting(PetDTO::getId).containsExactly(dogs.get(2).getId());
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    private Page<PetDTO> search(PageRequest page) {
+        return petService.getNearbyPetDTOs(CENTER, 5, null, "Dog", null, null, null, null, null, page);
+    }
+
+    private Pets savePet(String species, double latitudeOffset) {
+        Pets pet = Pets.builder()
+                .name("Nearby" + species).species(species).breed("Mixed")
+                .age(2).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build();
+        pet.setLatitude(CENTER.latitude() + latitudeOffset);
+        pet.setLongitude(CENTER.longitude());
+        pet = petsRepository.save(pet);
+        petIds.add(pet.getId());
+        return pet;
+    }
+}
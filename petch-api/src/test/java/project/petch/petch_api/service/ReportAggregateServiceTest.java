@@ -0,0 +1,152 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.petch.petch_api.dto.report.ReportRequest;
+import project.petch.petch_api.dto.report.ResolveReportRequest;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.BulkModerationRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "app.reports.auto-hold-threshold=2")
+class ReportAggregateServiceTest {
+
+    @Autowired ReportService reportService;
+    @Autowired ReportAggregateService reportAggregateService;
+    @Autowired BulkModerationRepository bulkModerationRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private User vendor;
+    private final List<User> reporters = new ArrayList<>();
+    private Pets pet;
+
+    @BeforeEach
+    void setUp() {
+        vendor = saveUser(UserType.VENDOR);
+        for (int i = 0; i < 2; i++) {
+            reporters.add(saveUser(UserType.ADOPTER));
+        }
+        pet = petsRepository.save(Pets.builder()
+                .name("ReportedPet").species("Dog").breed("Husky")
+                .age(5).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkModerationRepository.deletePets(List.of(pet.getId()));
+        List<Long> userIds = new ArrayList<>(reporters.stream().map(User::getId).toList());
+        userIds.add(vendor.getId());
+        bulkModerationRepository.deleteUsers(userIds);
+    }
+
+    @Test
+    void reachingTheThreshold_autoHoldsThePet_andRepeatReportsAreRejected() {
+        report(reporters.get(0), "FAKE_LISTING");
+        assertThat(aggregate()).containsEntry("pending_count", 1L).containsEntry("held", false);
+        assertThat(onHold()).isFalse();
+
+        report(reporters.get(1), "SCAM_OR_FRAUD");
+        assertThat(aggregate()).containsEntry("report_count", 2L).containsEntry("pending_count", 2L)
+                .containsEntry("held", true);
+        assertThat(onHold()).isTrue();
+        assertThat(reasonCount("FAKE_LISTING")).isEqualTo(1);
+
+        assertThatThrownBy(() -> report(reporters.get(0), "OTHER"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already reported");
+        assertThat(aggregate()).containsEntry("report_count", 2L);
+    }
+
+    @Test
+    void resolvingAndReopening_adjustsPendingAndTheHold() {
+        Long first = report(reporters.get(0), "FAKE_LISTING");
+        Long second = report(reporters.get(1), "FAKE_LISTING");
+        assertThat(onHold()).isTrue();
+
+        reportService.resolveReport(first, new ResolveReportRequest("PARDONED", null));
+        assertThat(aggregate()).containsEntry("pending_count", 1L).containsEntry("held", false);
+        assertThat(onHold()).isFalse();
+
+        // Resolved -> resolved leaves the pending count alone
+        reportService.resolveReport(first, new ResolveReportRequest("REVIEWED", null));
+        assertThat(aggregate()).containsEntry("pending_count", 1L);
+
+        reportService.resolveReport(first, new ResolveReportRequest("PENDING", null));
+        assertThat(aggregate()).containsEntry("pending_count", 2L).containsEntry("held", true);
+        assertThat(onHold()).isTrue();
+
+        reportService.resolveReport(first, new ResolveReportRequest("BANNED", null));
+        reportService.resolveReport(second, new ResolveReportRequest("REVIEWED", null));
+        assertThat(aggregate()).containsEntry("report_count", 2L).containsEntry("pending_count", 0L)
+                .containsEntry("held", false);
+    }
+
+    @Test
+    void reconcile_rebuildsCountsAndReappliesTheThreshold() {
+        report(reporters.get(0), "FAKE_LISTING");
+        report(reporters.get(1), "OTHER");
+        jdbcTemplate.update("UPDATE pet_report_aggregates SET report_count = 0, pending_count = 0, auto_held_at = NULL "
+                + "WHERE pet_id = ?", pet.getId());
+        jdbcTemplate.update("UPDATE pet_report_reason_counts SET report_count = 9 WHERE pet_id = ?", pet.getId());
+        jdbcTemplate.update("UPDATE pets SET on_hold = false WHERE id = ?", pet.getId());
+
+        reportAggregateService.reconcile();
+
+        assertThat(aggregate()).containsEntry("report_count", 2L).containsEntry("pending_count", 2L)
+                .containsEntry("held", true);
+        assertThat(onHold()).isTrue();
+        assertThat(reasonCount("FAKE_LISTING")).isEqualTo(1);
+        assertThat(reasonCount("OTHER")).isEqualTo(1);
+    }
+
+    private Long report(User reporter, String reason) {
+        return reportService.createReport(reporter, new ReportRequest(pet.getId(), Set.of(reason), null)).getId();
+    }
+
+    private Map<String, Object> aggregate() {
+        return jdbcTemplate.queryForMap("SELECT report_count, pending_count, auto_held_at IS NOT NULL AS held "
+                + "FROM pet_report_aggregates WHERE pet_id = ?", pet.getId());
+    }
+
+    private boolean onHold() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT on_hold FROM pets WHERE id = ?", Boolean.class, pet.getId()));
+    }
+
+    private int reasonCount(String reason) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT report_count FROM pet_report_reason_counts WHERE pet_id = ? AND reason = ?",
+                Integer.class, pet.getId(), reason);
+        return count == null ? 0 : count;
+    }
+
+    private User saveUser(UserType type) {
+        User user = new User();
+        user.setEmail("test-" + UUID.randomUUID() + "@reports.test");
+        user.setPasswordHash("n/a");
+        user.setFirstName("Report");
+        user.setLastName("Test");
+        user.setUserType(type);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,74 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.Test;
+import project.petch.petch_api.dto.admin.SecurityEvent;
+import project.petch.petch_api.dto.admin.SecurityEventType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not started, so events are written on the calling thread and the assertions need no waiting
+class SecurityEventLoggerTest {
+
+    private final SecurityEventLogger logger = new SecurityEventLogger(64, 60_000, 100, 50);
+
+    @Test
+    void repeatsFromOneIp_areSummarizedWhenTheWindowCloses() {
+        for (int i = 0; i < 5; i++) {
+            logger.logRateLimitExceeded("10.0.0.1", "/api/auth/login");
+        }
+        logger.logRateLimitExceeded("10.0.0.2", "/api/auth/login");
+
+        assertThat(logger.getRecent(SecurityEventType.RATE_LIMIT_EXCEEDED, null, 10)).hasSize(2);
+        assertThat(logger.getRecordedCount(SecurityEventType.RATE_LIMIT_EXCEEDED)).isEqualTo(6);
+        assertThat(logger.getSuppressedCount()).isEqualTo(4);
+
+        logger.closeWindow();
+        List<SecurityEvent> fromFirstIp = logger.getRecent(null, "10.0.0.1", 10);
+        assertThat(fromFirstIp).hasSize(2);
+        assertThat(fromFirstIp.get(0).summary()).isTrue();
+        assertThat(fromFirstIp.get(0).count()).isEqualTo(4);
+        assertThat(logger.getRecent(null, "10.0.0.2", 10)).hasSize(1);
+    }
+
+    @Test
+    void quietIp_isLoggedImmediatelyAfterItsWindowExpires() {
+        logger.logFailedLogin("10.0.0.3", "someone@example.com");
+        logger.logFailedLogin("10.0.0.3", "someone@example.com");
+        logger.closeWindow();
+        logger.closeWindow();
+
+        logger.logFailedLogin("10.0.0.3", "someone@example.com");
+
+        List<SecurityEvent> events = logger.getRecent(SecurityEventType.FAILED_LOGIN, "10.0.0.3", 10);
+        assertThat(events).extracting(SecurityEvent::summary).containsExactly(false, true, false);
+    }
+
+    @Test
+    void summaries_nameTheDistinctUsersAndTargetsBehindTheRepeats() {
+        logger.logFailedLogin("10.0.0.5", "first@example.com");
+        logger.logFailedLogin("10.0.0.5", "second@example.com");
+        logger.logFailedLogin("10.0.0.5", "third@example.com");
+        logger.logFailedLogin("10.0.0.5", "second@example.com");
+        logger.logIdorAttempt("10.0.0.5", "7", "pet", 1L);
+        logger.logIdorAttempt("10.0.0.5", "7", "pet", 2L);
+        logger.closeWindow();
+
+        SecurityEvent logins = logger.getRecent(SecurityEventType.FAILED_LOGIN, "10.0.0.5", 1).get(0);
+        assertThat(logins.count()).isEqualTo(3);
+        assertThat(logins.details()).contains("users: ").contains("second@example.com", "third@example.com")
+                .doesNotContain("first@example.com");
+        SecurityEvent idor = logger.getRecent(SecurityEventType.IDOR_ATTEMPT, "10.0.0.5", 1).get(0);
+        assertThat(idor.details()).endsWith("targets: 7 on pet 2");
+    }
+
+    @Test
+    void otherEventTypes_areAggregatedSeparately() {
+        logger.logIdorAttempt("10.0.0.4", "7", "pet", 1L);
+        logger.logRateLimitExceeded("10.0.0.4", "/api/auth/login");
+
+        assertThat(logger.getRecent(null, "10.0.0.4", 10)).hasSize(2);
+        assertThat(logger.getSuppressedCount()).isZero();
+    }
+}
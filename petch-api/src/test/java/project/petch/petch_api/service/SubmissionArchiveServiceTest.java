@@ -0,0 +1,144 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.AdoptionFormSubmission;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.AdoptionFormSubmissionRepository;
+import project.petch.petch_api.repositories.BulkModerationRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "app.archive.dir=target/test-archive")
+class SubmissionArchiveServiceTest {
+
+    private static final byte[] PDF = {'%', 'P', 'D', 'F', '-', '1', '.', '7'};
+
+    @Autowired SubmissionArchiveService archiveService;
+    @Autowired AdoptionFormSubmissionRepository submissionRepository;
+    @Autowired BulkModerationRepository bulkModerationRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private SubmissionArchiveService target;
+    private User vendor;
+    private User adopter;
+    private Pets pet;
+    private Long submissionId;
+
+    @BeforeEach
+    void setUp() {
+        // Exports are started by hand so the test sees the archived row before its PDF is moved out
+        target = AopTestUtils.getTargetObject(archiveService);
+        ReflectionTestUtils.setField(target, "exportEnabled", false);
+        vendor = saveUser(UserType.VENDOR);
+        adopter = saveUser(UserType.ADOPTER);
+        pet = petsRepository.save(Pets.builder()
+                .name("ArchiveTestPet").species("Dog").breed("Collie")
+                .age(4).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build());
+        submissionId = submissionRepository.save(AdoptionFormSubmission.builder()
+                .pet(pet)
+                .adopterUser(adopter)
+                .pdfData(PDF)
+                .fileName("application.pdf")
+                .contentType("application/pdf")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(target, "exportEnabled", true);
+        jdbcTemplate.update("DELETE FROM archived_adoption_form_submissions WHERE id = ?", submissionId);
+        bulkModerationRepository.deletePets(List.of(pet.getId()));
+        bulkModerationRepository.deleteUsers(List.of(vendor.getId(), adopter.getId()));
+    }
+
+    @Test
+    void archivedRows_surviveDeletionOfThePetAndUsers() {
+        archive();
+
+        bulkModerationRepository.deletePets(List.of(pet.getId()));
+        bulkModerationRepository.deleteUsers(List.of(vendor.getId(), adopter.getId()));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT pet_id, adopter_user_id, reason FROM archived_adoption_form_submissions WHERE id = ?",
+                submissionId);
+        assertThat(row.get("pet_id")).isEqualTo(pet.getId());
+        assertThat(row.get("adopter_user_id")).isEqualTo(adopter.getId());
+        assertThat(row.get("reason")).isEqualTo(SubmissionArchiveService.REASON_APPOINTMENT_CREATED);
+        assertThat(petsRepository.existsById(pet.getId())).isFalse();
+    }
+
+    @Test
+    void export_writesThePdfAndUnlinksTheLargeObject() throws Exception {
+        archive();
+        Long oid = jdbcTemplate.queryForObject(
+                "SELECT pdf_data FROM archived_adoption_form_submissions WHERE id = ?", Long.class, submissionId);
+        assertThat(largeObjectExists(oid)).isTrue();
+
+        ReflectionTestUtils.setField(target, "exportEnabled", true);
+        archiveService.sweep();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (exportPath() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        String exportPath = exportPath();
+        assertThat(exportPath).isEqualTo(pet.getId() + "/" + submissionId + ".pdf");
+        assertThat(Files.readAllBytes(Path.of("target/test-archive").resolve(exportPath))).isEqualTo(PDF);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT pdf_data IS NULL FROM archived_adoption_form_submissions WHERE id = ?",
+                Boolean.class, submissionId)).isTrue();
+        assertThat(largeObjectExists(oid)).isFalse();
+    }
+
+    private void archive() {
+        Integer removed = new TransactionTemplate(transactionManager).execute(status ->
+                archiveService.archiveSubmissionsForPet(pet.getId(), null,
+                        SubmissionArchiveService.REASON_APPOINTMENT_CREATED));
+        assertThat(removed).isEqualTo(1);
+        assertThat(submissionRepository.existsById(submissionId)).isFalse();
+    }
+
+    private String exportPath() {
+        return jdbcTemplate.queryForObject(
+                "SELECT export_path FROM archived_adoption_form_submissions WHERE id = ?", String.class, submissionId);
+    }
+
+    private boolean largeObjectExists(Long oid) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_largeobject_metadata WHERE oid = ?::oid)", Boolean.class, oid));
+    }
+
+    private User saveUser(UserType type) {
+        User user = new User();
+        user.setEmail("test-" + UUID.randomUUID() + "@archive.test");
+        user.setPasswordHash("n/a");
+        user.setFirstName("Archive");
+        user.setLastName("Test");
+        user.setUserType(type);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,211 @@
+package project.petch.petch_api.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.petch.petch_api.dto.pet.AdoptionFormSubmissionDTO;
+import project.petch.petch_api.dto.pet.SubmissionInboxPageDTO;
+import project.petch.petch_api.dto.user.UserType;
+import project.petch.petch_api.models.AdoptionFormSubmission;
+import project.petch.petch_api.models.AdoptionFormSubmission.SubmissionStatus;
+import project.petch.petch_api.models.Pets;
+import project.petch.petch_api.models.User;
+import project.petch.petch_api.repositories.AdoptionFormSubmissionRepository;
+import project.petch.petch_api.repositories.BulkModerationRepository;
+import project.petch.petch_api.repositories.PetsRepository;
+import project.petch.petch_api.repositories.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Vendor submission inbox: keyset pages, filters, status compare-and-set and the unread counter
+@SpringBootTest
+class VendorInboxTest {
+
+    private static final int SUBMISSIONS = 5;
+
+    @Autowired AdoptionFormSubmissionService submissionService;
+    @Autowired VendorInboxCounterService inboxCounterService;
+    @Autowired AdoptionFormSubmissionRepository submissionRepository;
+    @Autowired BulkModerationRepository bulkModerationRepository;
+    @Autowired PetsRepository petsRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    private User vendor;
+    private final List<User> adopters = new ArrayList<>();
+    private Pets firstPet;
+    private Pets secondPet;
+    // Newest first; submission i was created i days ago
+    private final List<Long> submissionIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        vendor = saveUser(UserType.VENDOR);
+        firstPet = savePet("InboxPetOne");
+        secondPet = savePet("InboxPetTwo");
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            User adopter = saveUser(UserType.ADOPTER);
+            adopters.add(adopter);
+            Long id = submissionRepository.save(AdoptionFormSubmission.builder()
+                    .pet(i % 2 == 0 ? firstPet : secondPet)
+                    .adopterUser(adopter)
+                    .vendorUserId(vendor.getId())
+                    .pdfData(new byte[] {'%', 'P', 'D', 'F'})
+                    .fileName("application.pdf")
+                    .contentType("application/pdf")
+                    .build()).getId();
+            jdbcTemplate.update("UPDATE adoption_form_submissions SET created_at = ? WHERE id = ?",
+                    LocalDateTime.now().minusDays(i), id);
+            submissionIds.add(id);
+        }
+        inboxCounterService.reconcile();
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkModerationRepository.deletePets(List.of(firstPet.getId(), secondPet.getId()));
+        List<Long> userIds = new ArrayList<>(adopters.stream().map(User::getId).toList());
+        userIds.add(vendor.getId());
+        bulkModerationRepository.deleteUsers(userIds);
+    }
+
+    @Test
+    void cursorPagination_walksEveryRowOnceNewestFirst() {
+        List<Long> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            SubmissionInboxPageDTO page = submissionService.getInbox(vendor, null, null, null, null, cursor, 2);
+            page.getItems().forEach(row -> seen.add(row.getId()));
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(submissionIds);
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThatThrownBy(() -> submissionService.getInbox(vendor, null, null, null, null, "not-a-cursor", 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void filters_combinePetStatusAndDateRange() {
+        submissionService.updateStatusForVendor(submissionIds.get(0), SubmissionStatus.READ, vendor);
+        submissionService.updateStatusForVendor(submissionIds.get(2), SubmissionStatus.SHORTLISTED, vendor);
+
+        assertThat(ids(firstPet.getId(), null, null, null))
+                .containsExactly(submissionIds.get(0), submissionIds.get(2), submissionIds.get(4));
+        assertThat(ids(null, SubmissionStatus.NEW, null, null))
+                .containsExactly(submissionIds.get(1), submissionIds.get(3), submissionIds.get(4));
+        assertThat(ids(firstPet.getId(), SubmissionStatus.NEW, null, null))
+                .containsExactly(submissionIds.get(4));
+        LocalDate today = LocalDate.now();
+        assertThat(ids(null, null, today.minusDays(2), today.minusDays(1)))
+                .containsExactly(submissionIds.get(1), submissionIds.get(2));
+        assertThat(ids(secondPet.getId(), SubmissionStatus.NEW, today.minusDays(1), today))
+                .containsExactly(submissionIds.get(1));
+    }
+
+    @Test
+    void updateStatus_isACompareAndSet() {
+        Long id = submissionIds.get(0);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        Integer first = tx.execute(status -> submissionRepository.updateStatus(id, SubmissionStatus.NEW, SubmissionStatus.READ));
+        Integer stale = tx.execute(status -> submissionRepository.updateStatus(id, SubmissionStatus.NEW, SubmissionStatus.SHORTLISTED));
+
+        assertThat(first).isEqualTo(1);
+        assertThat(stale).isZero();
+        assertThat(submissionRepository.findById(id).orElseThrow().getStatus()).isEqualTo(SubmissionStatus.READ);
+    }
+
+    @Test
+    void statusChanges_adjustUnreadCountOnce_evenWhenStale() {
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS);
+        AdoptionFormSubmission stale = submissionRepository.findById(submissionIds.get(0)).orElseThrow();
+
+        submissionService.updateStatusForVendor(stale.getId(), SubmissionStatus.READ, vendor);
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS - 1);
+
+        // The entity still says NEW: the compare-and-set fails and the counter is not touched again
+        assertThatThrownBy(() -> submissionService.changeStatus(stale, SubmissionStatus.SHORTLISTED))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS - 1);
+
+        submissionService.updateStatusForVendor(stale.getId(), SubmissionStatus.NEW, vendor);
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS);
+        assertThatThrownBy(() -> submissionService.updateStatusForVendor(stale.getId(), SubmissionStatus.ACCEPTED, vendor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void vendorStatusChanges_followTheAllowedTransitions() {
+        Long id = submissionIds.get(0);
+        submissionService.updateStatusForVendor(id, SubmissionStatus.REJECTED, vendor);
+
+        // A rejected submission can only be reopened as read
+        assertThatThrownBy(() -> submissionService.updateStatusForVendor(id, SubmissionStatus.SHORTLISTED, vendor))
+                .isInstanceOf(IllegalArgumentException.class);
+        submissionService.updateStatusForVendor(id, SubmissionStatus.READ, vendor);
+
+        // Accepted is final
+        AdoptionFormSubmission accepted = submissionRepository.findById(id).orElseThrow();
+        submissionService.changeStatus(accepted, SubmissionStatus.ACCEPTED);
+        assertThatThrownBy(() -> submissionService.updateStatusForVendor(id, SubmissionStatus.REJECTED, vendor))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(submissionRepository.findById(id).orElseThrow().getStatus()).isEqualTo(SubmissionStatus.ACCEPTED);
+    }
+
+    @Test
+    void counterDeltas_onlyCountNewSubmissions_andReconcileRepairsDrift() {
+        inboxCounterService.submissionAdded(vendor.getId(), SubmissionStatus.READ);
+        inboxCounterService.statusChanged(vendor.getId(), SubmissionStatus.READ, SubmissionStatus.SHORTLISTED);
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS);
+
+        inboxCounterService.submissionAdded(vendor.getId(), SubmissionStatus.NEW);
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS + 1);
+        inboxCounterService.submissionRemoved(vendor.getId(), SubmissionStatus.NEW);
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS);
+
+        jdbcTemplate.update("UPDATE vendor_inbox_counters SET unread_count = 42 WHERE vendor_user_id = ?", vendor.getId());
+        jdbcTemplate.update("DELETE FROM adoption_form_submissions WHERE id = ?", submissionIds.get(4));
+        inboxCounterService.reconcile();
+        assertThat(inboxCounterService.getUnreadCount(vendor.getId())).isEqualTo(SUBMISSIONS - 1);
+    }
+
+    private List<Long> ids(Long petId, SubmissionStatus status, LocalDate from, LocalDate to) {
+        return submissionService.getInbox(vendor, petId, status, from, to, null, 100).getItems().stream()
+                .map(AdoptionFormSubmissionDTO::getId)
+                .toList();
+    }
+
+    private Pets savePet(String name) {
+        return petsRepository.save(Pets.builder()
+                .name(name).species("Cat").breed("Persian")
+                .age(1).atRisk(false).fosterable(false)
+                .user(vendor)
+                .build());
+    }
+
+    private User saveUser(UserType type) {
+        User user = new User();
+        user.setEmail("test-" + UUID.randomUUID() + "@inbox.test");
+        user.setPasswordHash("n/a");
+        user.setFirstName("Inbox");
+        user.setLastName("Test");
+        user.setUserType(type);
+        return userRepository.save(user);
+    }
+}
@@ -6,6 +6,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import project.petch.petch_api.models.User;
 import project.petch.petch_api.models.VerificationRequestStatus;
 import project.petch.petch_api.models.VerificationStatus;
@@ -36,6 +37,9 @@ class VendorProfileServiceVerificationTest {
     @Mock
     private VendorVerificationRequestRepository vendorVerificationRequestRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private VendorProfileService vendorProfileService;
 
@@ -0,0 +1,53 @@
+package project.petch.petch_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GeoGridIndexTest {
+
+    @Test
+    void within_matchesLinearScanNearestFirst() {
+        Random random = new Random(7);
+        int n = 5_000;
+        long[] ids = new long[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+            latitudes[i] = 25 + 24 * random.nextDouble();
+            longitudes[i] = -124 + 58 * random.nextDouble();
+        }
+        GeoGridIndex index = GeoGridIndex.build(ids, latitudes, longitudes, 0.5);
+        GeoPoint reno = new GeoPoint(39.53, -119.81);
+
+        List<Long> expected = IntStream.range(0, n)
+                .filter(i -> reno.distanceKm(latitudes[i], longitudes[i]) <= 300)
+                .boxed()
+                .sorted(Comparator.comparingDouble(i -> reno.distanceKm(latitudes[i], longitudes[i])))
+                .map(i -> ids[i])
+                .toList();
+
+        List<Long> actual = index.within(reno, 300, n).stream().map(GeoGridIndex.Hit::id).toList();
+        assertEquals(expected, actual);
+        assertEquals(expected.subList(0, 10), index.within(reno, 300, 10).stream().map(GeoGridIndex.Hit::id).toList());
+    }
+
+    @Test
+    void within_findsPointsAcrossTheAntimeridian() {
+        GeoGridIndex index = GeoGridIndex.build(
+                new long[] { 1, 2, 3 },
+                new double[] { -17.7, -17.8, -17.7 },
+                new double[] { 179.9, -179.9, 170.0 },
+                0.5);
+
+        List<Long> hits = index.within(new GeoPoint(-17.75, 179.95), 50, 10).stream()
+                .map(GeoGridIndex.Hit::id).toList();
+        assertEquals(List.of(1L, 2L), hits);
+    }
+}
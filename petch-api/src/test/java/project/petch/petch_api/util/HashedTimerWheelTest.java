@@ -0,0 +1,70 @@
+package project.petch.petch_api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimerWheelTest {
+
+    @Test
+    void firesEachKeyOnceAfterItsDeadline_includingDeadlinesBeyondOneRevolution() {
+        AtomicLong now = new AtomicLong(1_000);
+        List<Long> fired = new ArrayList<>();
+        // 8 buckets of 10 ms: one revolution is 80 ms
+        HashedTimerWheel<Long> wheel = new HashedTimerWheel<>("test", 10, 8, fired::add, now::get);
+
+        wheel.schedule(1L, 1_025);
+        wheel.schedule(2L, 1_250); // three revolutions out
+        wheel.schedule(3L, 900);   // already due
+
+        now.set(1_010);
+        wheel.advance();
+        assertEquals(List.of(3L), fired);
+
+        now.set(1_029);
+        wheel.advance();
+        assertEquals(List.of(3L), fired);
+
+        now.set(1_030);
+        wheel.advance();
+        assertEquals(List.of(3L, 1L), fired);
+
+        now.set(1_249);
+        wheel.advance();
+        assertEquals(List.of(3L, 1L), fired);
+
+        now.set(1_260);
+        wheel.advance();
+        assertEquals(List.of(3L, 1L, 2L), fired);
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void cancelAndReschedule_replacePendingTimeout() {
+        AtomicLong now = new AtomicLong(0);
+        List<String> fired = new ArrayList<>();
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>("test", 10, 4, fired::add, now::get);
+
+        wheel.schedule("cancelled", 20);
+        wheel.schedule("moved", 20);
+        wheel.advance();
+        assertTrue(wheel.cancel("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        wheel.schedule("moved", 100);
+
+        now.set(50);
+        wheel.advance();
+        assertTrue(fired.isEmpty());
+        assertEquals(1, wheel.pending());
+
+        now.set(100);
+        wheel.advance();
+        assertEquals(List.of("moved"), fired);
+    }
+}
@@ -52,7 +52,8 @@ export async function loader({ request }: Route.LoaderArgs) {
             initialPets = await discoverRes.json();
         }
         if (likedRes.ok) {
-            initialLikedPets = await likedRes.json();
+            // Favorites come back as a Slice; the first page is plenty for the liked view
+            initialLikedPets = (await likedRes.json()).content || [];
         }
     } catch (error) {
         loadError = 'Failed to connect to the server. Please check your connection and try again.';
@@ -134,7 +135,7 @@ export async function action({ request }: Route.ActionArgs) {
                     }),
                 ]);
                 const pets = discoverRes.ok ? await discoverRes.json() : [];
-                const likedPets = likedRes.ok ? await likedRes.json() : [];
+                const likedPets = likedRes.ok ? (await likedRes.json()).content || [] : [];
                 return { success: true, action: 'reset', pets, likedPets };
             }
 
@@ -149,7 +150,7 @@ export async function action({ request }: Route.ActionArgs) {
                     }),
                 ]);
                 const pets = discoverRes.ok ? await discoverRes.json() : [];
-                const likedPets = likedRes.ok ? await likedRes.json() : [];
+                const likedPets = likedRes.ok ? (await likedRes.json()).content || [] : [];
                 return { success: true, action: 'reload', pets, likedPets };
             }
 
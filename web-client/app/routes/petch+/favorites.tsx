@@ -27,20 +27,25 @@ export async function loader({ request }: Route.LoaderArgs) {
         return redirect('/login');
     }
 
+    // The API returns favorites a page (Spring Slice) at a time, most recent first
+    const page = Math.max(0, Number(new URL(request.url).searchParams.get('page')) || 0);
     let favorites: Pet[] = [];
+    let hasMore = false;
 
     try {
-        const response = await fetch(`${API_BASE_URL}/api/pets/favorites`, {
+        const response = await fetch(`${API_BASE_URL}/api/pets/favorites?page=${page}`, {
             headers: { 'Authorization': `Bearer ${token}` },
         });
         if (response.ok) {
-            favorites = await response.json();
+            const data = await response.json();
+            favorites = data.content || [];
+            hasMore = data.last === false;
         }
     } catch (error) {
         // Silently handle — empty favorites
     }
 
-    return { user, favorites };
+    return { user, favorites, page, hasMore };
 }
 
 export async function action({ request }: Route.ActionArgs) {
@@ -62,11 +67,11 @@ export async function action({ request }: Route.ActionArgs) {
                 headers: { 'Authorization': `Bearer ${token}` },
             });
             if (!response.ok) {
-                return { error: 'Failed to unfavorite' };
+                return { error: 'Failed to unfavorite', petId: Number(petId) };
             }
             return { success: true, unfavoritedId: Number(petId) };
         } catch {
-            return { error: 'Failed to unfavorite' };
+            return { error: 'Failed to unfavorite', petId: Number(petId) };
         }
     }
 
@@ -81,30 +86,58 @@ function getPetImageUrl(pet: Pet): string {
 }
 
 export default function FavoritesPage() {
-    const { favorites: initialFavorites } = useLoaderData<typeof loader>();
+    const initial = useLoaderData<typeof loader>();
     const fetcher = useFetcher();
-    const [favorites, setFavorites] = useState<Pet[]>(initialFavorites);
+    const pageFetcher = useFetcher<typeof loader>();
+    const [loaded, setLoaded] = useState<Pet[]>(initial.favorites);
+    const [page, setPage] = useState(initial.page);
+    const [hasMore, setHasMore] = useState(initial.hasMore);
+    const [removedIds, setRemovedIds] = useState<Set<number>>(new Set());
     const [searchQuery, setSearchQuery] = useState('');
 
+    // Append the next page once it arrives. Revalidation after an unfavorite only refreshes the first
+    // page, so the pages already loaded are kept as they are
+    useEffect(() => {
+        if (pageFetcher.state !== 'idle' || !pageFetcher.data || !('favorites' in pageFetcher.data)) return;
+        const next = pageFetcher.data;
+        setLoaded(prev => {
+            const seen = new Set(prev.map(p => p.id));
+            return [...prev, ...next.favorites.filter(p => !seen.has(p.id))];
+        });
+        setPage(next.page);
+        setHasMore(next.hasMore);
+    }, [pageFetcher.state, pageFetcher.data]);
+
     // Handle server responses: rollback on error, confirm on success
     useEffect(() => {
         if (fetcher.state !== 'idle' || !fetcher.data) return;
-        const data = fetcher.data as { success?: boolean; error?: string; unfavoritedId?: number };
-        if (data.error) {
-            // Rollback: re-add the pet from the initial data
-            setFavorites(initialFavorites);
+        const data = fetcher.data as { success?: boolean; error?: string; petId?: number };
+        if (data.error && data.petId !== undefined) {
+            // Rollback: show the pet again
+            const petId = data.petId;
+            setRemovedIds(prev => {
+                const next = new Set(prev);
+                next.delete(petId);
+                return next;
+            });
         }
-    }, [fetcher.state, fetcher.data, initialFavorites]);
+    }, [fetcher.state, fetcher.data]);
 
     const handleUnfavorite = (petId: number) => {
         // Optimistic UI
-        setFavorites(prev => prev.filter(p => p.id !== petId));
+        setRemovedIds(prev => new Set(prev).add(petId));
         fetcher.submit(
             { intent: 'unfavorite', petId: String(petId) },
             { method: 'POST' }
         );
     };
 
+    const loadMore = () => {
+        pageFetcher.load(`/favorites?page=${page + 1}`);
+    };
+
+    const favorites = loaded.filter(pet => !removedIds.has(pet.id));
+
     const filteredFavorites = favorites.filter(pet =>
         searchQuery === '' ||
         pet.name.toLowerCase().includes(searchQuery.toLowerCase()) ||
@@ -125,7 +158,7 @@ export default function FavoritesPage() {
                             My Favorites
                         </h1>
                         <p className="text-muted-foreground mt-1 ml-[52px]">
-                            {favorites.length} {favorites.length === 1 ? 'pet' : 'pets'} you've saved
+                            {favorites.length}{hasMore ? '+' : ''} {favorites.length === 1 && !hasMore ? 'pet' : 'pets'} you've saved
                         </p>
                     </div>
                     <Button asChild variant="outline">
@@ -261,6 +294,19 @@ export default function FavoritesPage() {
                         ))}
                     </div>
                 )}
+
+                {/* Next page of favorites */}
+                {hasMore && (
+                    <div className="flex justify-center mt-8">
+                        <Button
+                            variant="outline"
+                            onClick={loadMore}
+                            disabled={pageFetcher.state !== 'idle'}
+                        >
+                            {pageFetcher.state !== 'idle' ? 'Loading...' : 'Load more favorites'}
+                        </Button>
+                    </div>
+                )}
             </div>
         </div>
     );